@@ -21,11 +21,14 @@ import java.util.Properties;
  */
 @Getter
 public class Portal {
+    private static final int DEFAULT_KAFKA_START_TIMEOUT_SECONDS = 60;
+
     private static volatile Portal instance;
 
     private String portalHomeDirPath;
     private String systemName;
     private String systemArch;
+    private int kafkaStartTimeoutSeconds;
 
     private Portal() {}
 
@@ -142,6 +145,8 @@ public class Portal {
 
         instance.systemName = properties.getProperty("system.name");
         instance.systemArch = properties.getProperty("system.arch");
+        instance.kafkaStartTimeoutSeconds = parsePositiveInt(properties.getProperty("kafka.start.timeout.seconds"),
+                DEFAULT_KAFKA_START_TIMEOUT_SECONDS);
     }
 
     private void initPortalDir() {
@@ -164,6 +169,19 @@ public class Portal {
         }
     }
 
+    private static int parsePositiveInt(String value, int defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+
+        try {
+            int result = Integer.parseInt(value.trim());
+            return result > 0 ? result : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
     private static String loadPortalHomeDir() {
         String classPath = Portal.class.getProtectionDomain().getCodeSource().getLocation().getPath();
         return new File(classPath).getParent();
@@ -17,7 +17,6 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
-import java.io.RandomAccessFile;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -40,6 +39,8 @@ import java.util.stream.Stream;
  * @since 2025/2/14
  */
 public class FileUtils {
+    private static final int READ_LINES_BATCH_SIZE = 1000;
+
     /**
      * Create directory
      *
@@ -144,32 +145,34 @@ public class FileUtils {
             throw new IllegalArgumentException("File path cannot be null or empty");
         }
 
-        try (RandomAccessFile file = new RandomAccessFile(filePath, "r")) {
-            StringBuilder resultBuilder = new StringBuilder();
-            long length = file.length();
-            if (length == 0) {
-                return resultBuilder.toString();
-            }
-
-            long pos = length - 1;
-
-            while (pos >= 0) {
-                file.seek(pos);
-                int b = file.read();
-                if (b == '\n' || b == '\r') {
-                    if (pos == length - 1) {
-                        length--;
-                        pos--;
-                        continue;
-                    }
-                    break;
-                }
-                resultBuilder.append((char) b);
-                pos--;
-            }
+        return ReverseLineReader.readLastLine(filePath);
+    }
 
-            return resultBuilder.reverse().toString();
+    /**
+     * Find the targets contained in the lines of the file, the file is read in batches of lines
+     *
+     * @param filePath file path
+     * @param targets target strings
+     * @return the targets contained in any line of the file
+     * @throws IOException if an I/O error occurs
+     */
+    public static Set<String> findTargetsInFileLines(String filePath, List<String> targets) throws IOException {
+        if (StringUtils.isNullOrBlank(filePath)) {
+            throw new IllegalArgumentException("File path cannot be null or empty");
         }
+
+        Set<String> foundTargets = new HashSet<>();
+        long offset = 0;
+        ReverseLineReader.LinesSince linesSince;
+        do {
+            linesSince = ReverseLineReader.readLinesSince(filePath, offset, READ_LINES_BATCH_SIZE);
+            linesSince.getLines().forEach(line -> addTargetsInLine(line, targets, foundTargets));
+            offset = linesSince.getNextOffset();
+        } while (linesSince.getLines().size() == READ_LINES_BATCH_SIZE && foundTargets.size() < targets.size());
+
+        // the last line may have no line terminator, which is not returned as a complete line
+        addTargetsInLine(ReverseLineReader.readLastLine(filePath), targets, foundTargets);
+        return foundTargets;
     }
 
     /**
@@ -439,4 +442,12 @@ public class FileUtils {
 
         Files.move(tempFile.toPath(), path, StandardCopyOption.REPLACE_EXISTING);
     }
+
+    private static void addTargetsInLine(String line, List<String> targets, Set<String> foundTargets) {
+        for (String target : targets) {
+            if (line.contains(target)) {
+                foundTargets.add(target);
+            }
+        }
+    }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Reverse line reader test
+ *
+ * @since 2025/11/14
+ */
+class ReverseLineReaderTest {
+    private static final int BLOCK_SIZE = 8192;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testReadLastLine() throws IOException {
+        Assertions.assertEquals("second", ReverseLineReader.readLastLine(write("first\nsecond\n")));
+    }
+
+    @Test
+    void testReadLastLine_noTrailingNewline() throws IOException {
+        Assertions.assertEquals("second", ReverseLineReader.readLastLine(write("first\nsecond")));
+    }
+
+    @Test
+    void testReadLastLine_singleLineWithoutNewline() throws IOException {
+        Assertions.assertEquals("only", ReverseLineReader.readLastLine(write("only")));
+    }
+
+    @Test
+    void testReadLastLine_emptyFile() throws IOException {
+        Assertions.assertEquals("", ReverseLineReader.readLastLine(write("")));
+    }
+
+    @Test
+    void testReadLastLine_onlyLineTerminators() throws IOException {
+        Assertions.assertEquals("", ReverseLineReader.readLastLine(write("\r\n\n\r\n")));
+    }
+
+    @Test
+    void testReadLastLine_crlf() throws IOException {
+        Assertions.assertEquals("second", ReverseLineReader.readLastLine(write("first\r\nsecond\r\n")));
+    }
+
+    @Test
+    void testReadLastLine_loneCarriageReturn() throws IOException {
+        Assertions.assertEquals("second", ReverseLineReader.readLastLine(write("first\rsecond\r")));
+    }
+
+    @Test
+    void testReadLastLine_multiByteAcrossBlockBoundary() throws IOException {
+        for (int padding = 0; padding < 3; padding++) {
+            String lastLine = "a".repeat(padding) + "中".repeat(BLOCK_SIZE / 3 + 1);
+            Assertions.assertEquals(lastLine, ReverseLineReader.readLastLine(write("first\n" + lastLine + "\n")));
+        }
+    }
+
+    @Test
+    void testReadLastLine_trailingTerminatorsAcrossBlockBoundary() throws IOException {
+        String content = "first\n最后一行" + "\n".repeat(BLOCK_SIZE + 1);
+        Assertions.assertEquals("最后一行", ReverseLineReader.readLastLine(write(content)));
+    }
+
+    @Test
+    void testReadLastLine_blankPath() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ReverseLineReader.readLastLine(" "));
+    }
+
+    @Test
+    void testReadLastLines() throws IOException {
+        Assertions.assertEquals(List.of("second", "", "last"),
+                ReverseLineReader.readLastLines(write("first\nsecond\n\nlast\n"), 3));
+    }
+
+    @Test
+    void testReadLastLines_fewerLinesThanRequested() throws IOException {
+        Assertions.assertEquals(List.of("first", "second"),
+                ReverseLineReader.readLastLines(write("first\nsecond"), 10));
+    }
+
+    @Test
+    void testReadLastLines_mixedLineTerminators() throws IOException {
+        Assertions.assertEquals(List.of("b", "c", "d"),
+                ReverseLineReader.readLastLines(write("a\r\nb\rc\r\nd\r\n"), 3));
+    }
+
+    @Test
+    void testReadLastLines_acrossBlockBoundary() throws IOException {
+        String longLine = "行".repeat(BLOCK_SIZE);
+        Assertions.assertEquals(List.of(longLine, "end"),
+                ReverseLineReader.readLastLines(write("first\r\n" + longLine + "\r\nend"), 2));
+    }
+
+    @Test
+    void testReadLastLines_emptyFileOrNoLineRequested() throws IOException {
+        Assertions.assertTrue(ReverseLineReader.readLastLines(write(""), 3).isEmpty());
+        Assertions.assertTrue(ReverseLineReader.readLastLines(write("first\n"), 0).isEmpty());
+    }
+
+    @Test
+    void testReadLinesSince() throws IOException {
+        String file = write("first\nsecond\npartial");
+        ReverseLineReader.LinesSince linesSince = ReverseLineReader.readLinesSince(file, 0, 10);
+        Assertions.assertEquals(List.of("first", "second"), linesSince.getLines());
+        Assertions.assertEquals("first\nsecond\n".length(), linesSince.getNextOffset());
+
+        Files.write(Path.of(file), " line\n第三行\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        linesSince = ReverseLineReader.readLinesSince(file, linesSince.getNextOffset(), 10);
+        Assertions.assertEquals(List.of("partial line", "第三行"), linesSince.getLines());
+        Assertions.assertEquals(Files.size(Path.of(file)), linesSince.getNextOffset());
+    }
+
+    @Test
+    void testReadLinesSince_maxLines() throws IOException {
+        String file = write("a\nb\nc\n");
+        ReverseLineReader.LinesSince linesSince = ReverseLineReader.readLinesSince(file, 0, 2);
+        Assertions.assertEquals(List.of("a", "b"), linesSince.getLines());
+        linesSince = ReverseLineReader.readLinesSince(file, linesSince.getNextOffset(), 2);
+        Assertions.assertEquals(List.of("c"), linesSince.getLines());
+    }
+
+    @Test
+    void testReadLinesSince_crlfSplitBetweenReads() throws IOException {
+        String file = write("first\r");
+        ReverseLineReader.LinesSince linesSince = ReverseLineReader.readLinesSince(file, 0, 10);
+        Assertions.assertEquals(List.of("first"), linesSince.getLines());
+
+        Files.write(Path.of(file), "\nsecond\r\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        linesSince = ReverseLineReader.readLinesSince(file, linesSince.getNextOffset(), 10);
+        Assertions.assertEquals(List.of("second"), linesSince.getLines());
+    }
+
+    @Test
+    void testReadLinesSince_offsetBeyondEndOfTruncatedFile() throws IOException {
+        String file = write("new\n");
+        Assertions.assertEquals(List.of("new"), ReverseLineReader.readLinesSince(file, 100, 10).getLines());
+    }
+
+    private String write(String content) throws IOException {
+        Path file = Files.createTempFile(tempDir, "reverse", ".log");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file.toString();
+    }
+}
@@ -19,8 +19,8 @@ import org.opengauss.migration.status.model.MilvusElasticsearchStatusEntry;
 import org.opengauss.migration.status.model.ObjectStatusEntry;
 import org.opengauss.migration.workspace.TaskWorkspaceManager;
 import org.opengauss.utils.FileUtils;
+import org.opengauss.migration.utils.HttpUtils;
 import org.opengauss.migration.utils.PortUtils;
-import org.opengauss.migration.utils.ProcessUtils;
 
 import java.io.FileWriter;
 import java.io.IOException;
@@ -247,19 +247,21 @@ public class MigrationCommandReceiver implements CommandReceiver {
     }
 
     private void sendRequest(TaskWorkspace taskWorkspace, String api) {
-        String curl = String.format(Locale.ROOT, "curl -X POST http://localhost:%d/task/%s",
-                readQuarkusPort(taskWorkspace), api);
+        String url = String.format(Locale.ROOT, "http://localhost:%d/task/%s", readQuarkusPort(taskWorkspace), api);
         try {
-            String curlResult = ProcessUtils.executeCommandWithResult(curl);
-            if (curlResult != null && curlResult.contains("SUCCESS")) {
+            HttpUtils.HttpResult result = HttpUtils.post(url);
+            if (result.isSuccess() && "SUCCESS".equals(result.getBody().trim())) {
                 LOGGER.info("Task {} {} command was sent successfully. For detail, please refer to the main "
                         + "migration process log.", taskId, api);
             } else {
                 LOGGER.error("Task {} {} command was sent failed, response: {}{}",
-                        taskId, api, System.lineSeparator(), curlResult);
+                        taskId, api, System.lineSeparator(), result);
             }
-        } catch (IOException | InterruptedException e) {
-            LOGGER.error("Execute curl command failed, command: {}", curl, e);
+        } catch (IOException e) {
+            LOGGER.error("Send request failed, url: {}", url, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.error("Send request is interrupted, url: {}", url, e);
         }
     }
 
@@ -13,6 +13,7 @@ import org.opengauss.migration.monitor.MigrationAliveMonitor;
 import org.opengauss.migration.process.ProcessMonitor;
 import org.opengauss.migration.progress.ProgressMonitor;
 import org.opengauss.migration.status.StatusMonitor;
+import org.opengauss.migration.utils.JdbcUtils;
 
 /**
  * Migration manager
@@ -62,9 +63,11 @@ public class MigrationManager {
      */
     public void start() {
         statusMonitor.setCurrentStatus(MigrationStatusEnum.MIGRATION_STARTING);
+        JdbcUtils.openConnectionPool();
         if (!migrationJob.preMigrationVerify()) {
             migrationStopIndicator.setStop();
             statusMonitor.setCurrentStatus(MigrationStatusEnum.PRE_MIGRATION_VERIFY_FAILED);
+            JdbcUtils.closeConnectionPool();
             QuarkusManager.stopQuarkus();
             return;
         }
@@ -152,6 +155,7 @@ public class MigrationManager {
         migrationStopIndicator.setStop();
         migrationJob.stopTask();
         stopMonitor();
+        JdbcUtils.closeConnectionPool();
     }
 
     private void stopMonitor() {
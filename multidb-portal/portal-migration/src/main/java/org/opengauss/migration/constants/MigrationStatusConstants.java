@@ -19,6 +19,11 @@ public class MigrationStatusConstants {
      */
     public static final String MIGRATION_STATUS_FILE_NAME = "migration-status.txt";
 
+    /**
+     * migration status journal file name
+     */
+    public static final String MIGRATION_STATUS_JOURNAL_FILE_NAME = "migration-status.journal";
+
     /**
      * full migration status file name: total.txt
      */
@@ -79,6 +84,11 @@ public class MigrationStatusConstants {
      */
     public static final String REVERSE_STATUS_FILE_NAME = "reverse.txt";
 
+    /**
+     * full migration table checkpoint file name
+     */
+    public static final String FULL_TABLE_CHECKPOINT_FILE_NAME = "full-table-checkpoint.json";
+
     /**
      * migration status in full phase list
      */
@@ -76,6 +76,12 @@ public class SqlConstants {
      */
     public static final String ALTER_TABLE_REPLICA_IDENTITY_FULL = "ALTER TABLE \"%s\".\"%s\" REPLICA IDENTITY full;";
 
+    /**
+     * Select the replica identity of the tables of a schema, support openGauss, PostgreSQL
+     */
+    public static final String SELECT_TABLE_REPLICA_IDENTITIES = "SELECT c.relname, c.relreplident FROM pg_class c "
+            + "JOIN pg_namespace n ON c.relnamespace = n.oid WHERE n.nspname = ? AND c.relkind IN ('r', 'p');";
+
     /**
      * Alter table replica identity default, support openGauss, PostgreSQL
      */
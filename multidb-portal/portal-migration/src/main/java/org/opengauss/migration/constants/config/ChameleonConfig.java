@@ -70,6 +70,12 @@ public class ChameleonConfig {
      */
     public static final String MYSQL_LIMIT_TABLES = "sources.mysql.limit_tables";
 
+    /**
+     * mysql keep existing schema, if true, init_replica reloads the tables into the existing schema instead of
+     * recreating the schema
+     */
+    public static final String MYSQL_KEEP_EXISTING_SCHEMA = "sources.mysql.keep_existing_schema";
+
     /**
      * mysql csv dir
      */
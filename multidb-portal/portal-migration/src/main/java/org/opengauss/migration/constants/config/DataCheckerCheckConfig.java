@@ -40,6 +40,16 @@ public class DataCheckerCheckConfig {
      */
     public static final String SERVER_PORT = "server.port";
 
+    /**
+     * whether the check rules are enabled
+     */
+    public static final String RULES_ENABLE = "rules.enable";
+
+    /**
+     * table check rules, a list of rules with the rule name and the table name pattern
+     */
+    public static final String RULES_TABLE = "rules.table";
+
     private DataCheckerCheckConfig() {
     }
 }
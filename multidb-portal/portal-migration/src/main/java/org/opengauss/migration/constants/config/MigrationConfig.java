@@ -30,6 +30,21 @@ public class MigrationConfig {
      */
     public static final String MIGRATION_CONCURRENT_THREADS = "migration.concurrent.threads";
 
+    /**
+     * Milvus and Elasticsearch migration engine, native or tool. Default value is native.
+     */
+    public static final String MIGRATION_ENGINE = "migration.engine";
+
+    /**
+     * Native migration engine, migrates the data in the portal process
+     */
+    public static final String MIGRATION_ENGINE_NATIVE = "native";
+
+    /**
+     * Tool migration engine, migrates each collection or index in a migration tool process
+     */
+    public static final String MIGRATION_ENGINE_TOOL = "tool";
+
     /**
      * MySQL server IP address
      */
@@ -30,6 +30,7 @@ public class ElasticsearchMigrationConfig extends AbstractMigrationConfig {
      * Migration control configuration
      */
     private String migrationConcurrentThreads;
+    private String migrationEngine;
 
     /**
      * Elasticsearch configuration
@@ -67,6 +68,8 @@ public class ElasticsearchMigrationConfig extends AbstractMigrationConfig {
         }
         ElasticsearchMigrationConfig dto = new ElasticsearchMigrationConfig();
         dto.migrationConcurrentThreads = getConfigFromMap(MigrationConfig.MIGRATION_CONCURRENT_THREADS, configMap, "4");
+        dto.migrationEngine = getConfigFromMap(MigrationConfig.MIGRATION_ENGINE, configMap,
+                MigrationConfig.MIGRATION_ENGINE_NATIVE);
         dto.setIsAdjustKernelParam(getConfigFromMap(MigrationConfig.IS_ADJUST_KERNEL_PARAM, configMap, "false"));
 
         readDatabasePassword(dto, configMap);
@@ -106,6 +109,15 @@ public class ElasticsearchMigrationConfig extends AbstractMigrationConfig {
                 || elasticsearchPassword == null || elasticsearchPassword.isEmpty();
     }
 
+    /**
+     * Check if the native migration engine is used
+     *
+     * @return true if the indexes are migrated in the portal process, false if by the migration tool
+     */
+    public boolean isNativeMigrationEngine() {
+        return MigrationConfig.MIGRATION_ENGINE_NATIVE.equals(migrationEngine);
+    }
+
     /**
      * Get Elasticsearch connect info
      *
@@ -169,6 +181,11 @@ public class ElasticsearchMigrationConfig extends AbstractMigrationConfig {
             throw new ConfigException("openGauss database IP or port is invalid");
         }
 
+        if (!MigrationConfig.MIGRATION_ENGINE_NATIVE.equals(migrationEngine)
+                && !MigrationConfig.MIGRATION_ENGINE_TOOL.equals(migrationEngine)) {
+            throw new ConfigException("The " + MigrationConfig.MIGRATION_ENGINE + " is not a valid value");
+        }
+
         if (hasDuplicateNames(elasticsearchIndexes)) {
             throw new ConfigException("Elasticsearch indexes contain duplicate names");
         }
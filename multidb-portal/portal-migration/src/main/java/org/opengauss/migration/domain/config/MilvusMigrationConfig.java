@@ -30,6 +30,7 @@ public class MilvusMigrationConfig extends AbstractMigrationConfig {
      * Migration control configuration
      */
     private String migrationConcurrentThreads;
+    private String migrationEngine;
 
     /**
      * Milvus configuration
@@ -68,6 +69,8 @@ public class MilvusMigrationConfig extends AbstractMigrationConfig {
         }
         MilvusMigrationConfig dto = new MilvusMigrationConfig();
         dto.migrationConcurrentThreads = getConfigFromMap(MigrationConfig.MIGRATION_CONCURRENT_THREADS, configMap, "4");
+        dto.migrationEngine = getConfigFromMap(MigrationConfig.MIGRATION_ENGINE, configMap,
+                MigrationConfig.MIGRATION_ENGINE_NATIVE);
         dto.setIsAdjustKernelParam(getConfigFromMap(MigrationConfig.IS_ADJUST_KERNEL_PARAM, configMap, "false"));
 
         readDatabasePassword(dto, configMap);
@@ -108,6 +111,15 @@ public class MilvusMigrationConfig extends AbstractMigrationConfig {
         return milvusUsername == null || milvusUsername.isEmpty() || milvusPassword == null || milvusPassword.isEmpty();
     }
 
+    /**
+     * Check if the native migration engine is used
+     *
+     * @return true if the collections are migrated in the portal process, false if by the migration tool
+     */
+    public boolean isNativeMigrationEngine() {
+        return MigrationConfig.MIGRATION_ENGINE_NATIVE.equals(migrationEngine);
+    }
+
     /**
      * Get Milvus connect info
      *
@@ -167,6 +179,11 @@ public class MilvusMigrationConfig extends AbstractMigrationConfig {
             throw new ConfigException("openGauss database IP or port is invalid");
         }
 
+        if (!MigrationConfig.MIGRATION_ENGINE_NATIVE.equals(migrationEngine)
+                && !MigrationConfig.MIGRATION_ENGINE_TOOL.equals(migrationEngine)) {
+            throw new ConfigException("The " + MigrationConfig.MIGRATION_ENGINE + " is not a valid value");
+        }
+
         if (hasDuplicateNames(milvusCollections)) {
             throw new ConfigException("Milvus collections contain duplicate names");
         }
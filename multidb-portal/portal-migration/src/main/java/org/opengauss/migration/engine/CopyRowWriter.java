@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.migration.engine;
+
+import org.opengauss.copy.CopyIn;
+import org.opengauss.copy.CopyManager;
+import org.opengauss.core.BaseConnection;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Copy row writer.
+ * Streams rows into an openGauss table through one COPY FROM STDIN operation in text format. The rows are
+ * buffered and sent to the server in large chunks, the rows are visible only after the copy is finished.
+ *
+ * @since 2025/11/12
+ */
+public class CopyRowWriter implements AutoCloseable {
+    private static final int FLUSH_THRESHOLD_CHARS = 4 * 1024 * 1024;
+    private static final String NULL_VALUE = "\\N";
+
+    private final CopyIn copyIn;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD_CHARS + 1024);
+    private long rowCount = 0L;
+    private boolean isFinished = false;
+
+    private CopyRowWriter(CopyIn copyIn) {
+        this.copyIn = copyIn;
+    }
+
+    /**
+     * Start a copy operation to the table
+     *
+     * @param connection openGauss connection
+     * @param tableName table name
+     * @param columnNames column names, in the same order as the values of each row
+     * @return copy row writer
+     * @throws SQLException if the copy operation can not be started
+     */
+    public static CopyRowWriter begin(Connection connection, String tableName, List<String> columnNames)
+            throws SQLException {
+        String copySql = String.format("COPY %s (%s) FROM STDIN", tableName, String.join(", ", columnNames));
+        CopyManager copyManager = new CopyManager(connection.unwrap(BaseConnection.class));
+        return new CopyRowWriter(copyManager.copyIn(copySql));
+    }
+
+    /**
+     * Write a row, the null values are written as SQL NULL
+     *
+     * @param values column values
+     * @throws SQLException if the rows can not be sent to the server
+     */
+    public void writeRow(List<String> values) throws SQLException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                buffer.append('\t');
+            }
+            appendValue(values.get(i));
+        }
+        buffer.append('\n');
+        rowCount++;
+
+        if (buffer.length() >= FLUSH_THRESHOLD_CHARS) {
+            flushBuffer();
+        }
+    }
+
+    /**
+     * Finish the copy operation
+     *
+     * @return the number of rows copied
+     * @throws SQLException if the copy operation fails
+     */
+    public long finish() throws SQLException {
+        flushBuffer();
+        isFinished = true;
+        copyIn.endCopy();
+        return rowCount;
+    }
+
+    /**
+     * Cancel the copy operation if it is not finished, none of the rows written are kept
+     *
+     * @throws SQLException if the copy operation can not be cancelled
+     */
+    @Override
+    public void close() throws SQLException {
+        if (!isFinished && copyIn.isActive()) {
+            isFinished = true;
+            copyIn.cancelCopy();
+        }
+    }
+
+    private void appendValue(String value) {
+        if (value == null) {
+            buffer.append(NULL_VALUE);
+            return;
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    buffer.append("\\\\");
+                    break;
+                case '\t':
+                    buffer.append("\\t");
+                    break;
+                case '\n':
+                    buffer.append("\\n");
+                    break;
+                case '\r':
+                    buffer.append("\\r");
+                    break;
+                default:
+                    buffer.append(c);
+            }
+        }
+    }
+
+    private void flushBuffer() throws SQLException {
+        if (buffer.length() == 0) {
+            return;
+        }
+
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+}
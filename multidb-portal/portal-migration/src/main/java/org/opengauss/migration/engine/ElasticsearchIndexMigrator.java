@@ -0,0 +1,467 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.migration.engine;
+
+import com.alibaba.fastjson2.JSON;
+import com.alibaba.fastjson2.JSONArray;
+import com.alibaba.fastjson2.JSONObject;
+import org.apache.http.util.EntityUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.RestClient;
+import org.opengauss.migration.domain.model.MigrationStopIndicator;
+import org.opengauss.migration.exceptions.MigrationException;
+import org.opengauss.migration.utils.ElasticsearchUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
+/**
+ * Elasticsearch index migrator.
+ * Migrates an Elasticsearch index to an openGauss DataVec table in the portal process. The index is read by one
+ * sliced search per primary shard in parallel, a point in time with search_after is used if the server supports
+ * it, otherwise a sliced scroll. The readers hand the converted batches to the caller thread through a bounded
+ * queue, so a slow COPY blocks the readers instead of buffering the index in memory. The rows are written by one
+ * COPY operation, so a failed or stopped migration leaves the table empty.
+ *
+ * @since 2025/11/13
+ */
+public class ElasticsearchIndexMigrator {
+    private static final Logger LOGGER = LogManager.getLogger(ElasticsearchIndexMigrator.class);
+    private static final int SEARCH_BATCH_SIZE = 5000;
+    private static final int MAX_SLICES = 4;
+    private static final int POINT_IN_TIME_MIN_MAJOR_VERSION = 8;
+    private static final String KEEP_ALIVE = "5m";
+    private static final int LOG_INTERVAL_ROWS = 100000;
+    private static final String DOC_ID_COLUMN = "doc_id";
+    private static final Pattern INVALID_NAME_CHARS = Pattern.compile("[^a-zA-Z0-9_]");
+    private static final Set<String> RESERVED_KEYWORDS = Set.of("select", "insert", "update", "delete", "drop",
+            "table", "from", "where", "group", "by", "having", "order", "limit", "join", "inner", "left", "right",
+            "full", "union", "all", "distinct", "as", "on", "and", "or", "not", "null", "true", "false", "case",
+            "when", "then", "else", "end", "exists", "like", "in", "between", "is", "references", "foreign",
+            "primary", "key", "unique", "check", "default", "constraint", "index", "varchar", "text", "int",
+            "bigint", "smallint", "boolean", "timestamp");
+
+    private final RestClient restClient;
+    private final Connection connection;
+    private final MigrationStopIndicator migrationStopIndicator;
+
+    public ElasticsearchIndexMigrator(RestClient restClient, Connection connection,
+                                      MigrationStopIndicator migrationStopIndicator) {
+        this.restClient = restClient;
+        this.connection = connection;
+        this.migrationStopIndicator = migrationStopIndicator;
+    }
+
+    /**
+     * Migrate the index to the table
+     *
+     * @param indexName Elasticsearch index name
+     * @param tableName openGauss table name
+     * @return the number of rows migrated
+     */
+    public long migrate(String indexName, String tableName) {
+        long startTime = System.currentTimeMillis();
+        LOGGER.info("Start to migrate Elasticsearch index '{}' to openGauss table '{}'", indexName, tableName);
+
+        try {
+            List<IndexField> fields = getIndexFields(indexName);
+            String table = sanitizeName(tableName);
+            createTable(table, fields);
+            long rowCount = copyDocuments(indexName, table, fields);
+            LOGGER.info("Elasticsearch index '{}' migration completed in {} ms, rows: {}", indexName,
+                    System.currentTimeMillis() - startTime, rowCount);
+            return rowCount;
+        } catch (IOException | SQLException e) {
+            throw new MigrationException("Failed to migrate Elasticsearch index " + indexName, e);
+        }
+    }
+
+    private List<IndexField> getIndexFields(String indexName) throws IOException {
+        JSONObject mappings = performRequest("GET", "/" + indexName + "/_mapping", null);
+        JSONObject properties = null;
+        for (Object indexMapping : mappings.values()) {
+            JSONObject indexMappings = ((JSONObject) indexMapping).getJSONObject("mappings");
+            properties = indexMappings != null ? indexMappings.getJSONObject("properties") : null;
+            break;
+        }
+
+        List<IndexField> fields = new ArrayList<>();
+        if (properties == null || properties.isEmpty()) {
+            LOGGER.warn("Cannot find the mapping properties of Elasticsearch index '{}'", indexName);
+            return fields;
+        }
+
+        Set<String> columnNames = new HashSet<>();
+        for (Map.Entry<String, Object> property : properties.entrySet()) {
+            String columnName = sanitizeName(property.getKey());
+            if (!columnNames.add(columnName)) {
+                LOGGER.warn("Elasticsearch field '{}' is ignored, the column name '{}' is already used",
+                        property.getKey(), columnName);
+                continue;
+            }
+            fields.add(new IndexField(property.getKey(), columnName, toOpenGaussType(property.getValue())));
+        }
+
+        String docIdColumn = DOC_ID_COLUMN;
+        while (columnNames.contains(docIdColumn)) {
+            docIdColumn += "_";
+        }
+        fields.add(0, new IndexField(null, docIdColumn, "VARCHAR PRIMARY KEY"));
+        return fields;
+    }
+
+    private void createTable(String tableName, List<IndexField> fields) throws SQLException {
+        List<String> columns = new ArrayList<>();
+        for (IndexField field : fields) {
+            columns.add(field.columnName + " " + field.columnType);
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + tableName);
+            statement.execute(String.format("CREATE TABLE %s (%s)", tableName, String.join(", ", columns)));
+        }
+    }
+
+    private long copyDocuments(String indexName, String tableName, List<IndexField> fields)
+            throws IOException, SQLException {
+        int sliceCount = getSliceCount(indexName);
+        String pointInTimeId = isPointInTimeSupported() ? openPointInTime(indexName) : null;
+        LOGGER.info("Read Elasticsearch index '{}' with {} slices by {}", indexName, sliceCount,
+                pointInTimeId != null ? "point in time" : "scroll");
+
+        BlockingQueue<List<List<String>>> batchQueue = new ArrayBlockingQueue<>(sliceCount);
+        AtomicReference<Exception> readError = new AtomicReference<>();
+        ExecutorService readerExecutor = Executors.newFixedThreadPool(sliceCount);
+        List<String> columnNames = new ArrayList<>();
+        for (IndexField field : fields) {
+            columnNames.add(field.columnName);
+        }
+
+        try (CopyRowWriter writer = CopyRowWriter.begin(connection, tableName, columnNames)) {
+            for (int i = 0; i < sliceCount; i++) {
+                SliceReader reader = new SliceReader(indexName, fields, i, sliceCount, pointInTimeId, batchQueue,
+                        readError);
+                readerExecutor.execute(reader::read);
+            }
+
+            long readCount = 0L;
+            int finishedSlices = 0;
+            while (finishedSlices < sliceCount) {
+                List<List<String>> batch = batchQueue.poll(1, TimeUnit.SECONDS);
+                checkStopped(indexName);
+                if (readError.get() != null) {
+                    throw new MigrationException("Failed to read Elasticsearch index " + indexName, readError.get());
+                }
+                if (batch == null) {
+                    continue;
+                }
+                if (batch.isEmpty()) {
+                    finishedSlices++;
+                    continue;
+                }
+
+                for (List<String> row : batch) {
+                    writer.writeRow(row);
+                }
+                long lastReadCount = readCount;
+                readCount += batch.size();
+                if (readCount / LOG_INTERVAL_ROWS > lastReadCount / LOG_INTERVAL_ROWS) {
+                    LOGGER.info("Elasticsearch index '{}' has read {} documents", indexName, readCount);
+                }
+            }
+            return writer.finish();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MigrationException("Migration is interrupted, index: " + indexName, e);
+        } finally {
+            readerExecutor.shutdownNow();
+            closePointInTime(pointInTimeId);
+        }
+    }
+
+    private int getSliceCount(String indexName) throws IOException {
+        JSONObject settings = performRequest("GET", "/" + indexName + "/_settings/index.number_of_shards", null);
+        int shardCount = 0;
+        for (Object indexSettings : settings.values()) {
+            shardCount += ((JSONObject) indexSettings).getJSONObject("settings").getJSONObject("index")
+                    .getIntValue("number_of_shards");
+        }
+        return Math.max(1, Math.min(MAX_SLICES, shardCount));
+    }
+
+    private boolean isPointInTimeSupported() {
+        try {
+            String version = ElasticsearchUtils.getElasticsearchVersion(restClient);
+            return Integer.parseInt(version.split("\\.")[0]) >= POINT_IN_TIME_MIN_MAJOR_VERSION;
+        } catch (IOException | NumberFormatException e) {
+            LOGGER.warn("Failed to get Elasticsearch version, use scroll to read the index, error: {}",
+                    e.getMessage());
+            return false;
+        }
+    }
+
+    private String openPointInTime(String indexName) throws IOException {
+        return performRequest("POST", "/" + indexName + "/_pit?keep_alive=" + KEEP_ALIVE, null).getString("id");
+    }
+
+    private void closePointInTime(String pointInTimeId) {
+        if (pointInTimeId == null) {
+            return;
+        }
+
+        try {
+            performRequest("DELETE", "/_pit", JSONObject.of("id", pointInTimeId));
+        } catch (IOException e) {
+            LOGGER.warn("Failed to close Elasticsearch point in time, error: {}", e.getMessage());
+        }
+    }
+
+    private void clearScroll(String scrollId) {
+        if (scrollId == null) {
+            return;
+        }
+
+        try {
+            performRequest("DELETE", "/_search/scroll", JSONObject.of("scroll_id", JSONArray.of(scrollId)));
+        } catch (IOException e) {
+            LOGGER.warn("Failed to clear Elasticsearch scroll, error: {}", e.getMessage());
+        }
+    }
+
+    private JSONObject performRequest(String method, String endpoint, JSONObject body) throws IOException {
+        Request request = new Request(method, endpoint);
+        if (body != null) {
+            request.setJsonEntity(body.toJSONString());
+        }
+        Response response = restClient.performRequest(request);
+        return JSON.parseObject(EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8));
+    }
+
+    private void checkStopped(String indexName) {
+        if (migrationStopIndicator.isStopped() || Thread.currentThread().isInterrupted()) {
+            throw new MigrationException("Migration is stopped, index: " + indexName);
+        }
+    }
+
+    private static String sanitizeName(String name) {
+        String sanitizedName = INVALID_NAME_CHARS.matcher(name).replaceAll("_");
+        if (RESERVED_KEYWORDS.contains(sanitizedName.toLowerCase())) {
+            return "\"" + sanitizedName + "\"";
+        }
+        return sanitizedName;
+    }
+
+    private static String toOpenGaussType(Object fieldMapping) {
+        if (!(fieldMapping instanceof JSONObject)) {
+            return "TEXT";
+        }
+
+        JSONObject mapping = (JSONObject) fieldMapping;
+        String type = mapping.getString("type");
+        if (type == null) {
+            return mapping.containsKey("properties") ? "JSONB" : "TEXT";
+        }
+
+        Integer dimension = mapping.getInteger("dims");
+        boolean hasDimension = dimension != null && dimension > 0;
+        switch (type) {
+            case "long":
+            case "unsigned_long":
+                return "BIGINT";
+            case "integer":
+                return "INTEGER";
+            case "short":
+            case "byte":
+                return "SMALLINT";
+            case "float":
+            case "half_float":
+            case "scaled_float":
+                return "REAL";
+            case "double":
+                return "DOUBLE PRECISION";
+            case "boolean":
+                return "BOOLEAN";
+            case "keyword":
+                return "VARCHAR";
+            case "date":
+            case "date_nanos":
+                return "TIMESTAMP";
+            case "binary":
+                return "BYTEA";
+            case "geo_point":
+                return "POINT";
+            case "geo_shape":
+                return "GEOMETRY";
+            case "nested":
+            case "object":
+                return "JSONB";
+            case "ip":
+                return "INET";
+            case "dense_vector":
+            case "float_vector":
+                return hasDimension ? "VECTOR(" + dimension + ")" : "VECTOR";
+            case "binary_vector":
+                return hasDimension ? "BIT(" + dimension + ")" : "BIT";
+            default:
+                return "TEXT";
+        }
+    }
+
+    private static List<List<String>> toRows(JSONArray hits, List<IndexField> fields) {
+        List<List<String>> rows = new ArrayList<>(hits.size());
+        for (int i = 0; i < hits.size(); i++) {
+            JSONObject hit = hits.getJSONObject(i);
+            JSONObject source = hit.getJSONObject("_source");
+            List<String> values = new ArrayList<>(fields.size());
+            for (IndexField field : fields) {
+                if (field.fieldName == null) {
+                    values.add(hit.getString("_id"));
+                } else {
+                    values.add(toOpenGaussValue(source != null ? source.get(field.fieldName) : null));
+                }
+            }
+            rows.add(values);
+        }
+        return rows;
+    }
+
+    private static String toOpenGaussValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Map || value instanceof List) {
+            return JSON.toJSONString(value);
+        }
+        return value.toString();
+    }
+
+    private static class IndexField {
+        private final String fieldName;
+        private final String columnName;
+        private final String columnType;
+
+        IndexField(String fieldName, String columnName, String columnType) {
+            this.fieldName = fieldName;
+            this.columnName = columnName;
+            this.columnType = columnType;
+        }
+    }
+
+    /**
+     * Reader of one slice of the index. The converted batches are put to the batch queue, an empty batch is put
+     * when the slice is finished or fails.
+     */
+    private class SliceReader {
+        private final String indexName;
+        private final List<IndexField> fields;
+        private final int sliceId;
+        private final int sliceCount;
+        private final String pointInTimeId;
+        private final BlockingQueue<List<List<String>>> batchQueue;
+        private final AtomicReference<Exception> readError;
+
+        SliceReader(String indexName, List<IndexField> fields, int sliceId, int sliceCount, String pointInTimeId,
+                    BlockingQueue<List<List<String>>> batchQueue, AtomicReference<Exception> readError) {
+            this.indexName = indexName;
+            this.fields = fields;
+            this.sliceId = sliceId;
+            this.sliceCount = sliceCount;
+            this.pointInTimeId = pointInTimeId;
+            this.batchQueue = batchQueue;
+            this.readError = readError;
+        }
+
+        void read() {
+            try {
+                if (pointInTimeId != null) {
+                    readByPointInTime();
+                } else {
+                    readByScroll();
+                }
+            } catch (IOException | RuntimeException e) {
+                LOGGER.error("Failed to read slice {} of Elasticsearch index '{}'", sliceId, indexName, e);
+                readError.compareAndSet(null, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            try {
+                batchQueue.put(List.of());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void readByPointInTime() throws IOException, InterruptedException {
+            JSONObject pointInTime = JSONObject.of("id", pointInTimeId, "keep_alive", KEEP_ALIVE);
+            JSONObject body = newSearchBody(JSONArray.of(JSONObject.of("_shard_doc", "asc")));
+            body.put("pit", pointInTime);
+            body.put("track_total_hits", false);
+
+            while (!migrationStopIndicator.isStopped()) {
+                JSONObject response = performRequest("POST", "/_search", body);
+                JSONArray hits = response.getJSONObject("hits").getJSONArray("hits");
+                if (hits.isEmpty()) {
+                    return;
+                }
+
+                batchQueue.put(toRows(hits, fields));
+                if (hits.size() < SEARCH_BATCH_SIZE) {
+                    return;
+                }
+                pointInTime.put("id", response.getString("pit_id"));
+                body.put("search_after", hits.getJSONObject(hits.size() - 1).getJSONArray("sort"));
+            }
+        }
+
+        private void readByScroll() throws IOException, InterruptedException {
+            String scrollId = null;
+            try {
+                JSONObject response = performRequest("POST", "/" + indexName + "/_search?scroll=" + KEEP_ALIVE,
+                        newSearchBody(JSONArray.of("_doc")));
+                while (!migrationStopIndicator.isStopped()) {
+                    scrollId = response.getString("_scroll_id");
+                    JSONArray hits = response.getJSONObject("hits").getJSONArray("hits");
+                    if (hits.isEmpty()) {
+                        return;
+                    }
+
+                    batchQueue.put(toRows(hits, fields));
+                    response = performRequest("POST", "/_search/scroll",
+                            JSONObject.of("scroll", KEEP_ALIVE, "scroll_id", scrollId));
+                }
+            } finally {
+                clearScroll(scrollId);
+            }
+        }
+
+        private JSONObject newSearchBody(JSONArray sort) {
+            JSONObject body = JSONObject.of("size", SEARCH_BATCH_SIZE, "sort", sort);
+            if (sliceCount > 1) {
+                body.put("slice", JSONObject.of("id", sliceId, "max", sliceCount));
+            }
+            return body;
+        }
+    }
+}
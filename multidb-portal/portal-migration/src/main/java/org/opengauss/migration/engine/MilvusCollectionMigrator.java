@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.migration.engine;
+
+import io.milvus.orm.iterator.QueryIterator;
+import io.milvus.response.QueryResultsWrapper;
+import io.milvus.v2.client.MilvusClientV2;
+import io.milvus.v2.common.ConsistencyLevel;
+import io.milvus.v2.common.DataType;
+import io.milvus.v2.service.collection.request.CreateCollectionReq;
+import io.milvus.v2.service.collection.request.DescribeCollectionReq;
+import io.milvus.v2.service.collection.request.GetLoadStateReq;
+import io.milvus.v2.service.collection.request.LoadCollectionReq;
+import io.milvus.v2.service.collection.response.DescribeCollectionResp;
+import io.milvus.v2.service.vector.request.QueryIteratorReq;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opengauss.migration.domain.model.MigrationStopIndicator;
+import org.opengauss.migration.exceptions.MigrationException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Milvus collection migrator.
+ * Migrates a Milvus collection to an openGauss DataVec table in the portal process. The table is created from the
+ * collection schema, the rows are read with a query iterator and streamed into the table by one COPY operation,
+ * so a failed or stopped migration leaves the table empty. The column types and values follow the Milvus migration
+ * tool, the field types that DataVec does not support are migrated as text. The Milvus client and the openGauss
+ * connection are owned by the caller and can be reused by the next collection.
+ *
+ * @since 2025/11/12
+ */
+public class MilvusCollectionMigrator {
+    private static final Logger LOGGER = LogManager.getLogger(MilvusCollectionMigrator.class);
+    private static final long QUERY_BATCH_SIZE = 10000L;
+    private static final int LOG_INTERVAL_ROWS = 100000;
+
+    private final MilvusClientV2 milvusClient;
+    private final Connection connection;
+    private final MigrationStopIndicator migrationStopIndicator;
+    private final int sparseVectorDimension;
+
+    public MilvusCollectionMigrator(MilvusClientV2 milvusClient, Connection connection,
+                                    MigrationStopIndicator migrationStopIndicator, int sparseVectorDimension) {
+        this.milvusClient = milvusClient;
+        this.connection = connection;
+        this.migrationStopIndicator = migrationStopIndicator;
+        this.sparseVectorDimension = sparseVectorDimension;
+    }
+
+    /**
+     * Migrate the collection to the table
+     *
+     * @param collectionName Milvus collection name
+     * @param tableName openGauss table name
+     * @return the number of rows migrated
+     */
+    public long migrate(String collectionName, String tableName) {
+        long startTime = System.currentTimeMillis();
+        LOGGER.info("Start to migrate Milvus collection '{}' to openGauss table '{}'", collectionName, tableName);
+
+        DescribeCollectionResp collection = milvusClient.describeCollection(
+                DescribeCollectionReq.builder().collectionName(collectionName).build());
+        List<CreateCollectionReq.FieldSchema> fields = collection.getCollectionSchema().getFieldSchemaList();
+        loadCollection(collectionName);
+
+        try {
+            createTable(tableName, fields);
+            long rowCount = copyRows(collectionName, tableName, fields);
+            LOGGER.info("Milvus collection '{}' migration completed in {} ms, rows: {}", collectionName,
+                    System.currentTimeMillis() - startTime, rowCount);
+            return rowCount;
+        } catch (SQLException e) {
+            throw new MigrationException("Failed to migrate Milvus collection " + collectionName, e);
+        }
+    }
+
+    private void loadCollection(String collectionName) {
+        Boolean isLoaded = milvusClient.getLoadState(GetLoadStateReq.builder().collectionName(collectionName).build());
+        if (!Boolean.TRUE.equals(isLoaded)) {
+            milvusClient.loadCollection(LoadCollectionReq.builder().collectionName(collectionName).build());
+        }
+    }
+
+    private void createTable(String tableName, List<CreateCollectionReq.FieldSchema> fields) throws SQLException {
+        List<String> columns = new ArrayList<>();
+        List<String> primaryKeys = new ArrayList<>();
+        for (CreateCollectionReq.FieldSchema field : fields) {
+            columns.add(quoteIdentifier(field.getName()) + " " + toOpenGaussType(field));
+            if (Boolean.TRUE.equals(field.getIsPrimaryKey())) {
+                primaryKeys.add(quoteIdentifier(field.getName()));
+            }
+        }
+        if (!primaryKeys.isEmpty()) {
+            columns.add("PRIMARY KEY (" + String.join(", ", primaryKeys) + ")");
+        }
+
+        String quotedTableName = quoteTableName(tableName);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(String.format("CREATE TABLE IF NOT EXISTS %s (%s)", quotedTableName,
+                    String.join(", ", columns)));
+            statement.execute("TRUNCATE TABLE " + quotedTableName);
+        }
+    }
+
+    private long copyRows(String collectionName, String tableName, List<CreateCollectionReq.FieldSchema> fields)
+            throws SQLException {
+        List<String> fieldNames = new ArrayList<>();
+        List<String> columnNames = new ArrayList<>();
+        for (CreateCollectionReq.FieldSchema field : fields) {
+            fieldNames.add(field.getName());
+            columnNames.add(quoteIdentifier(field.getName()));
+        }
+
+        QueryIterator iterator = milvusClient.queryIterator(QueryIteratorReq.builder()
+                .collectionName(collectionName)
+                .outputFields(fieldNames)
+                .expr("")
+                .batchSize(QUERY_BATCH_SIZE)
+                .consistencyLevel(ConsistencyLevel.STRONG)
+                .build());
+        try (CopyRowWriter writer = CopyRowWriter.begin(connection, quoteTableName(tableName), columnNames)) {
+            long readCount = 0L;
+            List<QueryResultsWrapper.RowRecord> records = iterator.next();
+            while (!records.isEmpty()) {
+                checkStopped(collectionName);
+                for (QueryResultsWrapper.RowRecord record : records) {
+                    writer.writeRow(toRowValues(record, fields));
+                }
+
+                long lastReadCount = readCount;
+                readCount += records.size();
+                if (readCount / LOG_INTERVAL_ROWS > lastReadCount / LOG_INTERVAL_ROWS) {
+                    LOGGER.info("Milvus collection '{}' has read {} rows", collectionName, readCount);
+                }
+                records = iterator.next();
+            }
+            return writer.finish();
+        } finally {
+            iterator.close();
+        }
+    }
+
+    private void checkStopped(String collectionName) {
+        if (migrationStopIndicator.isStopped() || Thread.currentThread().isInterrupted()) {
+            throw new MigrationException("Migration is stopped, collection: " + collectionName);
+        }
+    }
+
+    private List<String> toRowValues(QueryResultsWrapper.RowRecord record,
+                                     List<CreateCollectionReq.FieldSchema> fields) {
+        Map<String, Object> fieldValues = record.getFieldValues();
+        List<String> values = new ArrayList<>(fields.size());
+        for (CreateCollectionReq.FieldSchema field : fields) {
+            values.add(toOpenGaussValue(field, fieldValues.get(field.getName())));
+        }
+        return values;
+    }
+
+    private static String toOpenGaussType(CreateCollectionReq.FieldSchema field) {
+        DataType dataType = field.getDataType();
+        Integer dimension = field.getDimension();
+        switch (dataType) {
+            case Bool:
+                return "BOOLEAN";
+            case Int8:
+            case Int16:
+                return "SMALLINT";
+            case Int32:
+                return "INTEGER";
+            case Int64:
+                return "BIGINT";
+            case Float:
+                return "REAL";
+            case Double:
+                return "DOUBLE PRECISION";
+            case VarChar:
+                return "VARCHAR";
+            case String:
+                return "TEXT";
+            case JSON:
+                return "JSONB";
+            case FloatVector:
+                return dimension != null ? "VECTOR(" + dimension + ")" : "VECTOR";
+            case BinaryVector:
+                return dimension != null ? "BIT(" + dimension + ")" : "BIT";
+            case SparseFloatVector:
+                return "SPARSEVEC";
+            default:
+                return "TEXT";
+        }
+    }
+
+    private String toOpenGaussValue(CreateCollectionReq.FieldSchema field, Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        switch (field.getDataType()) {
+            case FloatVector:
+                return toVectorText((List<?>) value);
+            case Float16Vector:
+                return toVectorText(decodeFloat16((ByteBuffer) value, false));
+            case BFloat16Vector:
+                return toVectorText(decodeFloat16((ByteBuffer) value, true));
+            case Int8Vector:
+                return toVectorText(decodeInt8((ByteBuffer) value));
+            case BinaryVector:
+                return toBitText((ByteBuffer) value, field.getDimension());
+            case SparseFloatVector:
+                return toSparseVectorText((Map<?, ?>) value);
+            case Array:
+                return toVectorText((List<?>) value);
+            default:
+                return value.toString();
+        }
+    }
+
+    private static String toVectorText(List<?> vector) {
+        StringBuilder builder = new StringBuilder(vector.size() * 10 + 2).append('[');
+        for (int i = 0; i < vector.size(); i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(vector.get(i));
+        }
+        return builder.append(']').toString();
+    }
+
+    private String toSparseVectorText(Map<?, ?> sparseVector) {
+        // openGauss sparse vector indices start from 1 in ascending order, and Milvus indices start from 0
+        Map<Long, Object> sortedVector = new TreeMap<>();
+        for (Map.Entry<?, ?> entry : sparseVector.entrySet()) {
+            sortedVector.put(((Number) entry.getKey()).longValue() + 1, entry.getValue());
+        }
+
+        StringBuilder builder = new StringBuilder().append('{');
+        for (Map.Entry<Long, Object> entry : sortedVector.entrySet()) {
+            if (builder.length() > 1) {
+                builder.append(',');
+            }
+            builder.append(entry.getKey()).append(':').append(entry.getValue());
+        }
+        return builder.append("}/").append(sparseVectorDimension).toString();
+    }
+
+    private static String quoteTableName(String tableName) {
+        List<String> nameParts = new ArrayList<>();
+        for (String namePart : tableName.split("\\.", -1)) {
+            nameParts.add(quoteIdentifier(namePart));
+        }
+        return String.join(".", nameParts);
+    }
+
+    private static String quoteIdentifier(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+
+    private static String toBitText(ByteBuffer buffer, Integer dimension) {
+        ByteBuffer bytes = buffer.duplicate();
+        int bitCount = dimension != null ? dimension : bytes.remaining() * Byte.SIZE;
+        StringBuilder builder = new StringBuilder(bitCount);
+        for (int i = 0; i < bitCount; i++) {
+            int b = bytes.get(bytes.position() + i / Byte.SIZE);
+            builder.append((b >> (Byte.SIZE - 1 - i % Byte.SIZE) & 1) == 1 ? '1' : '0');
+        }
+        return builder.toString();
+    }
+
+    private static List<Float> decodeFloat16(ByteBuffer buffer, boolean isBFloat16) {
+        ByteBuffer bytes = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        List<Float> vector = new ArrayList<>(bytes.remaining() / 2);
+        while (bytes.remaining() >= 2) {
+            int bits = bytes.getShort() & 0xFFFF;
+            vector.add(isBFloat16 ? Float.intBitsToFloat(bits << 16) : halfToFloat(bits));
+        }
+        return vector;
+    }
+
+    private static List<Byte> decodeInt8(ByteBuffer buffer) {
+        ByteBuffer bytes = buffer.duplicate();
+        List<Byte> vector = new ArrayList<>(bytes.remaining());
+        while (bytes.hasRemaining()) {
+            vector.add(bytes.get());
+        }
+        return vector;
+    }
+
+    private static float halfToFloat(int bits) {
+        int sign = (bits & 0x8000) << 16;
+        int exponent = (bits >> 10) & 0x1F;
+        int mantissa = bits & 0x3FF;
+        if (exponent == 0x1F) {
+            return Float.intBitsToFloat(sign | 0x7F800000 | (mantissa << 13));
+        }
+        if (exponent == 0) {
+            float value = mantissa * 0x1.0p-24f;
+            return sign == 0 ? value : -value;
+        }
+        return Float.intBitsToFloat(sign | ((exponent + 112) << 23) | (mantissa << 13));
+    }
+}
@@ -6,6 +6,8 @@ package org.opengauss.migration.enums;
 
 import lombok.Getter;
 
+import java.util.Optional;
+
 /**
  * Migration status enum
  *
@@ -52,4 +54,19 @@ public enum MigrationStatusEnum {
 
     private final int status;
     private final String description;
+
+    /**
+     * Get migration status enum by status code
+     *
+     * @param status status code
+     * @return migration status enum, empty if no enum has the status code
+     */
+    public static Optional<MigrationStatusEnum> getByStatus(int status) {
+        for (MigrationStatusEnum statusEnum : values()) {
+            if (statusEnum.status == status) {
+                return Optional.of(statusEnum);
+            }
+        }
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.migration.helper;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opengauss.migration.progress.model.FullEntry;
+import org.opengauss.migration.progress.model.FullTableCheckpoint;
+import org.opengauss.utils.StringUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Full migration checkpoint helper
+ *
+ * @since 2025/11/14
+ */
+public class FullMigrationCheckpointHelper {
+    private static final Logger LOGGER = LogManager.getLogger(FullMigrationCheckpointHelper.class);
+    private static final int STATUS_COMPLETED_MIN = 3;
+    private static final int STATUS_COMPLETED_MAX = 5;
+    private static final String FIND_OPENGAUSS_TABLE_SQL = "SELECT schemaname, tablename FROM pg_tables "
+            + "WHERE lower(schemaname) = lower(?) AND lower(tablename) = lower(?) "
+            + "ORDER BY (schemaname = ? AND tablename = ?) DESC LIMIT 1";
+
+    private FullMigrationCheckpointHelper() {
+    }
+
+    /**
+     * List the names of the tables of the schema with the query
+     *
+     * @param connection database connection
+     * @param listTableSql query with the schema name as the only parameter, returns the table names
+     * @param schema schema name
+     * @return table names
+     * @throws SQLException if a database access error occurs
+     */
+    public static List<String> listTables(Connection connection, String listTableSql, String schema)
+            throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(listTableSql)) {
+            statement.setString(1, schema);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    tables.add(resultSet.getString(1));
+                }
+            }
+        }
+        return tables;
+    }
+
+    /**
+     * Get the tables of the checkpoint whose data has not been migrated completely
+     *
+     * @param checkpoint full table checkpoint
+     * @return unfinished table entry list
+     */
+    public static List<FullEntry> getUnfinishedTables(FullTableCheckpoint checkpoint) {
+        Map<String, FullEntry> unfinishedTables = new LinkedHashMap<>();
+        checkpoint.getTables().forEach(entry -> unfinishedTables.put(generateTableKey(entry), entry));
+        checkpoint.getCompletedTables().forEach(entry -> unfinishedTables.remove(generateTableKey(entry)));
+        return new ArrayList<>(unfinishedTables.values());
+    }
+
+    /**
+     * Keep only the completed tables of the checkpoint that are verified on the target database, the other
+     * completed tables are migrated again
+     *
+     * @param checkpoint full table checkpoint
+     * @param isTableVerified whether the data of the completed table is verified on the target database
+     * @return the checkpoint with the verified completed tables, empty if no completed table is verified
+     */
+    public static Optional<FullTableCheckpoint> retainVerifiedTables(
+            FullTableCheckpoint checkpoint, Predicate<FullEntry> isTableVerified) {
+        List<FullEntry> verifiedTables = new ArrayList<>();
+        for (FullEntry entry : checkpoint.getCompletedTables()) {
+            if (isTableVerified.test(entry)) {
+                verifiedTables.add(entry);
+            } else {
+                LOGGER.warn("Table '{}' is not verified on the target database, it will be migrated again",
+                        generateTableKey(entry));
+            }
+        }
+        if (verifiedTables.isEmpty()) {
+            return Optional.empty();
+        }
+
+        FullTableCheckpoint verifiedCheckpoint = new FullTableCheckpoint();
+        verifiedCheckpoint.setFingerprint(checkpoint.getFingerprint());
+        verifiedCheckpoint.setTables(new ArrayList<>(checkpoint.getTables()));
+        verifiedCheckpoint.setCompletedTables(verifiedTables);
+        return Optional.of(verifiedCheckpoint);
+    }
+
+    /**
+     * Check whether the table exists on openGauss and has the same row count as the source table
+     *
+     * @param sourceConnection source database connection
+     * @param sourceTableName quoted and schema qualified source table name
+     * @param openGaussConnection openGauss connection
+     * @param targetSchema openGauss schema name
+     * @param targetTable openGauss table name
+     * @return true if the table exists on openGauss with the same row count
+     */
+    public static boolean isTableRowCountMatched(Connection sourceConnection, String sourceTableName,
+                                                 Connection openGaussConnection, String targetSchema,
+                                                 String targetTable) {
+        try {
+            Optional<String> targetTableName = findOpenGaussTable(openGaussConnection, targetSchema, targetTable);
+            if (targetTableName.isEmpty()) {
+                LOGGER.warn("Table {}.{} does not exist on openGauss", targetSchema, targetTable);
+                return false;
+            }
+
+            long sourceRowCount = countRows(sourceConnection, sourceTableName);
+            long targetRowCount = countRows(openGaussConnection, targetTableName.get());
+            if (sourceRowCount != targetRowCount) {
+                LOGGER.warn("Table {} has {} rows on the source database, but {} rows on openGauss",
+                        sourceTableName, sourceRowCount, targetRowCount);
+                return false;
+            }
+            return true;
+        } catch (SQLException e) {
+            LOGGER.warn("Failed to count the rows of table {}, error: {}", sourceTableName, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Quote the identifier with the quote character
+     *
+     * @param identifier identifier
+     * @param quote quote character, '"' for openGauss and PostgreSQL, '`' for MySQL
+     * @return quoted identifier
+     */
+    public static String quoteIdentifier(String identifier, char quote) {
+        String quoteString = String.valueOf(quote);
+        return quoteString + identifier.replace(quoteString, quoteString + quoteString) + quoteString;
+    }
+
+    /**
+     * Generate the fingerprint of the migration config
+     *
+     * @param configValues the config values that decide which tables are migrated to where
+     * @return fingerprint
+     */
+    public static String generateFingerprint(String... configValues) {
+        return String.join("|", configValues);
+    }
+
+    /**
+     * Whether the data of the table has been migrated completely
+     *
+     * @param entry table progress entry
+     * @return true if the table is completed
+     */
+    public static boolean isCompleted(FullEntry entry) {
+        return entry.getStatus() >= STATUS_COMPLETED_MIN && entry.getStatus() <= STATUS_COMPLETED_MAX;
+    }
+
+    /**
+     * Generate the key of the table progress entry
+     *
+     * @param entry table progress entry
+     * @return table key
+     */
+    public static String generateTableKey(FullEntry entry) {
+        String schema = entry.getSchema();
+        return StringUtils.isNullOrBlank(schema) ? entry.getName() : schema + "." + entry.getName();
+    }
+
+    private static Optional<String> findOpenGaussTable(Connection connection, String schema, String table)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(FIND_OPENGAUSS_TABLE_SQL)) {
+            statement.setString(1, schema);
+            statement.setString(2, table);
+            statement.setString(3, schema);
+            statement.setString(4, table);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return Optional.empty();
+                }
+                return Optional.of(quoteIdentifier(resultSet.getString(1), '"') + "."
+                        + quoteIdentifier(resultSet.getString(2), '"'));
+            }
+        }
+    }
+
+    private static long countRows(Connection connection, String tableName) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT count(*) FROM " + tableName)) {
+            return resultSet.next() ? resultSet.getLong(1) : 0L;
+        }
+    }
+}
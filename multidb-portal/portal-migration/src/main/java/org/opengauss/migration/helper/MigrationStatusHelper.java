@@ -28,6 +28,28 @@ public class MigrationStatusHelper {
         return String.format("%s/%s", statusDirPath, MigrationStatusConstants.MIGRATION_STATUS_FILE_NAME);
     }
 
+    /**
+     * generate migration status journal file path
+     *
+     * @param taskWorkspace task workspace
+     * @return String file path
+     */
+    public static String generateMigrationStatusJournalFilePath(TaskWorkspace taskWorkspace) {
+        String statusDirPath = taskWorkspace.getStatusDirPath();
+        return String.format("%s/%s", statusDirPath, MigrationStatusConstants.MIGRATION_STATUS_JOURNAL_FILE_NAME);
+    }
+
+    /**
+     * generate full migration table checkpoint file path
+     *
+     * @param taskWorkspace task workspace
+     * @return String file path
+     */
+    public static String generateFullTableCheckpointFilePath(TaskWorkspace taskWorkspace) {
+        String statusDirPath = taskWorkspace.getStatusDirPath();
+        return String.format("%s/%s", statusDirPath, MigrationStatusConstants.FULL_TABLE_CHECKPOINT_FILE_NAME);
+    }
+
     /**
      * generate full migration total info status file path
      *
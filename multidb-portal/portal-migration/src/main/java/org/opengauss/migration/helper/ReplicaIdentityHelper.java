@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.migration.helper;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opengauss.migration.constants.SqlConstants;
+import org.opengauss.migration.domain.model.OpenGaussDatabaseConnectInfo;
+import org.opengauss.migration.utils.JdbcUtils;
+import org.opengauss.migration.utils.PgsqlUtils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Replica identity helper.
+ * Changes the replica identity of all the tables of the schemas in bulk. The current replica identity of the
+ * tables is read once, the tables already in the desired state are skipped, and the others are altered in batches,
+ * one transaction per batch, by several connections in parallel. If a batch fails, its tables are altered one by
+ * one, so one failed table does not stop the others.
+ *
+ * @since 2025/11/13
+ */
+public class ReplicaIdentityHelper {
+    private static final Logger LOGGER = LogManager.getLogger(ReplicaIdentityHelper.class);
+    private static final int BATCH_SIZE = 200;
+    private static final int MAX_PARALLELISM = 4;
+    private static final int LOG_INTERVAL_TABLES = 1000;
+    private static final String REPLICA_IDENTITY_FULL = "f";
+    private static final String REPLICA_IDENTITY_DEFAULT = "d";
+
+    private ReplicaIdentityHelper() {
+    }
+
+    /**
+     * Change the replica identity of the tables of the schemas to full
+     *
+     * @param schemas schema names
+     * @param connectInfo openGauss connect info, used to open the connections that alter the tables
+     * @param connection openGauss connection, used to read the current replica identity of the tables
+     */
+    public static void alterSchemasReplicaIdentityFull(Collection<String> schemas,
+                                                       OpenGaussDatabaseConnectInfo connectInfo,
+                                                       Connection connection) {
+        alterSchemasReplicaIdentity(schemas, connectInfo, connection, REPLICA_IDENTITY_FULL);
+    }
+
+    /**
+     * Change the replica identity of the tables of the schemas to default
+     *
+     * @param schemas schema names
+     * @param connectInfo openGauss connect info, used to open the connections that alter the tables
+     * @param connection openGauss connection, used to read the current replica identity of the tables
+     */
+    public static void alterSchemasReplicaIdentityDefault(Collection<String> schemas,
+                                                          OpenGaussDatabaseConnectInfo connectInfo,
+                                                          Connection connection) {
+        alterSchemasReplicaIdentity(schemas, connectInfo, connection, REPLICA_IDENTITY_DEFAULT);
+    }
+
+    private static void alterSchemasReplicaIdentity(Collection<String> schemas,
+                                                    OpenGaussDatabaseConnectInfo connectInfo, Connection connection,
+                                                    String replicaIdentity) {
+        long startTime = System.currentTimeMillis();
+        String sqlModel = REPLICA_IDENTITY_FULL.equals(replicaIdentity)
+                ? SqlConstants.ALTER_TABLE_REPLICA_IDENTITY_FULL : SqlConstants.ALTER_TABLE_REPLICA_IDENTITY_DEFAULT;
+        List<String> alterSqlList = new ArrayList<>();
+        int skippedCount = 0;
+        for (String schema : schemas) {
+            for (Map.Entry<String, String> entry : getTableReplicaIdentities(schema, connection).entrySet()) {
+                if (replicaIdentity.equals(entry.getValue())) {
+                    skippedCount++;
+                } else {
+                    alterSqlList.add(String.format(sqlModel, schema, entry.getKey()));
+                }
+            }
+        }
+
+        String identityName = REPLICA_IDENTITY_FULL.equals(replicaIdentity) ? "full" : "default";
+        LOGGER.info("Start to change replica identity to {} for {} tables, {} tables are already {}",
+                identityName, alterSqlList.size(), skippedCount, identityName);
+        if (alterSqlList.isEmpty()) {
+            return;
+        }
+
+        List<List<String>> batches = new ArrayList<>();
+        for (int i = 0; i < alterSqlList.size(); i += BATCH_SIZE) {
+            batches.add(alterSqlList.subList(i, Math.min(i + BATCH_SIZE, alterSqlList.size())));
+        }
+        AlterProgress progress = new AlterProgress(alterSqlList.size(), identityName);
+        executeBatches(batches, connectInfo, progress);
+
+        LOGGER.info("Finished changing replica identity to {} in {} ms, succeeded: {}, failed: {}", identityName,
+                System.currentTimeMillis() - startTime, progress.succeededCount.get(), progress.failedCount.get());
+    }
+
+    private static Map<String, String> getTableReplicaIdentities(String schema, Connection connection) {
+        try {
+            return PgsqlUtils.getTableReplicaIdentities(schema, connection);
+        } catch (SQLException e) {
+            LOGGER.warn("Failed to read replica identity of schema '{}' tables, alter all tables, error: {}",
+                    schema, e.getMessage());
+        }
+
+        Map<String, String> tableReplicaIdentities = new HashMap<>();
+        try {
+            for (String table : PgsqlUtils.getSchemaTableNames(schema, connection)) {
+                tableReplicaIdentities.put(table, "");
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Failed to get the tables of schema '{}'", schema, e);
+        }
+        return tableReplicaIdentities;
+    }
+
+    private static void executeBatches(List<List<String>> batches, OpenGaussDatabaseConnectInfo connectInfo,
+                                       AlterProgress progress) {
+        int parallelism = Math.min(MAX_PARALLELISM, batches.size());
+        ExecutorService executorService = Executors.newFixedThreadPool(parallelism);
+        AtomicInteger nextBatch = new AtomicInteger(0);
+        try {
+            for (int i = 0; i < parallelism; i++) {
+                executorService.execute(() -> {
+                    try (Connection connection = JdbcUtils.getOpengaussConnection(connectInfo)) {
+                        int batchIndex = nextBatch.getAndIncrement();
+                        while (batchIndex < batches.size()) {
+                            executeBatch(batches.get(batchIndex), connection, progress);
+                            batchIndex = nextBatch.getAndIncrement();
+                        }
+                    } catch (SQLException e) {
+                        LOGGER.error("Failed to change replica identity", e);
+                    }
+                });
+            }
+            executorService.shutdown();
+            executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while changing replica identity");
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void executeBatch(List<String> alterSqlList, Connection connection, AlterProgress progress)
+            throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(false);
+            for (String alterSql : alterSqlList) {
+                statement.addBatch(alterSql);
+            }
+            statement.executeBatch();
+            connection.commit();
+            progress.addSucceeded(alterSqlList.size());
+            return;
+        } catch (SQLException e) {
+            connection.rollback();
+            LOGGER.warn("Failed to change replica identity in batch, retry the tables one by one, error: {}",
+                    e.getMessage());
+        } finally {
+            connection.setAutoCommit(true);
+        }
+
+        for (String alterSql : alterSqlList) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(alterSql);
+                progress.addSucceeded(1);
+            } catch (SQLException e) {
+                LOGGER.error("Failed to execute sql: {}, error: {}", alterSql, e.getMessage());
+                progress.addFailed();
+            }
+        }
+    }
+
+    private static class AlterProgress {
+        private final int totalCount;
+        private final String identityName;
+        private final AtomicInteger succeededCount = new AtomicInteger(0);
+        private final AtomicInteger failedCount = new AtomicInteger(0);
+
+        AlterProgress(int totalCount, String identityName) {
+            this.totalCount = totalCount;
+            this.identityName = identityName;
+        }
+
+        void addSucceeded(int count) {
+            int lastCount = succeededCount.getAndAdd(count);
+            if ((lastCount + count) / LOG_INTERVAL_TABLES > lastCount / LOG_INTERVAL_TABLES) {
+                LOGGER.info("Changed replica identity to {} for {}/{} tables", identityName, lastCount + count,
+                        totalCount);
+            }
+        }
+
+        void addFailed() {
+            failedCount.incrementAndGet();
+        }
+    }
+}
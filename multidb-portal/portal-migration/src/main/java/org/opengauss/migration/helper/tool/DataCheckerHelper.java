@@ -4,22 +4,13 @@
 
 package org.opengauss.migration.helper.tool;
 
-import com.alibaba.fastjson2.JSONArray;
-import com.alibaba.fastjson2.JSONException;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 import org.opengauss.constants.tool.DataCheckerConstants;
 import org.opengauss.domain.model.TaskWorkspace;
 import org.opengauss.migration.enums.DataCheckerProcessType;
 import org.opengauss.migration.tools.DataChecker;
-import org.opengauss.utils.StringUtils;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * Data-checker helper
@@ -27,36 +18,9 @@ import java.util.Optional;
  * @since 2025/5/14
  */
 public class DataCheckerHelper {
-    private static final Logger LOGGER = LogManager.getLogger(DataCheckerHelper.class);
-
     private DataCheckerHelper() {
     }
 
-    /**
-     * Parse data-checker status file to json array
-     *
-     * @param statusFilePath status file path
-     * @return JDONArray data-checker status
-     */
-    public static Optional<JSONArray> parseDataCheckerStatusFile(String statusFilePath) {
-        Path statusPath = Path.of(statusFilePath);
-
-        if (!Files.exists(statusPath)) {
-            return Optional.empty();
-        }
-
-        try {
-            String text = Files.readString(statusPath);
-            if (!StringUtils.isNullOrBlank(text)) {
-                text = "[" + text.substring(0, text.length() - 1) + "]";
-                return Optional.ofNullable(JSONArray.parseArray(text));
-            }
-        } catch (IOException | JSONException e) {
-            LOGGER.warn("Failed to read or parse data-checker progress, error: {}", e.getMessage());
-        }
-        return Optional.empty();
-    }
-
     /**
      * Generate data check process start command
      *
@@ -208,6 +172,29 @@ public class DataCheckerHelper {
         return String.format("%s/result", statusPath);
     }
 
+    /**
+     * Generate the data path of one table wave of the full data check, each wave checks the tables whose data has
+     * been migrated since the previous wave, and writes its result under its own data path
+     *
+     * @param taskWorkspace task workspace
+     * @param waveNumber wave number, starts from 1
+     * @return table wave data path
+     */
+    public static String generateFullDataCheckWaveDataPath(TaskWorkspace taskWorkspace, int waveNumber) {
+        String statusPath = taskWorkspace.getStatusFullDataCheckDirPath();
+        return String.format("%s/waves/wave_%d", statusPath, waveNumber);
+    }
+
+    /**
+     * Get data-checker process sign file path of the data path
+     *
+     * @param dataPath data-checker data path
+     * @return process sign file path
+     */
+    public static String getProcessSignFilePath(String dataPath) {
+        return String.format("%s/result/%s", dataPath, DataCheckerConstants.PROCESS_SIGN_FILE_NAME);
+    }
+
     /**
      * Get data-checker incremental check result dir path
      *
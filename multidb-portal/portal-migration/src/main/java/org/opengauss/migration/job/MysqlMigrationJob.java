@@ -24,6 +24,8 @@ import org.opengauss.migration.tasks.impl.DebeziumMysqlReverseMigrationTask;
 import org.opengauss.migration.verify.VerifyManager;
 
 import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Mysql Migration Job
@@ -37,6 +39,8 @@ public class MysqlMigrationJob extends AbstractMigrationJob {
 
     private boolean hasDoBeforeReverse = false;
     private boolean hasAdjustKernelParam = false;
+    private CompletableFuture<Void> fullDataCheckFuture;
+    private volatile boolean isTableMigrationExited = false;
 
     public MysqlMigrationJob(MysqlMigrationJobConfig migrationJobConfig) {
         this.migrationJobConfig = migrationJobConfig;
@@ -150,6 +154,16 @@ public class MysqlMigrationJob extends AbstractMigrationJob {
         } else if (MigrationStatusEnum.INCREMENTAL_MIGRATION_INTERRUPTED.equals(currentStatus)
                 || MigrationStatusEnum.INCREMENTAL_MIGRATION_RUNNING.equals(currentStatus)) {
             if (!migrationStopIndicator.isStopped()) {
+                if (MigrationStatusEnum.INCREMENTAL_MIGRATION_RUNNING.equals(currentStatus)
+                        && incrementalMigrationTask.restartInPlace()) {
+                    if (hasIncrementalDataCheck) {
+                        incrementalDataCheckTask.stopTask();
+                        incrementalDataCheckTask.startTask();
+                    }
+                    LOGGER.info("Restart incremental migration successfully");
+                    return;
+                }
+
                 statusMonitor.setCurrentStatus(MigrationStatusEnum.INCREMENTAL_MIGRATION_STOPPING);
                 if (hasIncrementalDataCheck) {
                     incrementalDataCheckTask.stopTask();
@@ -268,6 +282,12 @@ public class MysqlMigrationJob extends AbstractMigrationJob {
         } else if (MigrationStatusEnum.REVERSE_MIGRATION_INTERRUPTED.equals(currentStatus)
                 || MigrationStatusEnum.REVERSE_MIGRATION_RUNNING.equals(currentStatus)) {
             if (!migrationStopIndicator.isStopped()) {
+                if (MigrationStatusEnum.REVERSE_MIGRATION_RUNNING.equals(currentStatus)
+                        && reverseMigrationTask.restartInPlace()) {
+                    LOGGER.info("Restart reverse migration successfully");
+                    return;
+                }
+
                 statusMonitor.setCurrentStatus(MigrationStatusEnum.REVERSE_MIGRATION_STOPPING);
                 reverseMigrationTask.stopTask();
                 statusMonitor.setCurrentStatus(MigrationStatusEnum.REVERSE_MIGRATION_FINISHED);
@@ -314,7 +334,7 @@ public class MysqlMigrationJob extends AbstractMigrationJob {
         MysqlMigrationConfig migrationConfigDto = migrationJobConfig.getMigrationConfigDto();
         if (hasFullMigration) {
             fullMigrationTask = new ChameleonMysqlFullMigrationTask(taskWorkspace, migrationStopIndicator,
-                    migrationJobConfig.getFullConfigBundle());
+                    migrationConfigDto, migrationJobConfig.getFullConfigBundle(), !hasIncrementalMigration);
         }
 
         if (hasFullDataCheck) {
@@ -388,18 +408,18 @@ public class MysqlMigrationJob extends AbstractMigrationJob {
             });
         }
 
+        if (hasFullMigration && hasFullDataCheck) {
+            executor.addStep(() -> {
+                startFullDataCheckPhaseEarly();
+                waitTableMigrationExit();
+            });
+        }
+
         if (hasFullMigration) {
             if ("true".equals(migrationJobConfig.getMigrationConfigDto().getIsMigrationObject())) {
                 executor.addStep(() -> fullMigrationTask.migrateObject());
             } else {
-                executor.addStep(() -> {
-                    if (!(fullMigrationTask instanceof ChameleonMysqlFullMigrationTask)) {
-                        throw new IllegalArgumentException("Full migration task is not "
-                                + "ChameleonMysqlFullMigrationTask");
-                    }
-                    ChameleonMysqlFullMigrationTask chameleonTask = (ChameleonMysqlFullMigrationTask) fullMigrationTask;
-                    chameleonTask.waitTableMigrationExit();
-                });
+                executor.addStep(() -> getChameleonTask().waitTableMigrationExit());
             }
 
             if (!hasIncrementalMigration) {
@@ -457,14 +477,75 @@ public class MysqlMigrationJob extends AbstractMigrationJob {
         return true;
     }
 
+    private ChameleonMysqlFullMigrationTask getChameleonTask() {
+        if (!(fullMigrationTask instanceof ChameleonMysqlFullMigrationTask)) {
+            throw new IllegalArgumentException("Full migration task is not ChameleonMysqlFullMigrationTask");
+        }
+        return (ChameleonMysqlFullMigrationTask) fullMigrationTask;
+    }
+
+    /**
+     * Start the full data check phase together with the table migration, the tables are checked in waves as soon
+     * as their data is migrated, driven by the table status of the full migration tool, and the remaining tables are
+     * checked after the table migration exits, while the objects and the foreign keys are migrated. The check is
+     * joined by the full data check phase, and the status is only changed there, so the phases are still reported
+     * in order.
+     */
+    private void startFullDataCheckPhaseEarly() {
+        LOGGER.info("Start the full data check phase, the tables are checked as soon as they are migrated");
+        if (!(fullDataCheckTask instanceof DataCheckerMysqlFullDataCheckTask dataCheckTask)) {
+            throw new IllegalArgumentException("Full data check task is not DataCheckerMysqlFullDataCheckTask");
+        }
+        ChameleonMysqlFullMigrationTask chameleonTask = getChameleonTask();
+        fullDataCheckFuture = CompletableFuture.runAsync(() -> {
+            dataCheckTask.beforeTask();
+            dataCheckTask.startTaskByTable(chameleonTask::getMigratedTables, () -> isTableMigrationExited);
+        }, runnable -> {
+            Thread thread = new Thread(runnable, "Full-Data-Check-Thread");
+            thread.setDaemon(true);
+            thread.start();
+        });
+        fullDataCheckFuture.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                LOGGER.error("Full data check failed while the full migration is running", throwable);
+            }
+        });
+    }
+
+    private void waitTableMigrationExit() {
+        try {
+            getChameleonTask().waitTableMigrationExit();
+        } catch (MigrationException e) {
+            fullDataCheckTask.stopTask();
+            throw e;
+        }
+        isTableMigrationExited = true;
+    }
+
     private void executeFullDataCheckTask(StatusMonitor statusMonitor) {
         statusMonitor.setCurrentStatus(MigrationStatusEnum.START_FULL_DATA_CHECK);
-        fullDataCheckTask.beforeTask();
-        statusMonitor.setCurrentStatus(MigrationStatusEnum.FULL_DATA_CHECK_RUNNING);
-        fullDataCheckTask.startTask();
+        if (fullDataCheckFuture == null) {
+            fullDataCheckTask.beforeTask();
+            statusMonitor.setCurrentStatus(MigrationStatusEnum.FULL_DATA_CHECK_RUNNING);
+            fullDataCheckTask.startTask();
+        } else {
+            statusMonitor.setCurrentStatus(MigrationStatusEnum.FULL_DATA_CHECK_RUNNING);
+            waitFullDataCheckPhaseEarly();
+        }
         statusMonitor.setCurrentStatus(MigrationStatusEnum.FULL_DATA_CHECK_FINISHED);
     }
 
+    private void waitFullDataCheckPhaseEarly() {
+        try {
+            fullDataCheckFuture.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof MigrationException migrationException) {
+                throw migrationException;
+            }
+            throw new MigrationException("Full data check failed", e.getCause());
+        }
+    }
+
     private void executeReverseTask(StatusMonitor statusMonitor) {
         statusMonitor.setCurrentStatus(MigrationStatusEnum.START_REVERSE_MIGRATION);
         reverseMigrationTask.startSource();
@@ -138,6 +138,12 @@ public class PgsqlMigrationJob extends AbstractMigrationJob {
         } else if (MigrationStatusEnum.INCREMENTAL_MIGRATION_INTERRUPTED.equals(currentStatus)
                 || MigrationStatusEnum.INCREMENTAL_MIGRATION_RUNNING.equals(currentStatus)) {
             if (!migrationStopIndicator.isStopped()) {
+                if (MigrationStatusEnum.INCREMENTAL_MIGRATION_RUNNING.equals(currentStatus)
+                        && incrementalMigrationTask.restartInPlace()) {
+                    LOGGER.info("Restart incremental migration successfully");
+                    return;
+                }
+
                 statusMonitor.setCurrentStatus(MigrationStatusEnum.INCREMENTAL_MIGRATION_STOPPING);
                 incrementalMigrationTask.stopTask();
                 statusMonitor.setCurrentStatus(MigrationStatusEnum.INCREMENTAL_MIGRATION_FINISHED);
@@ -254,6 +260,12 @@ public class PgsqlMigrationJob extends AbstractMigrationJob {
         } else if (MigrationStatusEnum.REVERSE_MIGRATION_INTERRUPTED.equals(currentStatus)
                 || MigrationStatusEnum.REVERSE_MIGRATION_RUNNING.equals(currentStatus)) {
             if (!migrationStopIndicator.isStopped()) {
+                if (MigrationStatusEnum.REVERSE_MIGRATION_RUNNING.equals(currentStatus)
+                        && reverseMigrationTask.restartInPlace()) {
+                    LOGGER.info("Restart reverse migration successfully");
+                    return;
+                }
+
                 statusMonitor.setCurrentStatus(MigrationStatusEnum.REVERSE_MIGRATION_STOPPING);
                 reverseMigrationTask.stopTask();
                 statusMonitor.setCurrentStatus(MigrationStatusEnum.REVERSE_MIGRATION_FINISHED);
@@ -296,7 +308,7 @@ public class PgsqlMigrationJob extends AbstractMigrationJob {
         PgsqlMigrationConfig migrationConfigDto = migrationJobConfig.getMigrationConfigDto();
         if (hasFullMigration) {
             fullMigrationTask = new FullReplicatePgsqlFullMigrationTask(taskWorkspace, migrationStopIndicator,
-                    migrationConfigDto, migrationJobConfig.getFullConfigBundle());
+                    migrationConfigDto, migrationJobConfig.getFullConfigBundle(), !hasIncrementalMigration);
         }
 
         if (hasIncrementalMigration) {
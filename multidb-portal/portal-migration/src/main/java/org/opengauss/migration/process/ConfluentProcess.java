@@ -13,6 +13,7 @@ import org.opengauss.migration.utils.ProcessUtils;
 import org.opengauss.migration.utils.ThreadUtils;
 
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * Confluent process
@@ -43,9 +44,10 @@ public class ConfluentProcess implements Process {
     @Override
     public void start() {
         try {
-            if (!isAlive()) {
+            if (ProcessRegistry.getInstance().recover(checkCommand).isEmpty()) {
                 String workDirPath = Portal.getInstance().getPortalTmpDirPath();
-                ProcessUtils.executeCommand(startCommand, workDirPath, logPath, startWaitTime);
+                ProcessUtils.executeCommand(startCommand, workDirPath, logPath, startWaitTime)
+                        .ifPresent(process -> ProcessRegistry.getInstance().register(checkCommand, process));
             } else {
                 LOGGER.info("Process {} is already started.", processName);
             }
@@ -64,6 +66,7 @@ public class ConfluentProcess implements Process {
             }
 
             waitProcessExit();
+            ProcessRegistry.getInstance().remove(checkCommand);
         }
     }
 
@@ -79,19 +82,9 @@ public class ConfluentProcess implements Process {
 
     @Override
     public boolean isAlive() {
-        try {
-            int commandPid = ProcessUtils.getCommandPid(checkCommand);
-            if (commandPid == -1) {
-                pid = ProcessUtils.getCommandPid(checkCommand);
-            } else {
-                pid = commandPid;
-            }
-
-            return pid != -1;
-        } catch (IOException | InterruptedException e) {
-            LOGGER.warn("Check {} status with error: {}", processName, e.getMessage());
-            return false;
-        }
+        Optional<ProcessHandle> processHandle = ProcessRegistry.getInstance().getProcess(checkCommand);
+        pid = processHandle.map(handle -> (int) handle.pid()).orElse(-1);
+        return processHandle.isPresent();
     }
 
     private void waitProcessExit() {
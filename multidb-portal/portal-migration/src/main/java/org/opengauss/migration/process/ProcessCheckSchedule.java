@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.migration.process;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Process check schedule.
+ * The check interval of a process doubles after each healthy check up to the max interval, and goes back
+ * to the min interval after an anomaly. A random jitter is added to each interval, so the checks of the
+ * tasks running on the same host do not happen at the same time.
+ *
+ * @since 2025/11/9
+ */
+class ProcessCheckSchedule {
+    /**
+     * Min check interval in milliseconds
+     */
+    static final long MIN_INTERVAL = 500L;
+
+    /**
+     * Max check interval in milliseconds
+     */
+    static final long MAX_INTERVAL = 8000L;
+
+    private static final double JITTER_RATIO = 0.2d;
+
+    private long interval = MIN_INTERVAL;
+    private long nextCheckTime;
+
+    /**
+     * Constructor, the first check is due immediately
+     */
+    ProcessCheckSchedule() {
+        this.nextCheckTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Whether the check is due
+     *
+     * @param now current time millis
+     * @return true if the check is due
+     */
+    boolean isDue(long now) {
+        return now >= nextCheckTime;
+    }
+
+    /**
+     * Get the time of the next check
+     *
+     * @return next check time millis
+     */
+    long getNextCheckTime() {
+        return nextCheckTime;
+    }
+
+    /**
+     * Record a check result and schedule the next check
+     *
+     * @param now current time millis
+     * @param isHealthy whether the process is healthy
+     */
+    void onChecked(long now, boolean isHealthy) {
+        interval = isHealthy ? Math.min(interval * 2, MAX_INTERVAL) : MIN_INTERVAL;
+        long jitter = (long) (ThreadLocalRandom.current().nextDouble() * interval * JITTER_RATIO);
+        nextCheckTime = now + interval + jitter;
+    }
+
+    /**
+     * Make the check due immediately and restart the back off from the min interval
+     */
+    void checkNow() {
+        interval = MIN_INTERVAL;
+        nextCheckTime = System.currentTimeMillis();
+    }
+}
@@ -14,28 +14,35 @@ import org.opengauss.migration.process.task.DebeziumProcess;
 import org.opengauss.migration.process.task.TaskProcess;
 import org.opengauss.migration.status.StatusMonitor;
 import org.opengauss.migration.tools.Kafka;
-import org.opengauss.migration.utils.ThreadUtils;
 
 import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 /**
- * process monitor
+ * process monitor, each process is checked on its own schedule, see {@link ProcessCheckSchedule}.
+ * All the processes are checked immediately when any process recorded by {@link ProcessRegistry} exits, including
+ * the processes started again after the monitor started.
  *
  * @since 2025/3/1
  */
 public class ProcessMonitor extends Thread {
     private static final Logger LOGGER = LogManager.getLogger(ProcessMonitor.class);
-    private static final int INTERVAL_TIME = 500;
-    private static final int MAX_NOT_MODIFIED_COUNT = 60;
+    private static final long MAX_NOT_MODIFIED_TIME = 30000L;
     private static final HashMap<String, Long> fileLastModifiedCache = new HashMap<>();
-    private static final HashMap<String, Integer> fileNotModifiedCountCache = new HashMap<>();
+    private static final HashMap<String, Long> fileModifiedObservedTimeCache = new HashMap<>();
 
     private final List<TaskProcess> taskProcessList = new CopyOnWriteArrayList<>();
     private final List<ConfluentProcess> confluentProcessList = new ArrayList<>();
+    private final Semaphore processExitSignal = new Semaphore(0);
+    private final Runnable processExitListener = processExitSignal::release;
+    private final Map<Process, ProcessCheckSchedule> checkScheduleMap = new IdentityHashMap<>();
 
     private volatile boolean isRunning = true;
     private StatusMonitor statusMonitor;
@@ -62,26 +69,38 @@ public class ProcessMonitor extends Thread {
     public void run() {
         Thread.currentThread().setUncaughtExceptionHandler(new ThreadExceptionHandler());
         confluentProcessList.addAll(Kafka.getInstance().getConfluentProcessList());
+        ProcessRegistry.getInstance().addExitListener(processExitListener);
+
         while (isRunning) {
-            ThreadUtils.sleep(500);
+            waitNextCheck();
 
+            long now = System.currentTimeMillis();
             for (TaskProcess taskProcess : taskProcessList) {
+                ProcessCheckSchedule schedule = getCheckSchedule(taskProcess);
+                if (!schedule.isDue(now)) {
+                    continue;
+                }
+
                 if (!taskProcess.checkStatus()) {
-                    taskProcessList.remove(taskProcess);
+                    removeTaskProcess(taskProcess);
                     processErrorHandler.handleTaskProcessError(taskProcess);
                     break;
                 }
 
                 if (taskProcess.isStopped()) {
-                    taskProcessList.remove(taskProcess);
+                    removeTaskProcess(taskProcess);
                 }
 
-                if (!isProcessFunctional(taskProcess)) {
-                    taskProcessList.remove(taskProcess);
+                long notModifiedTime = getStatusFileNotModifiedTime(taskProcess, now);
+                if (notModifiedTime >= MAX_NOT_MODIFIED_TIME) {
+                    LOGGER.error("Process '{}' status file is not modified for {} millis",
+                            taskProcess.getProcessName(), notModifiedTime);
+                    removeTaskProcess(taskProcess);
                     taskProcess.stop();
                     processErrorHandler.handleTaskProcessError(taskProcess);
                     break;
                 }
+                schedule.onChecked(now, notModifiedTime < ProcessCheckSchedule.MAX_INTERVAL);
             }
 
             if (statusMonitor.isFullMigrationStatus() || statusMonitor.isNotRunning()) {
@@ -89,12 +108,20 @@ public class ProcessMonitor extends Thread {
             }
 
             for (ConfluentProcess confluentProcess : confluentProcessList) {
+                ProcessCheckSchedule schedule = getCheckSchedule(confluentProcess);
+                if (!schedule.isDue(now)) {
+                    continue;
+                }
+
                 if (!confluentProcess.checkStatus()) {
+                    schedule.onChecked(now, false);
                     processErrorHandler.handleConfluentError();
                     break;
                 }
+                schedule.onChecked(now, true);
             }
         }
+        ProcessRegistry.getInstance().removeExitListener(processExitListener);
         LOGGER.info("Process monitor has stopped.");
     }
 
@@ -112,50 +139,86 @@ public class ProcessMonitor extends Thread {
      */
     public void addProcess(TaskProcess process) {
         taskProcessList.add(process);
+        getCheckSchedule(process);
+    }
+
+    private void waitNextCheck() {
+        try {
+            if (processExitSignal.tryAcquire(getNextCheckDelay(), TimeUnit.MILLISECONDS)) {
+                processExitSignal.drainPermits();
+                synchronized (checkScheduleMap) {
+                    checkScheduleMap.values().forEach(ProcessCheckSchedule::checkNow);
+                }
+            }
+        } catch (InterruptedException e) {
+            LOGGER.warn("Process monitor is interrupted, error: {}", e.getMessage());
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long getNextCheckDelay() {
+        long nextCheckTime = System.currentTimeMillis() + ProcessCheckSchedule.MAX_INTERVAL;
+        synchronized (checkScheduleMap) {
+            for (ProcessCheckSchedule schedule : checkScheduleMap.values()) {
+                nextCheckTime = Math.min(nextCheckTime, schedule.getNextCheckTime());
+            }
+        }
+        long delay = nextCheckTime - System.currentTimeMillis();
+        return Math.max(delay, ProcessCheckSchedule.MIN_INTERVAL);
+    }
+
+    private ProcessCheckSchedule getCheckSchedule(Process process) {
+        synchronized (checkScheduleMap) {
+            return checkScheduleMap.computeIfAbsent(process, key -> new ProcessCheckSchedule());
+        }
+    }
+
+    private void removeTaskProcess(TaskProcess taskProcess) {
+        taskProcessList.remove(taskProcess);
+        synchronized (checkScheduleMap) {
+            checkScheduleMap.remove(taskProcess);
+        }
     }
 
-    private boolean isProcessFunctional(TaskProcess process) {
+    private long getStatusFileNotModifiedTime(TaskProcess process, long now) {
         if (!(process instanceof DebeziumProcess)) {
-            return true;
+            return 0L;
         }
 
         String processName = process.getProcessName();
         if (ProcessNameConstants.DEBEZIUM_INCREMENTAL_CONNECT_SOURCE.equals(processName)) {
             String statusFilePath = DebeziumHelper.getIncrementalSourceStatusFilePath(process.getTaskWorkspace());
-            return isProcessStatusFileFunctional(processName, statusFilePath);
+            return getFileNotModifiedTime(statusFilePath, now);
         }
 
         if (ProcessNameConstants.DEBEZIUM_INCREMENTAL_CONNECT_SINK.equals(processName)) {
             String statusFilePath = DebeziumHelper.getIncrementalSinkStatusFilePath(process.getTaskWorkspace());
-            return isProcessStatusFileFunctional(processName, statusFilePath);
+            return getFileNotModifiedTime(statusFilePath, now);
         }
 
         if (ProcessNameConstants.DEBEZIUM_REVERSE_CONNECT_SOURCE.equals(processName)) {
             String statusFilePath = DebeziumHelper.getReverseSourceStatusFilePath(process.getTaskWorkspace());
-            return isProcessStatusFileFunctional(processName, statusFilePath);
+            return getFileNotModifiedTime(statusFilePath, now);
         }
 
         if (ProcessNameConstants.DEBEZIUM_REVERSE_CONNECT_SINK.equals(processName)) {
             String statusFilePath = DebeziumHelper.getReverseSinkStatusFilePath(process.getTaskWorkspace());
-            return isProcessStatusFileFunctional(processName, statusFilePath);
+            return getFileNotModifiedTime(statusFilePath, now);
         }
-        return true;
+        return 0L;
     }
 
-    private boolean isProcessStatusFileFunctional(String processName, String statusFilePath) {
-        if (isFileModified(statusFilePath)) {
-            fileNotModifiedCountCache.put(statusFilePath, 0);
-        } else {
-            Integer cacheCount = fileNotModifiedCountCache.getOrDefault(statusFilePath, 0);
-            if (cacheCount >= MAX_NOT_MODIFIED_COUNT) {
-                LOGGER.error("Process '{}' status file is not modified for {} millis", processName,
-                        INTERVAL_TIME * MAX_NOT_MODIFIED_COUNT);
-                fileNotModifiedCountCache.put(statusFilePath, 0);
-                return false;
-            }
-            fileNotModifiedCountCache.put(statusFilePath, cacheCount + 1);
+    private long getFileNotModifiedTime(String filePath, long now) {
+        if (isFileModified(filePath)) {
+            fileModifiedObservedTimeCache.put(filePath, now);
+            return 0L;
+        }
+
+        long notModifiedTime = now - fileModifiedObservedTimeCache.getOrDefault(filePath, now);
+        if (notModifiedTime >= MAX_NOT_MODIFIED_TIME) {
+            fileModifiedObservedTimeCache.put(filePath, now);
         }
-        return true;
+        return notModifiedTime;
     }
 
     private boolean isFileModified(String filePath) {
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.migration.process;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opengauss.migration.utils.ProcessUtils;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+/**
+ * Process registry, records the process handles of the started processes by their check commands.
+ * The handle is registered from the spawned process when the process is started. The process table is only scanned
+ * to recover a process without a handle: on the first lookup after the portal is restarted, once when a registered
+ * process exits, when the command detaches the tool process from the spawned shell, for example by "nohup ... &",
+ * and on an explicit {@link #recover(String)}. A scan that finds no process is cached for one check interval, so
+ * polling a process that has exited does not scan the process table on every poll.
+ * The exit listeners are attached to every handle the registry records, so a restarted process is watched as well.
+ *
+ * @since 2025/11/4
+ */
+public class ProcessRegistry {
+    private static final Logger LOGGER = LogManager.getLogger(ProcessRegistry.class);
+    private static final long NOT_FOUND_CACHE_MILLIS = ProcessCheckSchedule.MAX_INTERVAL;
+    private static volatile ProcessRegistry instance;
+
+    private final Map<String, ProcessHandle> processHandleMap = new ConcurrentHashMap<>();
+    private final Map<String, Long> notFoundTimeMap = new ConcurrentHashMap<>();
+    private final List<Runnable> exitListeners = new CopyOnWriteArrayList<>();
+
+    private ProcessRegistry() {
+    }
+
+    /**
+     * Get instance of ProcessRegistry
+     *
+     * @return instance of ProcessRegistry
+     */
+    public static ProcessRegistry getInstance() {
+        if (instance == null) {
+            synchronized (ProcessRegistry.class) {
+                if (instance == null) {
+                    instance = new ProcessRegistry();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Register the tool process spawned for the check command. The spawned process is the shell running the start
+     * command, the tool process is the shell itself if the shell executes the command directly, otherwise it is one
+     * of the descendants of the shell. If the tool process is detached from the shell, it is recovered from the
+     * process table once.
+     *
+     * @param checkCommand process check command
+     * @param process the spawned process
+     */
+    public void register(String checkCommand, java.lang.Process process) {
+        ProcessHandle spawnedHandle = process.toHandle();
+        Optional<ProcessHandle> toolHandle = Stream.concat(Stream.of(spawnedHandle), spawnedHandle.descendants())
+                .filter(ProcessHandle::isAlive)
+                .filter(handle -> handle.info().commandLine().map(line -> line.contains(checkCommand)).orElse(false))
+                .max(Comparator.comparingLong(ProcessHandle::pid));
+        if (toolHandle.isPresent()) {
+            putHandle(checkCommand, toolHandle.get());
+            LOGGER.debug("Registered process {} for command: {}", toolHandle.get().pid(), checkCommand);
+        } else {
+            LOGGER.debug("Spawned process {} is detached from command: {}", spawnedHandle.pid(), checkCommand);
+            recover(checkCommand);
+        }
+    }
+
+    /**
+     * Get the alive process of the check command
+     *
+     * @param checkCommand process check command
+     * @return process handle, empty if the process is not alive
+     */
+    public Optional<ProcessHandle> getProcess(String checkCommand) {
+        ProcessHandle processHandle = processHandleMap.get(checkCommand);
+        if (processHandle != null) {
+            if (processHandle.isAlive()) {
+                return Optional.of(processHandle);
+            }
+            processHandleMap.remove(checkCommand, processHandle);
+            return recover(checkCommand);
+        }
+
+        Long notFoundTime = notFoundTimeMap.get(checkCommand);
+        if (notFoundTime != null && System.currentTimeMillis() - notFoundTime < NOT_FOUND_CACHE_MILLIS) {
+            return Optional.empty();
+        }
+        return recover(checkCommand);
+    }
+
+    /**
+     * Recover the process of the check command from the process table, called when the process may have been
+     * started without being registered, for example before starting or resuming it
+     *
+     * @param checkCommand process check command
+     * @return process handle, empty if the process is not alive
+     */
+    public Optional<ProcessHandle> recover(String checkCommand) {
+        Optional<ProcessHandle> handleOptional;
+        try {
+            handleOptional = ProcessUtils.findProcessByCommandSnippet(checkCommand);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to find process of command: {}, error: {}", checkCommand, e.getMessage());
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+
+        if (handleOptional.isPresent()) {
+            putHandle(checkCommand, handleOptional.get());
+            LOGGER.debug("Recovered process {} for command: {}", handleOptional.get().pid(), checkCommand);
+        } else {
+            notFoundTimeMap.put(checkCommand, System.currentTimeMillis());
+        }
+        return handleOptional;
+    }
+
+    /**
+     * Add the listener called when any recorded process exits, including the processes recorded later
+     *
+     * @param exitListener exit listener
+     */
+    public void addExitListener(Runnable exitListener) {
+        exitListeners.add(exitListener);
+        processHandleMap.values().forEach(handle -> handle.onExit().thenRun(exitListener));
+    }
+
+    /**
+     * Remove the exit listener, the listener is no longer attached to the processes recorded later
+     *
+     * @param exitListener exit listener
+     */
+    public void removeExitListener(Runnable exitListener) {
+        exitListeners.remove(exitListener);
+    }
+
+    /**
+     * Remove the recorded process of the check command, called when the process is stopped
+     *
+     * @param checkCommand process check command
+     */
+    public void remove(String checkCommand) {
+        processHandleMap.remove(checkCommand);
+    }
+
+    private void putHandle(String checkCommand, ProcessHandle handle) {
+        notFoundTimeMap.remove(checkCommand);
+        ProcessHandle previousHandle = processHandleMap.put(checkCommand, handle);
+        if (handle.equals(previousHandle)) {
+            return;
+        }
+
+        CompletableFuture<ProcessHandle> exitFuture = handle.onExit();
+        exitListeners.forEach(exitFuture::thenRun);
+    }
+}
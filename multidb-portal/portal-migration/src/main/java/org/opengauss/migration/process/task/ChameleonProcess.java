@@ -23,6 +23,7 @@ import org.opengauss.migration.utils.ThreadUtils;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * chameleon process
@@ -53,10 +54,11 @@ public class ChameleonProcess extends TaskProcess {
             Map<String, String> env = generateChameleonProcessEnv();
             if (ChameleonConstants.ORDER_DETACH_REPLICA.equals(chameleonOrder)) {
                 String[] interactArgs = new String[]{"YES"};
-                ProcessUtils.executeInteractiveCommand(startCommand, workDirPath, logPath, env, interactArgs);
+                registerProcess(Optional.of(
+                        ProcessUtils.executeInteractiveCommand(startCommand, workDirPath, logPath, env, interactArgs)));
             } else {
-                ProcessUtils.executeCommand(startCommand, workDirPath, logPath,
-                        ChameleonConstants.WAIT_PROCESS_START_MILLIS, env);
+                registerProcess(ProcessUtils.executeCommand(startCommand, workDirPath, logPath,
+                        ChameleonConstants.WAIT_PROCESS_START_MILLIS, env));
             }
             LOGGER.info("{} started", processName);
             LOGGER.info("{} is running", processName);
@@ -36,9 +36,18 @@ public class DataCheckerProcess extends TaskProcess {
     private final DataCheckerProcessType processType;
     private final ConfigFile processConfig;
     private final boolean isFullMigration;
+    private final String signFilePath;
 
     public DataCheckerProcess(String processName, TaskWorkspace taskWorkspace, ConfigFile processConfig,
                               DataCheckerProcessType processType, String jvmPrefixOptions, boolean isFullMigration) {
+        this(processName, taskWorkspace, processConfig, processType, jvmPrefixOptions, isFullMigration,
+                isFullMigration ? DataCheckerHelper.getFullProcessSignFilePath(taskWorkspace)
+                        : DataCheckerHelper.getIncrementalProcessSignFilePath(taskWorkspace));
+    }
+
+    public DataCheckerProcess(String processName, TaskWorkspace taskWorkspace, ConfigFile processConfig,
+                              DataCheckerProcessType processType, String jvmPrefixOptions, boolean isFullMigration,
+                              String signFilePath) {
         super(processName, taskWorkspace,
                 DataCheckerHelper.generateProcessStartCommand(processType, processConfig.getFilePath(),
                         jvmPrefixOptions),
@@ -47,6 +56,7 @@ public class DataCheckerProcess extends TaskProcess {
         this.processType = processType;
         this.processConfig = processConfig;
         this.isFullMigration = isFullMigration;
+        this.signFilePath = signFilePath;
     }
 
     @Override
@@ -54,8 +64,8 @@ public class DataCheckerProcess extends TaskProcess {
         if (!isStarted) {
             String workDirPath = taskWorkspace.getHomeDir();
             try {
-                ProcessUtils.executeCommand(startCommand, workDirPath, DataCheckerConstants.WAIT_PROCESS_START_MILLIS,
-                        generateDataCheckProcessEnv());
+                registerProcess(ProcessUtils.executeCommand(startCommand, workDirPath,
+                        DataCheckerConstants.WAIT_PROCESS_START_MILLIS, generateDataCheckProcessEnv()));
                 LOGGER.info("{} started", processName);
                 LOGGER.info("{} is running", processName);
             } catch (IOException | InterruptedException e) {
@@ -120,8 +130,6 @@ public class DataCheckerProcess extends TaskProcess {
     }
 
     private boolean checkExitSign() {
-        String signFilePath = isFullMigration ? DataCheckerHelper.getFullProcessSignFilePath(taskWorkspace)
-                : DataCheckerHelper.getIncrementalProcessSignFilePath(taskWorkspace);
         try {
             String fileContents = FileUtils.readFileContents(signFilePath);
             String stopSign = DataCheckerHelper.getProcessStopSign(processType);
@@ -46,8 +46,8 @@ public class DebeziumProcess extends TaskProcess {
         if (!isStarted) {
             try {
                 String workDirPath = taskWorkspace.getHomeDir();
-                ProcessUtils.executeCommand(startCommand, workDirPath, DebeziumConstants.WAIT_PROCESS_START_MILLIS,
-                        processEnv);
+                registerProcess(ProcessUtils.executeCommand(startCommand, workDirPath,
+                        DebeziumConstants.WAIT_PROCESS_START_MILLIS, processEnv));
                 LOGGER.info("{} started", processName);
                 LOGGER.info("{} is running", processName);
             } catch (IOException | InterruptedException e) {
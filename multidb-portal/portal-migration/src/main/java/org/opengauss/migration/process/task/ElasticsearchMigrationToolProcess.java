@@ -49,8 +49,8 @@ public class ElasticsearchMigrationToolProcess extends TaskProcess {
         String logPath = ElasticsearchMigrationToolHelper.getFullMigrationLogPath(taskWorkspace, indexName);
 
         try {
-            ProcessUtils.executeCommand(startCommand, workDirPath, logPath,
-                    ElasticsearchMigrationToolConstants.WAIT_PROCESS_START_MILLIS, processEnv);
+            registerProcess(ProcessUtils.executeCommand(startCommand, workDirPath, logPath,
+                    ElasticsearchMigrationToolConstants.WAIT_PROCESS_START_MILLIS, processEnv));
             LOGGER.info("Elasticsearch index '{}' table '{}' migration process started", indexName, tableName);
         } catch (IOException | InterruptedException e) {
             throw new MigrationException("Failed to start Elasticsearch migration process, index: " + indexName, e);
@@ -65,8 +65,8 @@ public class FullReplicateProcess extends TaskProcess {
         String logPath = FullReplicateHelper.generateFullMigrationLogPath(taskWorkspace);
 
         try {
-            ProcessUtils.executeCommand(startCommand, workDirPath, logPath,
-                    FullReplicateConstants.WAIT_PROCESS_START_MILLIS, generateProcessEnv());
+            registerProcess(ProcessUtils.executeCommand(startCommand, workDirPath, logPath,
+                    FullReplicateConstants.WAIT_PROCESS_START_MILLIS, generateProcessEnv()));
             LOGGER.info("{} started", processName);
             LOGGER.info("{} is running", processName);
         } catch (IOException | InterruptedException e) {
@@ -49,8 +49,8 @@ public class MilvusMigrationToolProcess extends TaskProcess {
         String logPath = MilvusMigrationToolHelper.generateFullMigrationLogPath(taskWorkspace, collectionName);
 
         try {
-            ProcessUtils.executeCommand(startCommand, workDirPath, logPath,
-                    MilvusMigrationToolConstants.WAIT_PROCESS_START_MILLIS, processEnv);
+            registerProcess(ProcessUtils.executeCommand(startCommand, workDirPath, logPath,
+                    MilvusMigrationToolConstants.WAIT_PROCESS_START_MILLIS, processEnv));
             LOGGER.info("Milvus collection '{}' to openGauss table '{}' migration process started",
                     collectionName, tableName);
         } catch (IOException | InterruptedException e) {
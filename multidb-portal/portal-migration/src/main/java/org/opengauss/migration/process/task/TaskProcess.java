@@ -9,10 +9,12 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opengauss.domain.model.TaskWorkspace;
 import org.opengauss.migration.process.Process;
+import org.opengauss.migration.process.ProcessRegistry;
 import org.opengauss.migration.utils.ProcessUtils;
 import org.opengauss.migration.utils.ThreadUtils;
 
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * task process
@@ -83,24 +85,33 @@ public abstract class TaskProcess implements Process {
             }
 
             waitProcessExit();
+            ProcessRegistry.getInstance().remove(checkCommand);
         }
     }
 
     @Override
     public boolean isAlive() {
-        try {
-            int commandPid = ProcessUtils.getCommandPid(checkCommand);
-            if (commandPid == -1) {
-                pid = ProcessUtils.getCommandPid(checkCommand);
-            } else {
-                pid = commandPid;
-            }
+        Optional<ProcessHandle> processHandle = ProcessRegistry.getInstance().getProcess(checkCommand);
+        pid = processHandle.map(handle -> (int) handle.pid()).orElse(-1);
+        return processHandle.isPresent();
+    }
 
-            return pid != -1;
-        } catch (IOException | InterruptedException e) {
-            LOGGER.warn("Check {} status with error: {}", processName, e.getMessage());
-            return false;
-        }
+    /**
+     * Recover the process from the process table, so a process that is running but not recorded is found again
+     *
+     * @return true if the process is alive
+     */
+    public boolean recover() {
+        return ProcessRegistry.getInstance().recover(checkCommand).isPresent();
+    }
+
+    /**
+     * Record the spawned process of the start command, so the liveness checks do not scan the process table
+     *
+     * @param spawnedProcess the spawned process, empty if the start command is not executed
+     */
+    protected void registerProcess(Optional<java.lang.Process> spawnedProcess) {
+        spawnedProcess.ifPresent(process -> ProcessRegistry.getInstance().register(checkCommand, process));
     }
 
     private void waitProcessExit() {
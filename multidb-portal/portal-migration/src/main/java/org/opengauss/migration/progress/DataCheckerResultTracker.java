@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.migration.progress;
+
+import com.alibaba.fastjson2.JSON;
+import com.alibaba.fastjson2.JSONException;
+import com.alibaba.fastjson2.JSONObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opengauss.migration.progress.model.CheckEntry;
+import org.opengauss.utils.FileUtils;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Data-checker result tracker.
+ * The data-checker result file is a sequence of json objects separated by comma, the new results are always
+ * appended to the end of the file. This tracker remembers the read offset of the result file and only parses
+ * the newly appended results in bounded chunks, and the new results are appended to the json array in the status
+ * file. Like the full parse of the result file, every result is kept, a table reported again is listed again.
+ *
+ * @param <T> check entry type
+ * @since 2025/11/5
+ */
+class DataCheckerResultTracker<T extends CheckEntry> {
+    private static final Logger LOGGER = LogManager.getLogger(DataCheckerResultTracker.class);
+    private static final int READ_CHUNK_SIZE = 1024 * 1024;
+
+    private final String resultFilePath;
+    private final String statusFilePath;
+    private final Function<JSONObject, T> entryConverter;
+    private final List<T> entries = new ArrayList<>();
+
+    private long readOffset = 0L;
+    private int writtenCount = 0;
+
+    /**
+     * Constructor
+     *
+     * @param resultFilePath data-checker result file path
+     * @param statusFilePath status file path to write the check entries
+     * @param entryConverter convert the json object in the result file to check entry
+     */
+    DataCheckerResultTracker(String resultFilePath, String statusFilePath, Function<JSONObject, T> entryConverter) {
+        this.resultFilePath = resultFilePath;
+        this.statusFilePath = statusFilePath;
+        this.entryConverter = entryConverter;
+    }
+
+    /**
+     * Read the newly appended results and update the status file
+     */
+    void update() {
+        Path resultPath = Path.of(resultFilePath);
+        if (!Files.exists(resultPath)) {
+            return;
+        }
+
+        try {
+            List<T> appendedEntries = new ArrayList<>();
+            boolean isRewriteNeeded = readAppendedEntries(resultPath, appendedEntries);
+            if (isRewriteNeeded || (writtenCount == 0 && !entries.isEmpty())) {
+                rewriteStatusFile();
+            } else if (!appendedEntries.isEmpty()) {
+                appendStatusFile(appendedEntries);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Failed to update data-checker result status, file: {}, error: {}",
+                    resultFilePath, e.getMessage());
+        }
+    }
+
+    private boolean readAppendedEntries(Path resultPath, List<T> appendedEntries) throws IOException {
+        boolean isRewriteNeeded = false;
+        try (FileChannel channel = FileChannel.open(resultPath, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < readOffset) {
+                LOGGER.info("Data-checker result file is truncated, read it from the beginning: {}", resultFilePath);
+                readOffset = 0L;
+                entries.clear();
+                isRewriteNeeded = true;
+            }
+
+            // the bytes after the last complete object are kept and parsed again with the next chunk
+            byte[] pendingBytes = new byte[0];
+            long position = readOffset;
+            ByteBuffer buffer = ByteBuffer.allocate(READ_CHUNK_SIZE);
+            while (position < fileSize) {
+                buffer.clear();
+                buffer.limit((int) Math.min(READ_CHUNK_SIZE, fileSize - position));
+                int readCount = channel.read(buffer, position);
+                if (readCount <= 0) {
+                    break;
+                }
+                position += readCount;
+
+                byte[] bytes = Arrays.copyOf(pendingBytes, pendingBytes.length + readCount);
+                System.arraycopy(buffer.array(), 0, bytes, pendingBytes.length, readCount);
+                int consumed = parseCompleteObjects(bytes, bytes.length, appendedEntries);
+                readOffset += consumed;
+                pendingBytes = Arrays.copyOfRange(bytes, consumed, bytes.length);
+            }
+        }
+
+        entries.addAll(appendedEntries);
+        return isRewriteNeeded;
+    }
+
+    private int parseCompleteObjects(byte[] bytes, int length, List<T> entries) {
+        int consumed = 0;
+        int objectStart = -1;
+        int depth = 0;
+        boolean isInString = false;
+        boolean isEscaped = false;
+        for (int i = 0; i < length; i++) {
+            byte b = bytes[i];
+            if (isInString) {
+                if (isEscaped) {
+                    isEscaped = false;
+                } else if (b == '\\') {
+                    isEscaped = true;
+                } else if (b == '"') {
+                    isInString = false;
+                }
+                continue;
+            }
+
+            if (b == '"') {
+                isInString = true;
+            } else if (b == '{') {
+                if (depth == 0) {
+                    objectStart = i;
+                }
+                depth++;
+            } else if (b == '}' && depth > 0) {
+                depth--;
+                if (depth == 0) {
+                    addEntry(bytes, objectStart, i - objectStart + 1, entries);
+                    consumed = i + 1;
+                }
+            } else if (depth == 0) {
+                consumed = i + 1;
+            }
+        }
+        return consumed;
+    }
+
+    private void addEntry(byte[] bytes, int offset, int length, List<T> entries) {
+        try {
+            JSONObject jsonObject = JSON.parseObject(bytes, offset, length, StandardCharsets.UTF_8);
+            if (jsonObject != null) {
+                entries.add(entryConverter.apply(jsonObject));
+            }
+        } catch (JSONException e) {
+            LOGGER.warn("Failed to parse data-checker result entry, error: {}", e.getMessage());
+        }
+    }
+
+    private void rewriteStatusFile() throws IOException {
+        List<T> entryList = new ArrayList<>(entries);
+        FileUtils.writeToFile(statusFilePath, JSON.toJSONString(entryList), false);
+        writtenCount = entryList.size();
+    }
+
+    private void appendStatusFile(List<T> appendedEntries) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (T entry : appendedEntries) {
+            builder.append(',').append(JSON.toJSONString(entry));
+        }
+        builder.append(']');
+
+        try (RandomAccessFile statusFile = new RandomAccessFile(statusFilePath, "rw")) {
+            long length = statusFile.length();
+            if (length > 0) {
+                statusFile.seek(length - 1);
+                if (statusFile.read() == ']') {
+                    statusFile.seek(length - 1);
+                    statusFile.write(builder.toString().getBytes(StandardCharsets.UTF_8));
+                    writtenCount += appendedEntries.size();
+                    return;
+                }
+            }
+        }
+        rewriteStatusFile();
+    }
+}
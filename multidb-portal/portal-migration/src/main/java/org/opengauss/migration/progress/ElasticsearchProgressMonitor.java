@@ -58,6 +58,11 @@ public class ElasticsearchProgressMonitor extends ProgressMonitor {
         saveQueuedProgress(failedIndexQueue, failedFilePath);
     }
 
+    @Override
+    List<String> getWatchDirPaths() {
+        return List.of();
+    }
+
     @Override
     void readFullDataCheckProgress() {
     }
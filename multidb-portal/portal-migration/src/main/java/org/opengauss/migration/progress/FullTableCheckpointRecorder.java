@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.migration.progress;
+
+import com.alibaba.fastjson2.JSON;
+import com.alibaba.fastjson2.JSONException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opengauss.domain.model.TaskWorkspace;
+import org.opengauss.migration.helper.FullMigrationCheckpointHelper;
+import org.opengauss.migration.helper.MigrationStatusHelper;
+import org.opengauss.migration.progress.model.FullEntry;
+import org.opengauss.migration.progress.model.FullTableCheckpoint;
+import org.opengauss.utils.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Full table checkpoint recorder.
+ * Keeps the ledger of the tables whose data has been migrated completely by the table migration of one full
+ * migration task, derived from the table progress of the full migration tool. The ledger is kept while the table
+ * migration is running and deleted when it exits successfully, so a ledger found by the next run means the previous
+ * table migration did not finish, and only the unfinished tables have to be migrated again. The number of the source
+ * tables is recorded in the ledger, and a ledger that lists fewer tables is not resumed, because the tables the tool
+ * has not reported yet are in neither list.
+ *
+ * @since 2025/11/14
+ */
+public class FullTableCheckpointRecorder {
+    private static final Logger LOGGER = LogManager.getLogger(FullTableCheckpointRecorder.class);
+
+    private final String checkpointFilePath;
+    private final String fingerprint;
+    private final Map<String, FullEntry> tables = new LinkedHashMap<>();
+    private final Map<String, FullEntry> completedTables = new LinkedHashMap<>();
+    private int sourceTableCount = -1;
+    private boolean isRecording = false;
+
+    public FullTableCheckpointRecorder(TaskWorkspace taskWorkspace, String fingerprint) {
+        this.checkpointFilePath = MigrationStatusHelper.generateFullTableCheckpointFilePath(taskWorkspace);
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Read the checkpoint of the previous unfinished table migration with the same fingerprint
+     *
+     * @return the previous checkpoint if the table migration can be resumed from it, otherwise empty
+     */
+    public synchronized Optional<FullTableCheckpoint> readPreviousCheckpoint() {
+        if (!new File(checkpointFilePath).exists()) {
+            return Optional.empty();
+        }
+
+        try {
+            FullTableCheckpoint checkpoint = JSON.parseObject(FileUtils.readFileContents(checkpointFilePath),
+                    FullTableCheckpoint.class);
+            if (checkpoint == null || !fingerprint.equals(checkpoint.getFingerprint())) {
+                LOGGER.info("Migration config has been changed, full migration checkpoint is ignored");
+                return Optional.empty();
+            }
+            if (checkpoint.getCompletedTables().isEmpty()) {
+                return Optional.empty();
+            }
+            if (checkpoint.getSourceTableCount() <= 0
+                    || checkpoint.getTables().size() < checkpoint.getSourceTableCount()) {
+                // the tables not reported yet by the previous run would be skipped if the migration is resumed
+                LOGGER.info("The table list of the previous run is incomplete, full migration checkpoint is ignored");
+                return Optional.empty();
+            }
+            return Optional.of(checkpoint);
+        } catch (IOException | JSONException e) {
+            LOGGER.warn("Failed to read full migration checkpoint file, error: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Start recording the table checkpoint of the full migration
+     *
+     * @param resumedCheckpoint the previous checkpoint the table migration is resumed from, null if not resumed
+     * @param sourceTableCount the number of the tables to migrate on the source database, -1 if it is unknown
+     */
+    public synchronized void start(FullTableCheckpoint resumedCheckpoint, int sourceTableCount) {
+        tables.clear();
+        completedTables.clear();
+        this.sourceTableCount = sourceTableCount;
+        isRecording = true;
+        if (resumedCheckpoint != null) {
+            resumedCheckpoint.getTables().forEach(entry ->
+                    tables.put(FullMigrationCheckpointHelper.generateTableKey(entry), entry));
+            resumedCheckpoint.getCompletedTables().forEach(entry ->
+                    completedTables.put(FullMigrationCheckpointHelper.generateTableKey(entry), entry));
+            LOGGER.info("Resume full migration from checkpoint, completed tables: {}, unfinished tables: {}",
+                    completedTables.size(), tables.size() - completedTables.size());
+        }
+        writeCheckpoint();
+    }
+
+    /**
+     * Record the table progress of the full migration tool into the checkpoint
+     *
+     * @param tableList table progress entry list
+     * @return the table progress entry list, with the tables completed by the previous runs appended
+     */
+    public synchronized List<FullEntry> recordTableProgress(List<FullEntry> tableList) {
+        if (tableList == null) {
+            return tableList;
+        }
+
+        boolean isChanged = false;
+        for (FullEntry entry : tableList) {
+            String tableKey = FullMigrationCheckpointHelper.generateTableKey(entry);
+            if (tables.putIfAbsent(tableKey, entry) == null) {
+                isChanged = true;
+            }
+            if (FullMigrationCheckpointHelper.isCompleted(entry) && completedTables.put(tableKey, entry) == null) {
+                isChanged = true;
+            }
+        }
+        if (isChanged && isRecording) {
+            writeCheckpoint();
+        }
+
+        List<FullEntry> result = new ArrayList<>(tableList);
+        Map<String, FullEntry> previousCompletedTables = new LinkedHashMap<>(completedTables);
+        tableList.forEach(entry ->
+                previousCompletedTables.remove(FullMigrationCheckpointHelper.generateTableKey(entry)));
+        result.addAll(previousCompletedTables.values());
+        return result;
+    }
+
+    /**
+     * Get the names of the tables whose data has been migrated completely, including the tables completed by the
+     * previous runs
+     *
+     * @return completed table names
+     */
+    public synchronized List<String> getCompletedTableNames() {
+        return completedTables.values().stream().map(FullEntry::getName).toList();
+    }
+
+    /**
+     * Finish the checkpoint when the table migration exits successfully, the checkpoint file is deleted
+     */
+    public synchronized void finish() {
+        if (!isRecording) {
+            return;
+        }
+
+        isRecording = false;
+        try {
+            FileUtils.deletePath(checkpointFilePath);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to delete full migration checkpoint file, error: {}", e.getMessage());
+        }
+    }
+
+    private void writeCheckpoint() {
+        FullTableCheckpoint checkpoint = new FullTableCheckpoint();
+        checkpoint.setFingerprint(fingerprint);
+        checkpoint.setSourceTableCount(sourceTableCount);
+        checkpoint.setTables(new ArrayList<>(tables.values()));
+        checkpoint.setCompletedTables(new ArrayList<>(completedTables.values()));
+        try {
+            FileUtils.writeToFile(checkpointFilePath, JSON.toJSONString(checkpoint), false);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write full migration checkpoint file, error: {}", e.getMessage());
+        }
+    }
+}
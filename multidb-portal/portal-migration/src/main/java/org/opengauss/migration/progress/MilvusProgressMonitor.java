@@ -58,6 +58,11 @@ public class MilvusProgressMonitor extends ProgressMonitor {
         saveQueuedProgress(failedCollectionQueue, failedFilePath);
     }
 
+    @Override
+    List<String> getWatchDirPaths() {
+        return List.of();
+    }
+
     @Override
     void readFullDataCheckProgress() {
     }
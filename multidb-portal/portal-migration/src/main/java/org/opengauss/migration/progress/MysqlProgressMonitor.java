@@ -5,7 +5,6 @@
 package org.opengauss.migration.progress;
 
 import com.alibaba.fastjson2.JSON;
-import com.alibaba.fastjson2.JSONArray;
 import com.alibaba.fastjson2.JSONObject;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -20,11 +19,12 @@ import org.opengauss.migration.progress.model.FullEntry;
 import org.opengauss.migration.progress.model.FullTotalInfo;
 import org.opengauss.migration.progress.model.tool.ChameleonStatusEntry;
 import org.opengauss.migration.status.StatusMonitor;
+import org.opengauss.migration.tools.Chameleon;
 import org.opengauss.utils.FileUtils;
 import org.opengauss.utils.StringUtils;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,8 +36,39 @@ import java.util.Optional;
 public class MysqlProgressMonitor extends ProgressMonitor {
     private static final Logger LOGGER = LogManager.getLogger(MysqlProgressMonitor.class);
 
+    private final DataCheckerResultTracker<CheckEntry> fullCheckSuccessTracker;
+    private final DataCheckerResultTracker<CheckFailEntry> fullCheckFailedTracker;
+    private final String chameleonOrderStatusFilePrefix;
+
     MysqlProgressMonitor(StatusMonitor statusMonitor, TaskWorkspace taskWorkspace) {
         super(statusMonitor, taskWorkspace);
+        this.fullCheckSuccessTracker = new DataCheckerResultTracker<>(
+                DataCheckerHelper.getFullCheckResultSuccessFilePath(taskWorkspace),
+                MigrationStatusHelper.generateFullCheckSuccessObjectStatusFilePath(taskWorkspace),
+                this::toCheckEntry);
+        this.fullCheckFailedTracker = new DataCheckerResultTracker<>(
+                DataCheckerHelper.getFullCheckResultFailedFilePath(taskWorkspace),
+                MigrationStatusHelper.generateFullCheckFailedObjectStatusFilePath(taskWorkspace),
+                this::toCheckFailEntry);
+        this.chameleonOrderStatusFilePrefix = Path.of(ChameleonHelper.generateOrderStatusFilePath(taskWorkspace, ""))
+                .getFileName().toString();
+    }
+
+    @Override
+    List<String> getWatchDirPaths() {
+        List<String> result = super.getWatchDirPaths();
+        result.add(Chameleon.getInstance().getChameleonHomeDirPath());
+        return result;
+    }
+
+    @Override
+    boolean isWatchedFile(Path file) {
+        // the chameleon home directory is shared by all the tasks, only the order status files of this task count
+        Path chameleonHomeDir = Path.of(Chameleon.getInstance().getChameleonHomeDirPath());
+        if (chameleonHomeDir.equals(file.getParent())) {
+            return file.getFileName().toString().startsWith(chameleonOrderStatusFilePrefix);
+        }
+        return super.isWatchedFile(file);
     }
 
     @Override
@@ -77,12 +108,12 @@ public class MysqlProgressMonitor extends ProgressMonitor {
     void readFullDataCheckProgress() {
         String checkResultSuccessFilePath = DataCheckerHelper.getFullCheckResultSuccessFilePath(taskWorkspace);
         if (isFileModified(checkResultSuccessFilePath)) {
-            readFullCheckSuccessProgress(checkResultSuccessFilePath);
+            fullCheckSuccessTracker.update();
         }
 
         String checkResultFailedFilePath = DataCheckerHelper.getFullCheckResultFailedFilePath(taskWorkspace);
         if (isFileModified(checkResultFailedFilePath)) {
-            readFullCheckFailedProgress(checkResultFailedFilePath);
+            fullCheckFailedTracker.update();
         }
     }
 
@@ -96,60 +127,6 @@ public class MysqlProgressMonitor extends ProgressMonitor {
         super.readDebeziumReverseMigrationProgress();
     }
 
-    private void readFullCheckSuccessProgress(String filePath) {
-        Optional<JSONArray> successArrayOptional = DataCheckerHelper.parseDataCheckerStatusFile(filePath);
-        if (successArrayOptional.isEmpty()) {
-            return;
-        }
-
-        List<CheckEntry> checkEntryList = new ArrayList<>();
-        JSONArray successArray = successArrayOptional.get();
-        for (int i = 0; i < successArray.size(); i++) {
-            JSONObject jsonObj = successArray.getJSONObject(i);
-            CheckEntry checkEntry = new CheckEntry();
-            checkEntry.setSchema(jsonObj.getString("schema"));
-            checkEntry.setName(jsonObj.getString("table"));
-            checkEntryList.add(checkEntry);
-        }
-
-        try {
-            String statusPath = MigrationStatusHelper.generateFullCheckSuccessObjectStatusFilePath(taskWorkspace);
-            FileUtils.writeToFile(statusPath, JSON.toJSONString(checkEntryList), false);
-        } catch (IOException e) {
-            LOGGER.warn("Failed to write full data check success status, error: {}", e.getMessage());
-        }
-    }
-
-    private void readFullCheckFailedProgress(String filePath) {
-        Optional<JSONArray> failedArrayOptional = DataCheckerHelper.parseDataCheckerStatusFile(filePath);
-        if (failedArrayOptional.isEmpty()) {
-            return;
-        }
-
-        List<CheckFailEntry> checkFailEntryList = new ArrayList<>();
-        JSONArray failedArray = failedArrayOptional.get();
-        for (int i = 0; i < failedArray.size(); i++) {
-            JSONObject jsonObj = failedArray.getJSONObject(i);
-            CheckFailEntry checkFailEntry = new CheckFailEntry();
-            String schema = jsonObj.getString("schema");
-            String table = jsonObj.getString("table");
-            String repairPath = DataCheckerHelper.generateFullCheckResultRepairFilePath(taskWorkspace, schema, table);
-
-            checkFailEntry.setSchema(schema);
-            checkFailEntry.setName(table);
-            checkFailEntry.setError(jsonObj.getString("message"));
-            checkFailEntry.setRepairFilePath(repairPath);
-            checkFailEntryList.add(checkFailEntry);
-        }
-
-        try {
-            String failedStatusPath = MigrationStatusHelper.generateFullCheckFailedObjectStatusFilePath(taskWorkspace);
-            FileUtils.writeToFile(failedStatusPath, JSON.toJSONString(checkFailEntryList), false);
-        } catch (IOException e) {
-            LOGGER.warn("Failed to write full data check failed status, error: {}", e.getMessage());
-        }
-    }
-
     private void readTableProgress(String filePath) {
         Optional<ChameleonStatusEntry> statusEntryOptional = ChameleonHelper.parseChameleonStatusFile(filePath);
         if (statusEntryOptional.isEmpty()) {
@@ -171,7 +148,8 @@ public class MysqlProgressMonitor extends ProgressMonitor {
 
         List<FullEntry> tableList = statusEntry.getTable();
         if (isEntryIntegrity(tableList)) {
-            writeObjectEntryList(tableList, MigrationStatusHelper.generateFullTableStatusFilePath(taskWorkspace));
+            writeObjectEntryList(recordFullTableProgress(tableList),
+                    MigrationStatusHelper.generateFullTableStatusFilePath(taskWorkspace));
         }
     }
 
@@ -219,6 +197,26 @@ public class MysqlProgressMonitor extends ProgressMonitor {
         }
     }
 
+    private CheckEntry toCheckEntry(JSONObject jsonObj) {
+        CheckEntry checkEntry = new CheckEntry();
+        checkEntry.setSchema(jsonObj.getString("schema"));
+        checkEntry.setName(jsonObj.getString("table"));
+        return checkEntry;
+    }
+
+    private CheckFailEntry toCheckFailEntry(JSONObject jsonObj) {
+        CheckFailEntry checkFailEntry = new CheckFailEntry();
+        String schema = jsonObj.getString("schema");
+        String table = jsonObj.getString("table");
+        String repairPath = DataCheckerHelper.generateFullCheckResultRepairFilePath(taskWorkspace, schema, table);
+
+        checkFailEntry.setSchema(schema);
+        checkFailEntry.setName(table);
+        checkFailEntry.setError(jsonObj.getString("message"));
+        checkFailEntry.setRepairFilePath(repairPath);
+        return checkFailEntry;
+    }
+
     private boolean isEntryIntegrity(List<FullEntry> entryList) {
         if (entryList == null || entryList.isEmpty()) {
             return true;
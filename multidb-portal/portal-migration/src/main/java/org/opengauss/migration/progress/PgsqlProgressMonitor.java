@@ -103,7 +103,8 @@ public class PgsqlProgressMonitor extends ProgressMonitor {
 
         List<FullEntry> tableList = statusEntry.getTable();
         if (isEntryIntegrity(tableList)) {
-            writeObjectEntryList(tableList, MigrationStatusHelper.generateFullTableStatusFilePath(taskWorkspace));
+            writeObjectEntryList(recordFullTableProgress(tableList),
+                    MigrationStatusHelper.generateFullTableStatusFilePath(taskWorkspace));
         }
     }
 
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.migration.progress;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opengauss.migration.progress.model.ProgressEvent;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Progress event publisher, delivers the progress events produced by the monitors to the registered listeners
+ *
+ * @since 2025/11/8
+ */
+public class ProgressEventPublisher {
+    private static final Logger LOGGER = LogManager.getLogger(ProgressEventPublisher.class);
+    private static volatile ProgressEventPublisher instance;
+
+    private final List<Consumer<ProgressEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    private ProgressEventPublisher() {
+    }
+
+    /**
+     * Get instance of ProgressEventPublisher
+     *
+     * @return instance of ProgressEventPublisher
+     */
+    public static ProgressEventPublisher getInstance() {
+        if (instance == null) {
+            synchronized (ProgressEventPublisher.class) {
+                if (instance == null) {
+                    instance = new ProgressEventPublisher();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Add progress event listener
+     *
+     * @param listener progress event listener
+     */
+    public void addListener(Consumer<ProgressEvent> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Remove progress event listener
+     *
+     * @param listener progress event listener
+     */
+    public void removeListener(Consumer<ProgressEvent> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Whether there is any listener, the producers can skip building the events if there is no listener
+     *
+     * @return true if there is any listener
+     */
+    public boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+
+    /**
+     * Publish progress event
+     *
+     * @param event progress event
+     */
+    public void publish(ProgressEvent event) {
+        for (Consumer<ProgressEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to deliver progress event, type: {}, error: {}", event.getType(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.migration.progress;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Progress file watcher, wait for the modification of the tool status files in the watched directories
+ *
+ * @since 2025/11/3
+ */
+class ProgressFileWatcher implements Closeable {
+    private static final Logger LOGGER = LogManager.getLogger(ProgressFileWatcher.class);
+
+    private final WatchService watchService;
+    private final Map<String, WatchKey> registeredDirs = new HashMap<>();
+    private final List<String> watchDirPaths;
+    private final Predicate<Path> watchedFileFilter;
+
+    /**
+     * Constructor
+     *
+     * @param watchDirPaths watch directory paths, the directories not exist will be registered when they are created
+     * @param watchedFileFilter decides whether the modification of a file is treated as a change
+     * @throws IOException if the watch service can not be created
+     */
+    ProgressFileWatcher(List<String> watchDirPaths, Predicate<Path> watchedFileFilter) throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.watchDirPaths = watchDirPaths;
+        this.watchedFileFilter = watchedFileFilter;
+        registerDirs();
+    }
+
+    /**
+     * Wait for the watched files change. Changes occurred in the debounce window after the first change
+     * are coalesced into one notification, the total waiting time of the coalescing is limited by max coalesce time.
+     *
+     * @param timeoutMillis max time to wait for the first change
+     * @param debounceMillis debounce window
+     * @param maxCoalesceMillis max coalescing time
+     * @return true if the watched files changed, false if timeout
+     */
+    boolean awaitChange(long timeoutMillis, long debounceMillis, long maxCoalesceMillis) {
+        registerDirs();
+        try {
+            if (!pollChange(timeoutMillis)) {
+                return false;
+            }
+
+            long deadline = System.currentTimeMillis() + maxCoalesceMillis;
+            long remaining = maxCoalesceMillis;
+            while (remaining > 0 && pollChange(Math.min(debounceMillis, remaining))) {
+                remaining = deadline - System.currentTimeMillis();
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return true;
+        } catch (ClosedWatchServiceException e) {
+            LOGGER.trace("Progress file watch service is closed");
+            return true;
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            LOGGER.warn("Failed to close progress file watch service, error: {}", e.getMessage());
+        }
+    }
+
+    private boolean pollChange(long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        long remaining = timeoutMillis;
+        while (remaining > 0) {
+            WatchKey watchKey = watchService.poll(remaining, TimeUnit.MILLISECONDS);
+            if (watchKey == null) {
+                return false;
+            }
+
+            boolean isChanged = hasConcernedEvent(watchKey);
+            if (!watchKey.reset()) {
+                registeredDirs.values().remove(watchKey);
+            }
+            if (isChanged) {
+                return true;
+            }
+            remaining = deadline - System.currentTimeMillis();
+        }
+        return false;
+    }
+
+    private boolean hasConcernedEvent(WatchKey watchKey) {
+        boolean isConcerned = false;
+        for (WatchEvent<?> event : watchKey.pollEvents()) {
+            if (StandardWatchEventKinds.OVERFLOW.equals(event.kind())) {
+                isConcerned = true;
+                continue;
+            }
+
+            Object context = event.context();
+            if (context instanceof Path && watchKey.watchable() instanceof Path
+                    && watchedFileFilter.test(((Path) watchKey.watchable()).resolve((Path) context))) {
+                isConcerned = true;
+            }
+        }
+        return isConcerned;
+    }
+
+    private void registerDirs() {
+        for (String dirPath : watchDirPaths) {
+            if (registeredDirs.containsKey(dirPath)) {
+                continue;
+            }
+
+            Path dir = Path.of(dirPath);
+            if (!Files.isDirectory(dir)) {
+                continue;
+            }
+
+            try {
+                registeredDirs.put(dirPath, dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY));
+            } catch (IOException | ClosedWatchServiceException e) {
+                LOGGER.warn("Failed to watch progress directory: {}, error: {}", dirPath, e.getMessage());
+            }
+        }
+    }
+}
@@ -7,27 +7,36 @@ package org.opengauss.migration.progress;
 import com.alibaba.fastjson2.JSON;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opengauss.constants.TaskConstants;
 import org.opengauss.domain.model.TaskWorkspace;
 import org.opengauss.enums.MigrationPhase;
+import org.opengauss.migration.constants.MigrationStatusConstants;
 import org.opengauss.migration.enums.MigrationStatusEnum;
+import org.opengauss.migration.handler.ThreadExceptionHandler;
 import org.opengauss.migration.helper.MigrationStatusHelper;
+import org.opengauss.migration.helper.tool.DataCheckerHelper;
 import org.opengauss.migration.helper.tool.DebeziumHelper;
-import org.opengauss.migration.handler.ThreadExceptionHandler;
 import org.opengauss.migration.progress.model.FullEntry;
 import org.opengauss.migration.progress.model.IncrementalAndReverseEntry;
+import org.opengauss.migration.progress.model.ProgressEvent;
 import org.opengauss.migration.progress.model.tool.DebeziumSinkStatusEntry;
 import org.opengauss.migration.progress.model.tool.DebeziumSourceStatusEntry;
 import org.opengauss.migration.status.StatusMonitor;
+import org.opengauss.migration.status.model.ObjectStatusEntry;
+import org.opengauss.migration.utils.ThreadUtils;
 import org.opengauss.utils.FileUtils;
 import org.opengauss.utils.StringUtils;
-import org.opengauss.migration.utils.ThreadUtils;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -38,6 +47,29 @@ import java.util.concurrent.ConcurrentHashMap;
 public abstract class ProgressMonitor extends Thread {
     private static final Logger LOGGER = LogManager.getLogger(ProgressMonitor.class);
     private static final int INTERVAL_TIME = 1000;
+    private static final int MAX_WATCH_WAIT_TIME = 10000;
+    private static final int DEBOUNCE_TIME = 200;
+    private static final int MAX_COALESCE_TIME = 1000;
+    private static final Set<String> WATCH_IGNORED_FILE_NAMES = Set.of(TaskConstants.HEARTBEAT_FILE,
+            MigrationStatusConstants.FULL_TOTAL_INFO_STATUS_FILE_NAME,
+            MigrationStatusConstants.FULL_TABLE_STATUS_FILE_NAME,
+            MigrationStatusConstants.FULL_SUCCESS_TABLE_STATUS_FILE_NAME,
+            MigrationStatusConstants.FULL_FAILED_TABLE_STATUS_FILE_NAME,
+            MigrationStatusConstants.FULL_TRIGGER_STATUS_FILE_NAME,
+            MigrationStatusConstants.FULL_VIEW_STATUS_FILE_NAME,
+            MigrationStatusConstants.FULL_FUNCTION_STATUS_FILE_NAME,
+            MigrationStatusConstants.FULL_PROCEDURE_STATUS_FILE_NAME,
+            MigrationStatusConstants.FULL_CHECK_SUCCESS_OBJECT_STATUS_FILE_NAME,
+            MigrationStatusConstants.FULL_CHECK_FAILED_OBJECT_STATUS_FILE_NAME,
+            MigrationStatusConstants.INCREMENTAL_STATUS_FILE_NAME,
+            MigrationStatusConstants.REVERSE_STATUS_FILE_NAME,
+            MigrationStatusConstants.FULL_TABLE_CHECKPOINT_FILE_NAME);
+    private static final Map<String, String> OBJECT_TYPE_MAP = Map.of(
+            MigrationStatusConstants.FULL_TABLE_STATUS_FILE_NAME, "table",
+            MigrationStatusConstants.FULL_VIEW_STATUS_FILE_NAME, "view",
+            MigrationStatusConstants.FULL_FUNCTION_STATUS_FILE_NAME, "function",
+            MigrationStatusConstants.FULL_TRIGGER_STATUS_FILE_NAME, "trigger",
+            MigrationStatusConstants.FULL_PROCEDURE_STATUS_FILE_NAME, "procedure");
 
     /**
      * Status manager
@@ -50,8 +82,11 @@ public abstract class ProgressMonitor extends Thread {
     protected final TaskWorkspace taskWorkspace;
 
     private final ConcurrentHashMap<String, Long> fileLastModifiedCache = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, FullEntry>> publishedEntryCache = new HashMap<>();
     private volatile boolean isRunning = true;
     private MigrationStatusEnum latestStatus = MigrationStatusEnum.NOT_START;
+    private volatile ProgressFileWatcher progressFileWatcher;
+    private volatile FullTableCheckpointRecorder fullTableCheckpointRecorder;
 
     ProgressMonitor(StatusMonitor statusMonitor, TaskWorkspace taskWorkspace) {
         super("Progress-Monitor-Thread");
@@ -67,11 +102,58 @@ public abstract class ProgressMonitor extends Thread {
 
     abstract void readReverseMigrationProgress();
 
+    /**
+     * Get the directories where the tool status files are written, progress will be read when files in these
+     * directories are changed. If the list is empty, progress will be read at a fixed interval.
+     *
+     * @return watch directory paths
+     */
+    List<String> getWatchDirPaths() {
+        List<String> result = new ArrayList<>();
+        result.add(taskWorkspace.getStatusDirPath());
+        result.add(taskWorkspace.getStatusFullDirPath());
+        result.add(DataCheckerHelper.getFullCheckResultDirPath(taskWorkspace));
+        result.add(taskWorkspace.getStatusIncrementalDirPath());
+        result.add(taskWorkspace.getStatusReverseDirPath());
+        return result;
+    }
+
+    /**
+     * Whether the change of the file in a watched directory should trigger a progress read
+     *
+     * @param file the changed file
+     * @return true if the file is a tool status file of this task
+     */
+    boolean isWatchedFile(Path file) {
+        return !WATCH_IGNORED_FILE_NAMES.contains(file.getFileName().toString());
+    }
+
+    /**
+     * Set the checkpoint recorder of the full migration task, the table progress read by the monitor is recorded
+     *
+     * @param fullTableCheckpointRecorder full table checkpoint recorder
+     */
+    public void setFullTableCheckpointRecorder(FullTableCheckpointRecorder fullTableCheckpointRecorder) {
+        this.fullTableCheckpointRecorder = fullTableCheckpointRecorder;
+    }
+
+    /**
+     * Record the table progress of the full migration tool into the checkpoint of the full migration task
+     *
+     * @param tableList table progress entry list
+     * @return the table progress entry list, with the tables completed by the previous runs appended
+     */
+    List<FullEntry> recordFullTableProgress(List<FullEntry> tableList) {
+        FullTableCheckpointRecorder recorder = fullTableCheckpointRecorder;
+        return recorder != null ? recorder.recordTableProgress(tableList) : tableList;
+    }
+
     @Override
     public void run() {
         Thread.currentThread().setUncaughtExceptionHandler(new ThreadExceptionHandler());
+        initProgressFileWatcher();
         while (isRunning) {
-            ThreadUtils.sleep(INTERVAL_TIME);
+            waitForProgressChange();
             MigrationStatusEnum currentStatus = statusMonitor.getCurrentStatus().getStatus();
             if (MigrationStatusEnum.NOT_START.equals(currentStatus)
                     || MigrationStatusEnum.MIGRATION_STARTING.equals(currentStatus)) {
@@ -103,6 +185,7 @@ public abstract class ProgressMonitor extends Thread {
             latestStatus = currentStatus;
         }
 
+        closeProgressFileWatcher();
         if (!MigrationStatusEnum.NOT_START.equals(latestStatus)) {
             readPhaseProgress(getPhaseByStatus(latestStatus));
         }
@@ -113,6 +196,7 @@ public abstract class ProgressMonitor extends Thread {
      */
     public void stopMonitoring() {
         this.isRunning = false;
+        closeProgressFileWatcher();
 
         if (!MigrationStatusEnum.NOT_START.equals(latestStatus)) {
             readPhaseProgress(getPhaseByStatus(latestStatus));
@@ -131,6 +215,8 @@ public abstract class ProgressMonitor extends Thread {
         try {
             String statusFilePath = MigrationStatusHelper.generateIncrementalStatusFilePath(taskWorkspace);
             FileUtils.writeToFile(statusFilePath, JSON.toJSONString(incrementalEntryOptional.get()), false);
+            ProgressEventPublisher.getInstance().publish(new ProgressEvent(ProgressEvent.TYPE_INCREMENTAL,
+                    ProgressEvent.TYPE_INCREMENTAL, incrementalEntryOptional.get()));
         } catch (IOException e) {
             LOGGER.warn("Failed to write incremental migration progress, error: {}", e.getMessage());
         }
@@ -148,6 +234,8 @@ public abstract class ProgressMonitor extends Thread {
         try {
             String statusFilePath = MigrationStatusHelper.generateReverseStatusFilePath(taskWorkspace);
             FileUtils.writeToFile(statusFilePath, JSON.toJSONString(reverseEntryOptional.get()), false);
+            ProgressEventPublisher.getInstance().publish(new ProgressEvent(ProgressEvent.TYPE_REVERSE,
+                    ProgressEvent.TYPE_REVERSE, reverseEntryOptional.get()));
         } catch (IOException e) {
             LOGGER.warn("Failed to write reverse migration progress, error: {}", e.getMessage());
         }
@@ -186,12 +274,60 @@ public abstract class ProgressMonitor extends Thread {
             if (entryList != null && !entryList.isEmpty()) {
                 String jsonString = JSON.toJSONString(entryList);
                 FileUtils.writeToFile(filePath, jsonString, false);
+                publishObjectEntryChanges(entryList, filePath);
             }
         } catch (IOException e) {
             LOGGER.warn("Failed to write full migration progress, error: {}", e.getMessage());
         }
     }
 
+    private void publishObjectEntryChanges(List<FullEntry> entryList, String filePath) {
+        ProgressEventPublisher publisher = ProgressEventPublisher.getInstance();
+        if (!publisher.hasListeners()) {
+            publishedEntryCache.clear();
+            return;
+        }
+
+        String objectType = OBJECT_TYPE_MAP.getOrDefault(Path.of(filePath).getFileName().toString(), "table");
+        Map<String, FullEntry> publishedEntries = publishedEntryCache.computeIfAbsent(filePath, key -> new HashMap<>());
+        for (FullEntry entry : entryList) {
+            String key = String.format("%s/%s.%s", objectType, entry.getSchema(), entry.getName());
+            if (!entry.equals(publishedEntries.put(key, entry))) {
+                publisher.publish(new ProgressEvent(ProgressEvent.TYPE_FULL, key,
+                        new ObjectStatusEntry(entry, objectType)));
+            }
+        }
+    }
+
+    private void initProgressFileWatcher() {
+        List<String> watchDirPaths = getWatchDirPaths();
+        if (watchDirPaths.isEmpty()) {
+            return;
+        }
+
+        try {
+            progressFileWatcher = new ProgressFileWatcher(watchDirPaths, this::isWatchedFile);
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.warn("Failed to create progress file watcher, fall back to polling, error: {}", e.getMessage());
+        }
+    }
+
+    private void waitForProgressChange() {
+        ProgressFileWatcher watcher = progressFileWatcher;
+        if (watcher == null) {
+            ThreadUtils.sleep(INTERVAL_TIME);
+            return;
+        }
+        watcher.awaitChange(MAX_WATCH_WAIT_TIME, DEBOUNCE_TIME, MAX_COALESCE_TIME);
+    }
+
+    private void closeProgressFileWatcher() {
+        ProgressFileWatcher watcher = progressFileWatcher;
+        if (watcher != null) {
+            watcher.close();
+        }
+    }
+
     private Optional<IncrementalAndReverseEntry> readDebeziumStatusFileToEntry(boolean isReverse) {
         String sourceStatusFilePath;
         String sinkStatusFilePath;
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.migration.progress.model;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * full table checkpoint
+ *
+ * @since 2025/11/14
+ */
+@Data
+public class FullTableCheckpoint {
+    /**
+     * fingerprint of the migration config, the checkpoint is only reused by a migration with the same fingerprint
+     */
+    private String fingerprint;
+
+    /**
+     * the number of the tables to migrate on the source database, counted before the table migration starts, the
+     * checkpoint is only resumable when the full migration tool has reported at least this number of tables
+     */
+    private int sourceTableCount;
+
+    /**
+     * all the tables reported by the full migration tool
+     */
+    private List<FullEntry> tables = new ArrayList<>();
+
+    /**
+     * the tables whose data has been migrated completely
+     */
+    private List<FullEntry> completedTables = new ArrayList<>();
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.migration.progress.model;
+
+import lombok.Getter;
+
+/**
+ * Progress event
+ *
+ * @since 2025/11/8
+ */
+@Getter
+public class ProgressEvent {
+    /**
+     * Event type of migration status transition
+     */
+    public static final String TYPE_STATUS = "status";
+
+    /**
+     * Event type of full migration object progress
+     */
+    public static final String TYPE_FULL = "full";
+
+    /**
+     * Event type of incremental migration progress
+     */
+    public static final String TYPE_INCREMENTAL = "incremental";
+
+    /**
+     * Event type of reverse migration progress
+     */
+    public static final String TYPE_REVERSE = "reverse";
+
+    private final String type;
+
+    /**
+     * Events with the same key describe the same thing, only the latest one is meaningful
+     */
+    private final String key;
+    private final Object data;
+    private final long timestamp;
+
+    public ProgressEvent(String type, String key, Object data) {
+        this.type = type;
+        this.key = key;
+        this.data = data;
+        this.timestamp = System.currentTimeMillis();
+    }
+}
@@ -19,7 +19,11 @@ public class MigrationStatus {
     private final MigrationStatusEnum status;
 
     public MigrationStatus(MigrationStatusEnum status) {
-        this.timestamp = TimeUtils.getCurrentTimeMillis();
+        this(TimeUtils.getCurrentTimeMillis(), status);
+    }
+
+    public MigrationStatus(long timestamp, MigrationStatusEnum status) {
+        this.timestamp = timestamp;
         this.status = status;
     }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.migration.status;
+
+import org.opengauss.migration.status.model.ObjectStatusEntry;
+import org.opengauss.migration.status.model.ObjectStatusPage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Object status index.
+ * Indexes the sorted object status entries by object type and status category, so a filtered page
+ * is a sub list of a prebuilt list and keeps the order of the entries. The index is shared by the callers,
+ * so the entries of a page are copies.
+ *
+ * @since 2025/11/7
+ */
+class ObjectStatusIndex {
+    /**
+     * Status categories of the object status entries
+     */
+    static final Set<String> STATUS_CATEGORIES = Set.of(
+            "pending", "migrating", "completed", "failed", "check_success", "check_failed");
+
+    private static final String ALL = "";
+
+    private final Map<String, List<ObjectStatusEntry>> entryIndex = new HashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param sortedEntries sorted object status entries
+     */
+    ObjectStatusIndex(List<ObjectStatusEntry> sortedEntries) {
+        for (ObjectStatusEntry entry : sortedEntries) {
+            String type = entry.getType();
+            List<String> categories = getStatusCategories(entry);
+            addEntry(ALL, ALL, entry);
+            addEntry(type, ALL, entry);
+            for (String category : categories) {
+                addEntry(ALL, category, entry);
+                addEntry(type, category, entry);
+            }
+        }
+    }
+
+    /**
+     * Query a page of the object status entries
+     *
+     * @param type object type, null or empty means all types
+     * @param status status category, null or empty means all status
+     * @param offset offset of the first entry
+     * @param limit max entry count of the page
+     * @return object status page
+     */
+    ObjectStatusPage query(String type, String status, int offset, int limit) {
+        List<ObjectStatusEntry> entries = entryIndex.getOrDefault(
+                indexKey(normalize(type), normalize(status)), Collections.emptyList());
+        int fromIndex = Math.min(offset, entries.size());
+        int toIndex = (int) Math.min((long) fromIndex + limit, entries.size());
+        List<ObjectStatusEntry> pageEntries = entries.subList(fromIndex, toIndex).stream()
+                .map(ObjectStatusEntry::new)
+                .toList();
+        return new ObjectStatusPage(entries.size(), offset, limit, pageEntries);
+    }
+
+    private void addEntry(String type, String category, ObjectStatusEntry entry) {
+        entryIndex.computeIfAbsent(indexKey(type, category), key -> new ArrayList<>()).add(entry);
+    }
+
+    private static List<String> getStatusCategories(ObjectStatusEntry entry) {
+        List<String> categories = new ArrayList<>();
+        int status = entry.getStatus();
+        if (status == 1) {
+            categories.add("pending");
+        } else if (status == 2) {
+            categories.add("migrating");
+        } else if (status >= 3 && status <= 5) {
+            categories.add("completed");
+        } else if (status == 6 || status == 7) {
+            categories.add("failed");
+        }
+
+        Integer checkStatus = entry.getCheckStatus();
+        if (checkStatus != null) {
+            categories.add(checkStatus == 0 ? "check_success" : "check_failed");
+        }
+        return categories;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? ALL : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String indexKey(String type, String category) {
+        return type + "/" + category;
+    }
+}
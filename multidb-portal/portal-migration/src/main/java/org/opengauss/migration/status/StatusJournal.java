@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.migration.status;
+
+import org.opengauss.migration.enums.MigrationStatusEnum;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Migration status journal.
+ * The journal is an append-only binary file of fixed-size records, each record holds one status transition:
+ * 8 bytes timestamp, 4 bytes status code and 4 bytes record magic. The current status is the last record,
+ * so it can be read by a seek to the end of the file.
+ *
+ * @since 2025/11/6
+ */
+public class StatusJournal {
+    /**
+     * Journal record size in bytes
+     */
+    public static final int RECORD_SIZE = 16;
+
+    private static final int RECORD_MAGIC = 0x4D475354;
+
+    private final Path journalPath;
+
+    public StatusJournal(String journalFilePath) {
+        this.journalPath = Path.of(journalFilePath);
+    }
+
+    /**
+     * Whether the journal file exists
+     *
+     * @return true if the journal file exists
+     */
+    public boolean exists() {
+        return Files.isRegularFile(journalPath);
+    }
+
+    /**
+     * Clear the journal and write the status list as the initial records
+     *
+     * @param statusList status list
+     * @throws IOException if an I/O error occurs
+     */
+    public void reset(List<MigrationStatus> statusList) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * statusList.size());
+        for (MigrationStatus status : statusList) {
+            putRecord(buffer, status);
+        }
+        buffer.flip();
+
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, buffer);
+        }
+    }
+
+    /**
+     * Append a status record to the journal
+     *
+     * @param status migration status
+     * @throws IOException if an I/O error occurs
+     */
+    public void append(MigrationStatus status) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE);
+        putRecord(buffer, status);
+        buffer.flip();
+
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            writeFully(channel, buffer);
+        }
+    }
+
+    /**
+     * Read the latest status record in the journal
+     *
+     * @return the latest migration status, empty if the journal has no valid record
+     * @throws IOException if an I/O error occurs
+     */
+    public Optional<MigrationStatus> readLatest() throws IOException {
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.READ)) {
+            long recordsEnd = channel.size() / RECORD_SIZE * RECORD_SIZE;
+            if (recordsEnd == 0) {
+                return Optional.empty();
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, recordsEnd - RECORD_SIZE,
+                    RECORD_SIZE);
+            return readRecord(buffer);
+        }
+    }
+
+    /**
+     * Read all the status records in the journal
+     *
+     * @return migration status list
+     * @throws IOException if an I/O error occurs
+     */
+    public List<MigrationStatus> readAll() throws IOException {
+        List<MigrationStatus> result = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.READ)) {
+            long recordsEnd = channel.size() / RECORD_SIZE * RECORD_SIZE;
+            if (recordsEnd == 0) {
+                return result;
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, recordsEnd);
+            while (buffer.remaining() >= RECORD_SIZE) {
+                readRecord(buffer).ifPresent(result::add);
+            }
+        }
+        return result;
+    }
+
+    private static void putRecord(ByteBuffer buffer, MigrationStatus status) {
+        buffer.putLong(status.getTimestamp());
+        buffer.putInt(status.getStatus().getStatus());
+        buffer.putInt(RECORD_MAGIC);
+    }
+
+    private static Optional<MigrationStatus> readRecord(ByteBuffer buffer) {
+        long timestamp = buffer.getLong();
+        int statusCode = buffer.getInt();
+        int magic = buffer.getInt();
+        if (magic != RECORD_MAGIC) {
+            return Optional.empty();
+        }
+        return MigrationStatusEnum.getByStatus(statusCode).map(status -> new MigrationStatus(timestamp, status));
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
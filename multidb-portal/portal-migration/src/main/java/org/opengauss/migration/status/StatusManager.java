@@ -21,14 +21,18 @@ import org.opengauss.migration.progress.model.FullTotalInfo;
 import org.opengauss.migration.progress.model.IncrementalAndReverseEntry;
 import org.opengauss.migration.status.model.MilvusElasticsearchStatusEntry;
 import org.opengauss.migration.status.model.ObjectStatusEntry;
+import org.opengauss.migration.status.model.ObjectStatusPage;
 import org.opengauss.utils.FileUtils;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -51,19 +55,22 @@ public class StatusManager {
      * @return current migration status
      */
     public MigrationStatusEnum getCurrentMigrationStatus() {
-        String statusFilePath = MigrationStatusHelper.generateMigrationStatusFilePath(taskWorkspace);
-        try {
-            String contents = FileUtils.readFileContents(statusFilePath);
-            List<MigrationStatus> statusList = JSON.parseArray(contents, MigrationStatus.class);
-            if (!statusList.isEmpty()) {
-                return statusList.get(statusList.size() - 1).getStatus();
-            } else {
-                return MigrationStatusEnum.NOT_START;
+        StatusJournal statusJournal = createStatusJournal();
+        if (statusJournal.exists()) {
+            try {
+                return statusJournal.readLatest().map(MigrationStatus::getStatus)
+                        .orElse(MigrationStatusEnum.NOT_START);
+            } catch (IOException e) {
+                throw new PortalException("Failed to read migration status journal of task: "
+                        + taskWorkspace.getId(), e);
             }
-        } catch (FileNotFoundException e) {
+        }
+
+        List<MigrationStatus> statusList = readMigrationStatusList(taskWorkspace);
+        if (!statusList.isEmpty()) {
+            return statusList.get(statusList.size() - 1).getStatus();
+        } else {
             return MigrationStatusEnum.NOT_START;
-        } catch (IOException e) {
-            throw new PortalException("Failed to read migration status file: " + statusFilePath, e);
         }
     }
 
@@ -73,15 +80,15 @@ public class StatusManager {
      * @return status
      */
     public String getStatus() {
-        MigrationStatusEnum currentStatus = getCurrentMigrationStatus();
-        StringBuilder detailBuilder = new StringBuilder("=== Data Migration Progress ===");
-        detailBuilder.append(System.lineSeparator()).append("Current migration status: ")
-                .append(currentStatus.getDescription()).append(System.lineSeparator());
-
         List<MigrationStatusEnum> statusEnumList = readMigrationStatusList(taskWorkspace)
                 .stream()
                 .map(MigrationStatus::getStatus)
                 .toList();
+        MigrationStatusEnum currentStatus = statusEnumList.isEmpty()
+                ? MigrationStatusEnum.NOT_START : statusEnumList.get(statusEnumList.size() - 1);
+        StringBuilder detailBuilder = new StringBuilder("=== Data Migration Progress ===");
+        detailBuilder.append(System.lineSeparator()).append("Current migration status: ")
+                .append(currentStatus.getDescription()).append(System.lineSeparator());
 
         if (statusEnumList.stream().anyMatch(MigrationStatusHelper::isFullMigrationStatus)) {
             appendFullMigrationStatus(detailBuilder);
@@ -107,12 +114,72 @@ public class StatusManager {
      * @return object status entry list
      */
     public List<ObjectStatusEntry> getMysqlObjectStatusEntryList() {
+        return copyEntries(getObjectStatusEntrySnapshot("mysql", this::buildMysqlObjectStatusEntryList));
+    }
+
+    /**
+     * Get object status entry list for pgsql source
+     *
+     * @return object status entry list
+     */
+    public List<ObjectStatusEntry> getPgsqlObjectStatusEntryList() {
+        return copyEntries(getObjectStatusEntrySnapshot("pgsql", this::buildPgsqlObjectStatusEntryList));
+    }
+
+    /**
+     * Query a page of the object status entries, the entries are filtered by object type and status category,
+     * and are in the same order as the object status entry list
+     *
+     * @param sourceDbType source database type
+     * @param type object type, such as table, view, function, trigger and procedure, null means all types
+     * @param status status category, such as pending, migrating, completed, failed, check_success
+     *               and check_failed, null means all status
+     * @param offset offset of the first entry
+     * @param limit max entry count of the page
+     * @return object status page
+     */
+    public ObjectStatusPage getObjectStatusPage(
+            DatabaseType sourceDbType, String type, String status, int offset, int limit) {
+        if (status != null && !status.isBlank()
+                && !ObjectStatusIndex.STATUS_CATEGORIES.contains(status.trim().toLowerCase(Locale.ROOT))) {
+            throw new IllegalArgumentException("Unsupported object status: " + status);
+        }
+        if (offset < 0 || limit <= 0) {
+            throw new IllegalArgumentException("Offset must not be negative and limit must be positive");
+        }
+
+        ObjectStatusIndex objectStatusIndex;
+        if (DatabaseType.MYSQL.equals(sourceDbType)) {
+            objectStatusIndex = getObjectStatusIndex("mysql", this::buildMysqlObjectStatusEntryList);
+        } else if (DatabaseType.POSTGRESQL.equals(sourceDbType)) {
+            objectStatusIndex = getObjectStatusIndex("pgsql", this::buildPgsqlObjectStatusEntryList);
+        } else {
+            objectStatusIndex = new ObjectStatusIndex(List.of());
+        }
+        return objectStatusIndex.query(type, status, offset, limit);
+    }
+
+    /**
+     * Get Milvus/Elasticsearch status entry list
+     *
+     * @return Milvus/Elasticsearch status entry list
+     */
+    public List<MilvusElasticsearchStatusEntry> getMilvusElasticsearchStatusEntryList() {
+        List<String> successTableList = getMilvusElasticsearchSuccessTableList();
+        List<String> failedTableList = getMilvusElasticsearchFailedTableList();
+        List<MilvusElasticsearchStatusEntry> resultList = new ArrayList<>();
+        successTableList.forEach(table -> resultList.add(new MilvusElasticsearchStatusEntry(table, 0)));
+        failedTableList.forEach(table -> resultList.add(new MilvusElasticsearchStatusEntry(table, 1)));
+        return resultList;
+    }
+
+    private List<ObjectStatusEntry> buildMysqlObjectStatusEntryList() {
         List<MigrationStatusEnum> statusEnumList = readMigrationStatusList(taskWorkspace)
                 .stream()
                 .map(MigrationStatus::getStatus)
                 .toList();
         if (statusEnumList.stream().noneMatch(MigrationStatusHelper::isFullMigrationStatus)) {
-            return new ArrayList<>();
+            return List.of();
         }
 
         HashMap<String, ObjectStatusEntry> entryMap = new HashMap<>();
@@ -123,7 +190,7 @@ public class StatusManager {
                 entryMap.put(fullEntry.getName(), objectStatusEntry);
             }
         } else {
-            return new ArrayList<>();
+            return List.of();
         }
 
         List<CheckEntry> checkProgress = getCheckProgress();
@@ -156,22 +223,17 @@ public class StatusManager {
                 .forEach(entry -> result.add(new ObjectStatusEntry(entry, "trigger")));
         getFullProcedureProgress().stream().sorted(FullEntry::compareByName)
                 .forEach(entry -> result.add(new ObjectStatusEntry(entry, "procedure")));
-        return result;
+        return List.copyOf(result);
     }
 
-    /**
-     * Get object status entry list for pgsql source
-     *
-     * @return object status entry list
-     */
-    public List<ObjectStatusEntry> getPgsqlObjectStatusEntryList() {
+    private List<ObjectStatusEntry> buildPgsqlObjectStatusEntryList() {
         List<MigrationStatusEnum> statusEnumList = readMigrationStatusList(taskWorkspace)
                 .stream()
                 .map(MigrationStatus::getStatus)
                 .toList();
 
         if (statusEnumList.stream().noneMatch(MigrationStatusHelper::isFullMigrationStatus)) {
-            return new ArrayList<>();
+            return List.of();
         }
         HashMap<String, ObjectStatusEntry> entryMap = new HashMap<>();
         List<FullEntry> fullTableList = getFullTableProgress();
@@ -182,7 +244,7 @@ public class StatusManager {
                 entryMap.put(key, objectStatusEntry);
             }
         } else {
-            return new ArrayList<>();
+            return List.of();
         }
 
         List<CheckEntry> checkProgress = getCheckProgress();
@@ -217,24 +279,53 @@ public class StatusManager {
                 .forEach(entry -> resultList.add(new ObjectStatusEntry(entry, "trigger")));
         getFullProcedureProgress().stream().sorted(FullEntry::compare)
                 .forEach(entry -> resultList.add(new ObjectStatusEntry(entry, "procedure")));
-        return resultList;
+        return List.copyOf(resultList);
     }
 
-    /**
-     * Get Milvus/Elasticsearch status entry list
-     *
-     * @return Milvus/Elasticsearch status entry list
-     */
-    public List<MilvusElasticsearchStatusEntry> getMilvusElasticsearchStatusEntryList() {
-        List<String> successTableList = getMilvusElasticsearchSuccessTableList();
-        List<String> failedTableList = getMilvusElasticsearchFailedTableList();
-        List<MilvusElasticsearchStatusEntry> resultList = new ArrayList<>();
-        successTableList.forEach(table -> resultList.add(new MilvusElasticsearchStatusEntry(table, 0)));
-        failedTableList.forEach(table -> resultList.add(new MilvusElasticsearchStatusEntry(table, 1)));
-        return resultList;
+    private static List<ObjectStatusEntry> copyEntries(List<ObjectStatusEntry> entries) {
+        return entries.stream().map(ObjectStatusEntry::new).toList();
+    }
+
+    private List<ObjectStatusEntry> getObjectStatusEntrySnapshot(
+            String sourceType, Supplier<List<ObjectStatusEntry>> builder) {
+        return getSnapshot(sourceType, builder);
+    }
+
+    private ObjectStatusIndex getObjectStatusIndex(String sourceType, Supplier<List<ObjectStatusEntry>> builder) {
+        return getSnapshot(sourceType + "/index",
+                () -> new ObjectStatusIndex(getObjectStatusEntrySnapshot(sourceType, builder)));
+    }
+
+    private <T> T getSnapshot(String snapshotKey, Supplier<T> builder) {
+        List<String> sourceFilePaths = List.of(
+                MigrationStatusHelper.generateMigrationStatusJournalFilePath(taskWorkspace),
+                MigrationStatusHelper.generateMigrationStatusFilePath(taskWorkspace),
+                MigrationStatusHelper.generateFullTableStatusFilePath(taskWorkspace),
+                MigrationStatusHelper.generateFullViewStatusFilePath(taskWorkspace),
+                MigrationStatusHelper.generateFullFuncStatusFilePath(taskWorkspace),
+                MigrationStatusHelper.generateFullTriggerStatusFilePath(taskWorkspace),
+                MigrationStatusHelper.generateFullProcStatusFilePath(taskWorkspace),
+                MigrationStatusHelper.generateFullCheckSuccessObjectStatusFilePath(taskWorkspace),
+                MigrationStatusHelper.generateFullCheckFailedObjectStatusFilePath(taskWorkspace));
+        try {
+            return StatusSnapshotCache.getInstance().getSnapshot(taskWorkspace.getId(), snapshotKey, sourceFilePaths,
+                    builder);
+        } catch (IOException e) {
+            throw new PortalException("Failed to read object status of task: " + taskWorkspace.getId(), e);
+        }
     }
 
     private List<MigrationStatus> readMigrationStatusList(TaskWorkspace taskWorkspace) {
+        StatusJournal statusJournal = createStatusJournal();
+        if (statusJournal.exists()) {
+            try {
+                return statusJournal.readAll();
+            } catch (IOException e) {
+                throw new TaskException("Failed to read migration status journal of task: "
+                        + taskWorkspace.getId(), e);
+            }
+        }
+
         String statusFilePath = MigrationStatusHelper.generateMigrationStatusFilePath(taskWorkspace);
         try {
             String statusContent = FileUtils.readFileContents(statusFilePath);
@@ -246,6 +337,10 @@ public class StatusManager {
         }
     }
 
+    private StatusJournal createStatusJournal() {
+        return new StatusJournal(MigrationStatusHelper.generateMigrationStatusJournalFilePath(taskWorkspace));
+    }
+
     private void appendFullMigrationStatus(StringBuilder detailBuilder) {
         detailBuilder.append(System.lineSeparator()).append("[Full Migration]").append(System.lineSeparator());
 
@@ -401,14 +496,8 @@ public class StatusManager {
 
     private List<FullEntry> readFullMigrationProgress(String statusFilePath) {
         try {
-            if (FileUtils.checkFileExists(statusFilePath)) {
-                String contents = FileUtils.readFileContents(statusFilePath);
-                List<FullEntry> fullEntries = JSON.parseArray(contents, FullEntry.class);
-                if (fullEntries != null && !fullEntries.isEmpty()) {
-                    return fullEntries;
-                }
-            }
-            return new ArrayList<>();
+            return StatusSnapshotCache.getInstance().getFileContents(taskWorkspace.getId(), statusFilePath,
+                    contents -> parseEntryList(contents, FullEntry.class), List.of());
         } catch (IOException e) {
             throw new PortalException("Failed to read full migration progress file: " + statusFilePath, e);
         }
@@ -417,14 +506,8 @@ public class StatusManager {
     private List<CheckFailEntry> getCheckFailProgress() {
         String statusPath = MigrationStatusHelper.generateFullCheckFailedObjectStatusFilePath(taskWorkspace);
         try {
-            if (FileUtils.checkFileExists(statusPath)) {
-                String contents = FileUtils.readFileContents(statusPath);
-                List<CheckFailEntry> failEntries = JSON.parseArray(contents, CheckFailEntry.class);
-                if (failEntries != null && !failEntries.isEmpty()) {
-                    return failEntries;
-                }
-            }
-            return new ArrayList<>();
+            return StatusSnapshotCache.getInstance().getFileContents(taskWorkspace.getId(), statusPath,
+                    contents -> parseEntryList(contents, CheckFailEntry.class), List.of());
         } catch (IOException e) {
             throw new PortalException("Failed to read check fail progress file: " + statusPath, e);
         }
@@ -433,19 +516,21 @@ public class StatusManager {
     private List<CheckEntry> getCheckProgress() {
         String statusPath = MigrationStatusHelper.generateFullCheckSuccessObjectStatusFilePath(taskWorkspace);
         try {
-            if (FileUtils.checkFileExists(statusPath)) {
-                String contents = FileUtils.readFileContents(statusPath);
-                List<CheckEntry> successEntries = JSON.parseArray(contents, CheckEntry.class);
-                if (successEntries != null && !successEntries.isEmpty()) {
-                    return successEntries;
-                }
-            }
-            return new ArrayList<>();
+            return StatusSnapshotCache.getInstance().getFileContents(taskWorkspace.getId(), statusPath,
+                    contents -> parseEntryList(contents, CheckEntry.class), List.of());
         } catch (IOException e) {
             throw new PortalException("Failed to read check progress file: " + statusPath, e);
         }
     }
 
+    private static <T> List<T> parseEntryList(String contents, Class<T> entryClass) {
+        List<T> entries = JSON.parseArray(contents, entryClass);
+        if (entries == null || entries.isEmpty()) {
+            return List.of();
+        }
+        return Collections.unmodifiableList(entries);
+    }
+
     private Optional<IncrementalAndReverseEntry> getIncrementalProgress() {
         String statusPath = MigrationStatusHelper.generateIncrementalStatusFilePath(taskWorkspace);
         try {
@@ -13,6 +13,8 @@ import org.opengauss.domain.model.TaskWorkspace;
 import org.opengauss.migration.enums.MigrationStatusEnum;
 import org.opengauss.exceptions.TaskException;
 import org.opengauss.migration.helper.MigrationStatusHelper;
+import org.opengauss.migration.progress.ProgressEventPublisher;
+import org.opengauss.migration.progress.model.ProgressEvent;
 import org.opengauss.utils.FileUtils;
 
 import java.io.IOException;
@@ -30,11 +32,14 @@ public class StatusMonitor {
 
     private final List<MigrationStatus> statusList;
     private final TaskWorkspace taskWorkspace;
+    private final StatusJournal statusJournal;
 
     private MigrationStatus currentStatus;
 
     public StatusMonitor(TaskWorkspace taskWorkspace) {
         this.taskWorkspace = taskWorkspace;
+        this.statusJournal = new StatusJournal(MigrationStatusHelper.generateMigrationStatusJournalFilePath(
+                taskWorkspace));
         this.currentStatus = new MigrationStatus(MigrationStatusEnum.NOT_START);
         this.statusList = new ArrayList<>();
         this.statusList.add(this.currentStatus);
@@ -53,7 +58,10 @@ public class StatusMonitor {
         this.currentStatus = new MigrationStatus(currentStatus);
         this.statusList.add(this.currentStatus);
         LOGGER.info("Current status changed to: {}", currentStatus.getDescription());
+        writeMigrationStatusJournal();
         writeMigrationStatus(this.statusList, this.taskWorkspace);
+        ProgressEventPublisher.getInstance().publish(new ProgressEvent(ProgressEvent.TYPE_STATUS,
+                ProgressEvent.TYPE_STATUS, this.currentStatus));
     }
 
     /**
@@ -125,6 +133,18 @@ public class StatusMonitor {
         return MigrationStatusEnum.REVERSE_MIGRATION_FINISHED.equals(currentStatus.getStatus());
     }
 
+    private void writeMigrationStatusJournal() {
+        try {
+            if (statusList.size() > 2) {
+                statusJournal.append(currentStatus);
+            } else {
+                statusJournal.reset(statusList);
+            }
+        } catch (IOException e) {
+            throw new TaskException("Failed to write migration status journal", e);
+        }
+    }
+
     private void writeMigrationStatus(List<MigrationStatus> statusList, TaskWorkspace taskWorkspace) {
         try {
             String jsonString = JSON.toJSONString(statusList, JSONWriter.Feature.PrettyFormat);
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.migration.status;
+
+import org.opengauss.utils.FileUtils;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Status snapshot cache.
+ * Caches the parsed contents of the status files and the snapshots built from them. Each cached value
+ * is stamped with the version of its source files, the version is made up of the last modified time and
+ * the size of the files, so a cached value is rebuilt only when one of its source files has changed.
+ * The values are kept per task, and the least recently queried task is evicted when more than
+ * {@value MAX_CACHED_TASKS} tasks are cached. The cache only lives as long as the process, so it speeds up
+ * the repeated queries served by the running task process, not the one-shot queries of the command line.
+ * The cached values are shared by the callers and must not be modified.
+ *
+ * @since 2025/11/7
+ */
+class StatusSnapshotCache {
+    private static final int MAX_CACHED_TASKS = 8;
+    private static volatile StatusSnapshotCache instance;
+
+    private final Map<String, TaskCache> taskCacheMap = new LinkedHashMap<>(MAX_CACHED_TASKS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, TaskCache> eldest) {
+            return size() > MAX_CACHED_TASKS;
+        }
+    };
+
+    private StatusSnapshotCache() {
+    }
+
+    /**
+     * Get instance of StatusSnapshotCache
+     *
+     * @return instance of StatusSnapshotCache
+     */
+    static StatusSnapshotCache getInstance() {
+        if (instance == null) {
+            synchronized (StatusSnapshotCache.class) {
+                if (instance == null) {
+                    instance = new StatusSnapshotCache();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Get the parsed contents of the status file, the file is read and parsed again only if it has changed
+     *
+     * @param taskId task id
+     * @param filePath status file path
+     * @param parser parse the file contents
+     * @param defaultValue the value returned if the file does not exist
+     * @param <T> parsed contents type
+     * @return parsed contents
+     * @throws IOException if an I/O error occurs
+     */
+    <T> T getFileContents(String taskId, String filePath, Function<String, T> parser, T defaultValue)
+            throws IOException {
+        Map<String, CachedValue> fileCache = getTaskCache(taskId).fileCache;
+        String version = getFileVersion(filePath);
+        if (version.isEmpty()) {
+            fileCache.remove(filePath);
+            return defaultValue;
+        }
+
+        CachedValue cachedValue = fileCache.get(filePath);
+        if (cachedValue != null && cachedValue.version.equals(version)) {
+            return cast(cachedValue.value);
+        }
+
+        T value;
+        try {
+            value = parser.apply(FileUtils.readFileContents(filePath));
+        } catch (FileNotFoundException e) {
+            fileCache.remove(filePath);
+            return defaultValue;
+        }
+        fileCache.put(filePath, new CachedValue(version, value));
+        return value;
+    }
+
+    /**
+     * Get the snapshot built from the source files, the snapshot is rebuilt only if any source file has changed
+     *
+     * @param taskId task id
+     * @param snapshotKey snapshot key
+     * @param sourceFilePaths source file paths of the snapshot
+     * @param builder build the snapshot
+     * @param <T> snapshot type
+     * @return snapshot
+     * @throws IOException if an I/O error occurs
+     */
+    <T> T getSnapshot(String taskId, String snapshotKey, List<String> sourceFilePaths, Supplier<T> builder)
+            throws IOException {
+        Map<String, CachedValue> snapshotCache = getTaskCache(taskId).snapshotCache;
+        StringBuilder versionBuilder = new StringBuilder();
+        for (String filePath : sourceFilePaths) {
+            versionBuilder.append(getFileVersion(filePath)).append(';');
+        }
+        String version = versionBuilder.toString();
+
+        CachedValue cachedValue = snapshotCache.get(snapshotKey);
+        if (cachedValue != null && cachedValue.version.equals(version)) {
+            return cast(cachedValue.value);
+        }
+
+        T snapshot = builder.get();
+        snapshotCache.put(snapshotKey, new CachedValue(version, snapshot));
+        return snapshot;
+    }
+
+    private TaskCache getTaskCache(String taskId) {
+        synchronized (taskCacheMap) {
+            return taskCacheMap.computeIfAbsent(taskId, key -> new TaskCache());
+        }
+    }
+
+    private static String getFileVersion(String filePath) throws IOException {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(Path.of(filePath), BasicFileAttributes.class);
+            return attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS) + ":" + attributes.size();
+        } catch (NoSuchFileException e) {
+            return "";
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object value) {
+        return (T) value;
+    }
+
+    private static class TaskCache {
+        private final Map<String, CachedValue> fileCache = new ConcurrentHashMap<>();
+        private final Map<String, CachedValue> snapshotCache = new ConcurrentHashMap<>();
+    }
+
+    private static class CachedValue {
+        private final String version;
+        private final Object value;
+
+        CachedValue(String version, Object value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+}
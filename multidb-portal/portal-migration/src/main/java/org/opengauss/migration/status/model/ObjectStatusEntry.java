@@ -42,6 +42,23 @@ public class ObjectStatusEntry {
         this.error = fullEntry.getError();
     }
 
+    /**
+     * Copy constructor
+     *
+     * @param other the entry to copy
+     */
+    public ObjectStatusEntry(ObjectStatusEntry other) {
+        this.schema = other.schema;
+        this.name = other.name;
+        this.type = other.type;
+        this.status = other.status;
+        this.percent = other.percent;
+        this.error = other.error;
+        this.checkStatus = other.checkStatus;
+        this.checkMessage = other.checkMessage;
+        this.repairFilePath = other.repairFilePath;
+    }
+
     /**
      * Set check success status
      */
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.migration.status.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Object status page
+ *
+ * @since 2025/11/7
+ */
+@Data
+public class ObjectStatusPage {
+    private int total;
+    private int offset;
+    private int limit;
+    private List<ObjectStatusEntry> entries;
+
+    public ObjectStatusPage(int total, int offset, int limit, List<ObjectStatusEntry> entries) {
+        this.total = total;
+        this.offset = offset;
+        this.limit = limit;
+        this.entries = entries;
+    }
+}
@@ -4,11 +4,27 @@
 
 package org.opengauss.migration.tasks.impl;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opengauss.migration.domain.config.MysqlMigrationConfig;
 import org.opengauss.migration.domain.dto.SingleConfigBundle;
 import org.opengauss.migration.domain.model.MigrationStopIndicator;
 import org.opengauss.domain.model.TaskWorkspace;
+import org.opengauss.migration.helper.FullMigrationCheckpointHelper;
+import org.opengauss.migration.progress.FullTableCheckpointRecorder;
+import org.opengauss.migration.progress.model.FullEntry;
+import org.opengauss.migration.progress.model.FullTableCheckpoint;
 import org.opengauss.migration.tasks.phase.FullMigrationTask;
 import org.opengauss.migration.tasks.tool.ChameleonTask;
+import org.opengauss.utils.StringUtils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * chameleon mysql full migration task
@@ -16,6 +32,12 @@ import org.opengauss.migration.tasks.tool.ChameleonTask;
  * @since 2025/3/20
  */
 public class ChameleonMysqlFullMigrationTask extends ChameleonTask implements FullMigrationTask {
+    private static final Logger LOGGER = LogManager.getLogger(ChameleonMysqlFullMigrationTask.class);
+    private static final String LIST_MYSQL_TABLE_SQL = "SELECT table_name FROM information_schema.tables "
+            + "WHERE table_schema = ? AND table_type = 'BASE TABLE'";
+
+    private final MysqlMigrationConfig migrationConfigDto;
+    private final boolean isResumable;
     private boolean isTableMigrated = false;
     private boolean isTriggerMigrated = false;
     private boolean isViewMigrated = false;
@@ -24,13 +46,25 @@ public class ChameleonMysqlFullMigrationTask extends ChameleonTask implements Fu
     private boolean isForeignKeyMigrated = false;
 
     public ChameleonMysqlFullMigrationTask(TaskWorkspace taskWorkspace, MigrationStopIndicator migrationStopIndicator,
-                                           SingleConfigBundle chameleonConfig) {
+                                           MysqlMigrationConfig migrationConfigDto,
+                                           SingleConfigBundle chameleonConfig, boolean isResumable) {
         super(taskWorkspace, migrationStopIndicator, chameleonConfig);
+        this.migrationConfigDto = migrationConfigDto;
+        this.isResumable = isResumable;
     }
 
     @Override
     public void beforeTask() {
-        super.prepareMigration();
+        String fingerprint = FullMigrationCheckpointHelper.generateFingerprint(migrationConfigDto.getMysqlDatabaseIp(),
+                migrationConfigDto.getMysqlDatabasePort(), migrationConfigDto.getMysqlDatabaseName(),
+                migrationConfigDto.getMysqlDatabaseTables(), migrationConfigDto.getOpengaussDatabaseIp(),
+                migrationConfigDto.getOpengaussDatabasePort(), migrationConfigDto.getOpengaussDatabaseName(),
+                migrationConfigDto.getOpengaussDatabaseSchema());
+        FullTableCheckpointRecorder checkpointRecorder = new FullTableCheckpointRecorder(taskWorkspace, fingerprint);
+        Optional<FullTableCheckpoint> resumedCheckpoint = isResumable
+                ? checkpointRecorder.readPreviousCheckpoint().flatMap(this::verifyCompletedTables)
+                : Optional.empty();
+        super.prepareMigration(checkpointRecorder, resumedCheckpoint.orElse(null), countSourceTables());
     }
 
     @Override
@@ -44,6 +78,16 @@ public class ChameleonMysqlFullMigrationTask extends ChameleonTask implements Fu
         isTableMigrated = true;
     }
 
+    /**
+     * Get the names of the tables whose data has been migrated, the tables are reported while the table migration
+     * is running
+     *
+     * @return migrated table names
+     */
+    public List<String> getMigratedTables() {
+        return super.getMigratedTableNames();
+    }
+
     @Override
     public void migrateObject() {
         waitTableMigrationExit();
@@ -105,4 +149,47 @@ public class ChameleonMysqlFullMigrationTask extends ChameleonTask implements Fu
     public void afterTask() {
         super.afterMigration();
     }
+
+    @Override
+    protected Optional<FullTableCheckpoint> verifyCompletedTables(FullTableCheckpoint checkpoint) {
+        String sourceSchema = migrationConfigDto.getMysqlDatabaseName();
+        String targetSchema = StringUtils.isNullOrBlank(migrationConfigDto.getOpengaussDatabaseSchema())
+                ? sourceSchema : migrationConfigDto.getOpengaussDatabaseSchema();
+        try (Connection mysqlConnection = migrationConfigDto.getMysqlConnection();
+             Connection openGaussConnection = migrationConfigDto.getOpenGaussConnection()) {
+            return FullMigrationCheckpointHelper.retainVerifiedTables(checkpoint, entry ->
+                    isTableMigrated(mysqlConnection, sourceSchema, openGaussConnection, targetSchema, entry));
+        } catch (SQLException | ClassNotFoundException e) {
+            LOGGER.warn("Failed to verify the tables completed by the previous run, error: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private int countSourceTables() {
+        try (Connection mysqlConnection = migrationConfigDto.getMysqlConnection()) {
+            List<String> tables = FullMigrationCheckpointHelper.listTables(mysqlConnection, LIST_MYSQL_TABLE_SQL,
+                    migrationConfigDto.getMysqlDatabaseName());
+            String limitTables = migrationConfigDto.getMysqlDatabaseTables();
+            if (StringUtils.isNullOrBlank(limitTables)) {
+                return tables.size();
+            }
+
+            Set<String> limitTableSet = Arrays.stream(limitTables.split(","))
+                    .map(String::trim)
+                    .collect(Collectors.toSet());
+            return (int) tables.stream().filter(limitTableSet::contains).count();
+        } catch (SQLException | ClassNotFoundException e) {
+            LOGGER.warn("Failed to count the source tables, the table migration of this run can not be resumed, "
+                    + "error: {}", e.getMessage());
+            return -1;
+        }
+    }
+
+    private boolean isTableMigrated(Connection mysqlConnection, String sourceSchema, Connection openGaussConnection,
+                                    String targetSchema, FullEntry entry) {
+        String sourceTableName = FullMigrationCheckpointHelper.quoteIdentifier(sourceSchema, '`') + "."
+                + FullMigrationCheckpointHelper.quoteIdentifier(entry.getName(), '`');
+        return FullMigrationCheckpointHelper.isTableRowCountMatched(mysqlConnection, sourceTableName,
+                openGaussConnection, targetSchema, entry.getName());
+    }
 }
@@ -6,6 +6,8 @@ package org.opengauss.migration.tasks.impl;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opengauss.constants.tool.DataCheckerConstants;
+import org.opengauss.migration.constants.config.DataCheckerCheckConfig;
 import org.opengauss.migration.domain.config.MysqlMigrationConfig;
 import org.opengauss.migration.domain.dto.DataCheckerConfigBundle;
 import org.opengauss.migration.domain.model.MigrationStopIndicator;
@@ -16,8 +18,29 @@ import org.opengauss.migration.process.ProcessMonitor;
 import org.opengauss.migration.process.task.TaskProcess;
 import org.opengauss.migration.tasks.phase.FullDataCheckTask;
 import org.opengauss.migration.tasks.tool.DataCheckerTask;
+import org.opengauss.migration.utils.ThreadUtils;
+import org.opengauss.utils.FileUtils;
+import org.opengauss.utils.YmlUtils;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 /**
  * Data-checker mysql full data check task
@@ -26,6 +49,14 @@ import java.util.List;
  */
 public class DataCheckerMysqlFullDataCheckTask extends DataCheckerTask implements FullDataCheckTask {
     private static final Logger LOGGER = LogManager.getLogger(DataCheckerMysqlFullDataCheckTask.class);
+    private static final int COMPLETED_TABLE_POLL_MILLIS = 5000;
+    private static final String RULE_WHITE = "white";
+    private static final String RULE_BLACK = "black";
+    private static final String REPAIR_FILE_NAME_PREFIX = DataCheckerConstants.CHECK_RESULT_REPAIR_FILE_NAME_MODEL
+            .substring(0, DataCheckerConstants.CHECK_RESULT_REPAIR_FILE_NAME_MODEL.indexOf('%'));
+
+    private volatile boolean isStopRequested = false;
+    private int waveNumber = 0;
 
     public DataCheckerMysqlFullDataCheckTask(
             ProcessMonitor processMonitor, MigrationStopIndicator migrationStopIndicator, TaskWorkspace taskWorkspace,
@@ -42,15 +73,97 @@ public class DataCheckerMysqlFullDataCheckTask extends DataCheckerTask implement
     @Override
     public void startTask() {
         configProcessPort();
-        initFullProcess();
+        runCheckProcesses(DataCheckerHelper.getFullProcessSignFilePath(taskWorkspace));
+    }
+
+    /**
+     * Check the tables while the table migration is running. The tables whose data has been migrated are checked in
+     * waves, each wave runs the check processes limited to its tables by a white list rule, and the tables completed
+     * in the meantime are checked by the next wave. After the table migration exits, the last wave checks the other
+     * tables with a black list of the checked tables. The result of each wave is written under its own data path
+     * and merged into the result directory of the full data check. If table rules are configured by the user, the
+     * rules are kept, and the tables are checked by one run after the table migration exits.
+     *
+     * @param completedTablesSupplier supplies the names of the tables whose data has been migrated
+     * @param isTableMigrationExited whether the table migration has exited successfully
+     */
+    public void startTaskByTable(Supplier<Collection<String>> completedTablesSupplier,
+                                 BooleanSupplier isTableMigrationExited) {
+        if (hasUserTableRules()) {
+            LOGGER.info("Table rules are configured, the full data check starts after the table migration exits");
+            waitTableMigrationExit(isTableMigrationExited);
+            if (!isCheckStopped()) {
+                startTask();
+            }
+            return;
+        }
+
+        String checkConfigPath = checkConfig.getFilePath();
+        String backupConfigPath = checkConfigPath + ".bak";
+        try {
+            FileUtils.copyFile(checkConfigPath, backupConfigPath);
+            configProcessPort();
+            checkTableWaves(completedTablesSupplier, isTableMigrationExited);
+        } catch (IOException e) {
+            throw new MigrationException("Failed to back up the full data check config", e);
+        } finally {
+            restoreCheckConfig(backupConfigPath, checkConfigPath);
+        }
+    }
+
+    private void checkTableWaves(Supplier<Collection<String>> completedTablesSupplier,
+                                 BooleanSupplier isTableMigrationExited) {
+        Set<String> checkedTables = new LinkedHashSet<>();
+        while (!isCheckStopped()) {
+            boolean isExited = isTableMigrationExited.getAsBoolean();
+            if (isExited) {
+                LOGGER.info("Table migration has exited, check the remaining tables, checked tables: {}",
+                        checkedTables.size());
+                checkTableWave(RULE_BLACK, checkedTables);
+                return;
+            }
+
+            List<String> waveTables = completedTablesSupplier.get().stream()
+                    .filter(table -> !checkedTables.contains(table))
+                    .toList();
+            if (waveTables.isEmpty()) {
+                ThreadUtils.sleep(COMPLETED_TABLE_POLL_MILLIS);
+                continue;
+            }
+            LOGGER.info("Check the migrated tables while the other tables are migrated: {}", waveTables);
+            checkTableWave(RULE_WHITE, waveTables);
+            checkedTables.addAll(waveTables);
+        }
+    }
+
+    private void checkTableWave(String ruleName, Collection<String> tables) {
+        String waveDataPath = DataCheckerHelper.generateFullDataCheckWaveDataPath(taskWorkspace, ++waveNumber);
+        List<Map<String, String>> tableRules = new ArrayList<>();
+        for (String table : tables) {
+            tableRules.add(Map.of("name", ruleName, "text", "^" + Pattern.quote(table) + "$"));
+        }
+
+        Map<String, Object> changeConfig = new HashMap<>();
+        changeConfig.put(DataCheckerCheckConfig.DATA_CHECK_DATA_PATH, waveDataPath);
+        if (!tableRules.isEmpty()) {
+            changeConfig.put(DataCheckerCheckConfig.RULES_ENABLE, true);
+            changeConfig.put(DataCheckerCheckConfig.RULES_TABLE, tableRules);
+        }
+        checkConfig.changeConfig(changeConfig);
+
+        runCheckProcesses(DataCheckerHelper.getProcessSignFilePath(waveDataPath));
+        mergeWaveResult(waveDataPath);
+    }
+
+    private void runCheckProcesses(String signFilePath) {
+        initFullProcess(signFilePath);
 
         List<TaskProcess> processList = List.of(sourceProcess, sinkProcess, checkProcess);
-        if (migrationStopIndicator.isStopped()) {
+        if (isCheckStopped()) {
             return;
         }
         startCheckProcessList(processList);
 
-        String signFilePath = DataCheckerHelper.getFullProcessSignFilePath(taskWorkspace);
         if (checkStartSign(signFilePath)) {
             LOGGER.info("Start full data check process successfully");
         } else {
@@ -65,8 +178,84 @@ public class DataCheckerMysqlFullDataCheckTask extends DataCheckerTask implement
         }
     }
 
+    private void mergeWaveResult(String waveDataPath) {
+        Path waveResultDir = Path.of(waveDataPath, "result");
+        Path resultDir = Path.of(DataCheckerHelper.getFullCheckResultDirPath(taskWorkspace));
+        if (!Files.isDirectory(waveResultDir)) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(resultDir);
+            appendResultFile(waveResultDir, resultDir, DataCheckerConstants.CHECK_RESULT_SUCCESS_FILE_NAME);
+            appendResultFile(waveResultDir, resultDir, DataCheckerConstants.CHECK_RESULT_FAILED_FILE_NAME);
+            try (Stream<Path> files = Files.list(waveResultDir)) {
+                for (Path file : files.filter(file -> file.getFileName().toString()
+                        .startsWith(REPAIR_FILE_NAME_PREFIX)).toList()) {
+                    Files.move(file, resultDir.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        } catch (IOException e) {
+            throw new MigrationException("Failed to merge the full data check result of " + waveDataPath, e);
+        }
+    }
+
+    private void appendResultFile(Path waveResultDir, Path resultDir, String fileName) throws IOException {
+        Path waveFile = waveResultDir.resolve(fileName);
+        if (!Files.isRegularFile(waveFile)) {
+            return;
+        }
+
+        try (FileChannel source = FileChannel.open(waveFile, StandardOpenOption.READ);
+             FileChannel target = FileChannel.open(resultDir.resolve(fileName), StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            long size = source.size();
+            if (size == 0) {
+                return;
+            }
+            // the result entries are json objects separated by commas
+            if (target.size() > 0) {
+                target.write(ByteBuffer.wrap(",".getBytes(StandardCharsets.UTF_8)));
+            }
+            long position = 0;
+            while (position < size) {
+                position += source.transferTo(position, size - position, target);
+            }
+        }
+    }
+
+    private boolean hasUserTableRules() {
+        try {
+            Map<String, Object> configMap = YmlUtils.loadYaml(checkConfig.getFilePath());
+            return Boolean.parseBoolean(String.valueOf(configMap.get(DataCheckerCheckConfig.RULES_ENABLE)))
+                    && configMap.get(DataCheckerCheckConfig.RULES_TABLE) instanceof Collection<?> tableRules
+                    && !tableRules.isEmpty();
+        } catch (IOException e) {
+            throw new MigrationException("Failed to load the full data check config", e);
+        }
+    }
+
+    private void waitTableMigrationExit(BooleanSupplier isTableMigrationExited) {
+        while (!isTableMigrationExited.getAsBoolean() && !isCheckStopped()) {
+            ThreadUtils.sleep(COMPLETED_TABLE_POLL_MILLIS);
+        }
+    }
+
+    private void restoreCheckConfig(String backupConfigPath, String checkConfigPath) {
+        try {
+            FileUtils.moveFile(backupConfigPath, checkConfigPath);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to restore the full data check config, error: {}", e.getMessage());
+        }
+    }
+
+    private boolean isCheckStopped() {
+        return isStopRequested || migrationStopIndicator.isStopped();
+    }
+
     @Override
     public void stopTask() {
+        isStopRequested = true;
         super.stop();
     }
 
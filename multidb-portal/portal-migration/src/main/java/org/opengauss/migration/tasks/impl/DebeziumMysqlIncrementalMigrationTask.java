@@ -62,7 +62,10 @@ public class DebeziumMysqlIncrementalMigrationTask extends DebeziumTask implemen
 
     @Override
     protected void beforeSourceProcess() {
-        Kafka.getInstance().setSchemaCompatibilityToNone();
+        Kafka kafka = Kafka.getInstance();
+        kafka.setSchemaCompatibilityToNone();
+        kafka.createDatabaseHistoryKafkaTopic(
+                DebeziumMysqlMigrationConfigHelper.generateIncrementalHistoryKafkaTopic(taskWorkspace));
 
         setSourcePort();
 
@@ -131,7 +134,6 @@ public class DebeziumMysqlIncrementalMigrationTask extends DebeziumTask implemen
 
     private void cleanTopics() {
         Kafka kafka = Kafka.getInstance();
-        List<String> kafkaTopics = kafka.getKafkaTopics();
 
         String kafkaTopic = DebeziumMysqlMigrationConfigHelper.generateIncrementalKafkaTopic(taskWorkspace);
         String historyKafkaTopic = DebeziumMysqlMigrationConfigHelper.generateIncrementalHistoryKafkaTopic(
@@ -140,18 +142,7 @@ public class DebeziumMysqlIncrementalMigrationTask extends DebeziumTask implemen
                 taskWorkspace);
         String configKafkaTopic = String.format("config_%s", kafkaTopic);
 
-        if (kafkaTopics.contains(kafkaTopic)) {
-            kafka.deleteKafkaTopic(kafkaTopic);
-        }
-        if (kafkaTopics.contains(historyKafkaTopic)) {
-            kafka.deleteKafkaTopic(historyKafkaTopic);
-        }
-        if (kafkaTopics.contains(breakpointKafkaTopic)) {
-            kafka.deleteKafkaTopic(breakpointKafkaTopic);
-        }
-        if (kafkaTopics.contains(configKafkaTopic)) {
-            kafka.deleteKafkaTopic(configKafkaTopic);
-        }
+        kafka.deleteKafkaTopics(List.of(kafkaTopic, historyKafkaTopic, breakpointKafkaTopic, configKafkaTopic));
     }
 
     private void checkKafkaStatus() {
@@ -74,7 +74,10 @@ public class DebeziumMysqlReverseMigrationTask extends DebeziumTask implements R
 
     @Override
     protected void beforeSourceProcess() {
-        Kafka.getInstance().setSchemaCompatibilityToNone();
+        Kafka kafka = Kafka.getInstance();
+        kafka.setSchemaCompatibilityToNone();
+        kafka.createDatabaseHistoryKafkaTopic(
+                DebeziumMysqlMigrationConfigHelper.generateReverseHistoryKafkaTopic(taskWorkspace));
 
         setSourcePort();
 
@@ -95,11 +98,7 @@ public class DebeziumMysqlReverseMigrationTask extends DebeziumTask implements R
 
         try (Connection connection = JdbcUtils.getOpengaussConnection(migrationConfigDto.getOpenGaussConnectInfo())) {
             OpenGaussUtils.openDolphinSqlModeAnsiQuotes(connection);
-            if (!(connection instanceof PgConnection)) {
-                throw new IllegalArgumentException("Connection is not an instance of PgConnection");
-            }
-
-            PgConnection pgConnection = (PgConnection) connection;
+            PgConnection pgConnection = connection.unwrap(PgConnection.class);
             String schema = migrationConfigDto.getOpengaussDatabaseSchema();
             if (StringUtils.isNullOrBlank(schema)) {
                 schema = migrationConfigDto.getMysqlDatabaseName();
@@ -149,11 +148,7 @@ public class DebeziumMysqlReverseMigrationTask extends DebeziumTask implements R
         cleanTopics();
         try (Connection connection = JdbcUtils.getOpengaussConnection(migrationConfigDto.getOpenGaussConnectInfo())) {
             OpenGaussUtils.openDolphinSqlModeAnsiQuotes(connection);
-            if (!(connection instanceof PgConnection)) {
-                throw new IllegalArgumentException("Connection is not an instance of PgConnection");
-            }
-
-            PgConnection pgConnection = (PgConnection) connection;
+            PgConnection pgConnection = connection.unwrap(PgConnection.class);
             String schema = migrationConfigDto.getOpengaussDatabaseSchema();
             if (StringUtils.isNullOrBlank(schema)) {
                 schema = migrationConfigDto.getMysqlDatabaseName();
@@ -279,7 +274,6 @@ public class DebeziumMysqlReverseMigrationTask extends DebeziumTask implements R
 
     private void cleanTopics() {
         Kafka kafka = Kafka.getInstance();
-        List<String> kafkaTopics = kafka.getKafkaTopics();
 
         String kafkaTopic = DebeziumMysqlMigrationConfigHelper.generateReverseKafkaTopic(taskWorkspace);
         String historyKafkaTopic = DebeziumMysqlMigrationConfigHelper.generateReverseHistoryKafkaTopic(taskWorkspace);
@@ -287,18 +281,7 @@ public class DebeziumMysqlReverseMigrationTask extends DebeziumTask implements R
                 taskWorkspace);
         String configKafkaTopic = String.format("config_%s", kafkaTopic);
 
-        if (kafkaTopics.contains(kafkaTopic)) {
-            kafka.deleteKafkaTopic(kafkaTopic);
-        }
-        if (kafkaTopics.contains(historyKafkaTopic)) {
-            kafka.deleteKafkaTopic(historyKafkaTopic);
-        }
-        if (kafkaTopics.contains(breakpointKafkaTopic)) {
-            kafka.deleteKafkaTopic(breakpointKafkaTopic);
-        }
-        if (kafkaTopics.contains(configKafkaTopic)) {
-            kafka.deleteKafkaTopic(configKafkaTopic);
-        }
+        kafka.deleteKafkaTopics(List.of(kafkaTopic, historyKafkaTopic, breakpointKafkaTopic, configKafkaTopic));
     }
 
     private void checkKafkaStatus() {
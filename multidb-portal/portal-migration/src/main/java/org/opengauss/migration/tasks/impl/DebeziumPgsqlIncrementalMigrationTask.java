@@ -121,11 +121,7 @@ public class DebeziumPgsqlIncrementalMigrationTask extends DebeziumTask implemen
     public void afterTask() {
         cleanTopics();
         try (Connection connection = JdbcUtils.getPgsqlConnection(migrationConfigDto.getPgsqlConnectInfo())) {
-            if (!(connection instanceof PgConnection)) {
-                throw new IllegalArgumentException("Connection is not a PgConnection");
-            }
-
-            PgConnection pgConnection = (PgConnection) connection;
+            PgConnection pgConnection = connection.unwrap(PgConnection.class);
             dropSlot(pgConnection);
             dropPublication(pgConnection);
             alterTableReplicaIdentityDefault(pgConnection);
@@ -193,17 +189,11 @@ public class DebeziumPgsqlIncrementalMigrationTask extends DebeziumTask implemen
 
     private void cleanTopics() {
         Kafka kafka = Kafka.getInstance();
-        List<String> kafkaTopics = kafka.getKafkaTopics();
 
         String kafkaTopic = DebeziumPgsqlMigrationConfigHelper.generateIncrementalKafkaTopic(taskWorkspace);
         String configKafkaTopic = String.format("config_%s", kafkaTopic);
 
-        if (kafkaTopics.contains(kafkaTopic)) {
-            kafka.deleteKafkaTopic(kafkaTopic);
-        }
-        if (kafkaTopics.contains(configKafkaTopic)) {
-            kafka.deleteKafkaTopic(configKafkaTopic);
-        }
+        kafka.deleteKafkaTopics(List.of(kafkaTopic, configKafkaTopic));
     }
 
     private void checkKafkaStatus() {
@@ -17,6 +17,7 @@ import org.opengauss.migration.exceptions.ConfigException;
 import org.opengauss.migration.exceptions.MigrationException;
 import org.opengauss.migration.helper.config.DebeziumPgsqlMigrationConfigHelper;
 import org.opengauss.migration.helper.config.FullReplicatePgsqlMigrationConfigHelper;
+import org.opengauss.migration.helper.ReplicaIdentityHelper;
 import org.opengauss.migration.process.ProcessMonitor;
 import org.opengauss.migration.process.task.DebeziumProcess;
 import org.opengauss.migration.tasks.phase.ReverseMigrationTask;
@@ -35,6 +36,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -259,35 +261,17 @@ public class DebeziumPgsqlReverseMigrationTask extends DebeziumTask implements R
     }
 
     private void alterTableReplicaIdentityFull(Connection connection) {
-        try {
-            Map<String, String> schemaMappings = FullReplicatePgsqlMigrationConfigHelper.getMigrationSchemaMappings(
-                    migrationConfigDto);
-            for (Map.Entry<String, String> entry : schemaMappings.entrySet()) {
-                String targetSchema = entry.getValue();
-                List<String> tables = PgsqlUtils.getSchemaTableNames(targetSchema, connection);
-                for (String table : tables) {
-                    PgsqlUtils.alterTableReplicaIdentityFull(targetSchema, table, connection);
-                }
-            }
-        } catch (SQLException e) {
-            LOGGER.warn("Failed to change tables replica identity to full, error: {}", e.getMessage());
-        }
+        Map<String, String> schemaMappings = FullReplicatePgsqlMigrationConfigHelper.getMigrationSchemaMappings(
+                migrationConfigDto);
+        ReplicaIdentityHelper.alterSchemasReplicaIdentityFull(new LinkedHashSet<>(schemaMappings.values()),
+                migrationConfigDto.getOpenGaussConnectInfo(), connection);
     }
 
     private void alterTableReplicaIdentityDefault(Connection connection) {
-        try {
-            Map<String, String> schemaMappings = FullReplicatePgsqlMigrationConfigHelper.getMigrationSchemaMappings(
-                    migrationConfigDto);
-            for (Map.Entry<String, String> entry : schemaMappings.entrySet()) {
-                String targetSchema = entry.getValue();
-                List<String> tables = PgsqlUtils.getSchemaTableNames(targetSchema, connection);
-                for (String table : tables) {
-                    PgsqlUtils.alterTableReplicaIdentityDefault(targetSchema, table, connection);
-                }
-            }
-        } catch (SQLException e) {
-            LOGGER.error("Failed to change tables replica identity to default", e);
-        }
+        Map<String, String> schemaMappings = FullReplicatePgsqlMigrationConfigHelper.getMigrationSchemaMappings(
+                migrationConfigDto);
+        ReplicaIdentityHelper.alterSchemasReplicaIdentityDefault(new LinkedHashSet<>(schemaMappings.values()),
+                migrationConfigDto.getOpenGaussConnectInfo(), connection);
     }
 
     private void changeSlotName(String slotName) {
@@ -298,22 +282,13 @@ public class DebeziumPgsqlReverseMigrationTask extends DebeziumTask implements R
 
     private void cleanTopics() {
         Kafka kafka = Kafka.getInstance();
-        List<String> kafkaTopics = kafka.getKafkaTopics();
 
         String kafkaTopic = DebeziumPgsqlMigrationConfigHelper.generateReverseKafkaTopic(taskWorkspace);
         String breakpointKafkaTopic = DebeziumPgsqlMigrationConfigHelper.generateReverseBreakpointKafkaTopic(
                 taskWorkspace);
         String configKafkaTopic = String.format("config_%s", kafkaTopic);
 
-        if (kafkaTopics.contains(kafkaTopic)) {
-            kafka.deleteKafkaTopic(kafkaTopic);
-        }
-        if (kafkaTopics.contains(breakpointKafkaTopic)) {
-            kafka.deleteKafkaTopic(breakpointKafkaTopic);
-        }
-        if (kafkaTopics.contains(configKafkaTopic)) {
-            kafka.deleteKafkaTopic(configKafkaTopic);
-        }
+        kafka.deleteKafkaTopics(List.of(kafkaTopic, breakpointKafkaTopic, configKafkaTopic));
     }
 
     private void checkKafkaStatus() {
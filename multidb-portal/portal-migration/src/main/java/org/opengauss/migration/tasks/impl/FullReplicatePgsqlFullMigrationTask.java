@@ -10,16 +10,27 @@ import org.opengauss.migration.constants.config.FullReplicateConfig;
 import org.opengauss.migration.domain.config.PgsqlMigrationConfig;
 import org.opengauss.migration.domain.dto.FullReplicateConfigBundle;
 import org.opengauss.migration.domain.model.MigrationStopIndicator;
+import org.opengauss.migration.exceptions.MigrationException;
 import org.opengauss.domain.model.TaskWorkspace;
+import org.opengauss.migration.helper.FullMigrationCheckpointHelper;
 import org.opengauss.migration.helper.config.DebeziumPgsqlMigrationConfigHelper;
 import org.opengauss.migration.helper.config.FullReplicatePgsqlMigrationConfigHelper;
 import org.opengauss.migration.helper.tool.FullReplicateHelper;
+import org.opengauss.migration.progress.FullTableCheckpointRecorder;
+import org.opengauss.migration.progress.model.FullEntry;
+import org.opengauss.migration.progress.model.FullTableCheckpoint;
 import org.opengauss.migration.tasks.phase.FullMigrationTask;
 import org.opengauss.migration.tasks.tool.FullReplicateTask;
 import org.opengauss.utils.FileUtils;
 
 import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * oG_datasync_full_migration pgsql full migration task
@@ -28,8 +39,13 @@ import java.util.HashMap;
  */
 public class FullReplicatePgsqlFullMigrationTask extends FullReplicateTask implements FullMigrationTask {
     private static final Logger LOGGER = LogManager.getLogger(FullReplicatePgsqlFullMigrationTask.class);
+    private static final String LIST_PGSQL_TABLE_SQL = "SELECT c.relname FROM pg_class c "
+            + "JOIN pg_namespace n ON n.oid = c.relnamespace "
+            + "WHERE n.nspname = ? AND c.relkind IN ('r', 'p') AND NOT c.relispartition";
 
     private final PgsqlMigrationConfig migrationConfigDto;
+    private final boolean isResumable;
+    private FullTableCheckpoint resumedCheckpoint;
     private boolean isTableMigrated = false;
     private boolean isTriggerMigrated = false;
     private boolean isViewMigrated = false;
@@ -39,9 +55,11 @@ public class FullReplicatePgsqlFullMigrationTask extends FullReplicateTask imple
 
     public FullReplicatePgsqlFullMigrationTask(
             TaskWorkspace taskWorkspace, MigrationStopIndicator migrationStopIndicator,
-            PgsqlMigrationConfig migrationConfigDto, FullReplicateConfigBundle fullMigrationToolConfig) {
+            PgsqlMigrationConfig migrationConfigDto, FullReplicateConfigBundle fullMigrationToolConfig,
+            boolean isResumable) {
         super(taskWorkspace, migrationStopIndicator, fullMigrationToolConfig, migrationConfigDto.getFullProcessJvm());
         this.migrationConfigDto = migrationConfigDto;
+        this.isResumable = isResumable;
     }
 
     @Override
@@ -49,6 +67,23 @@ public class FullReplicatePgsqlFullMigrationTask extends FullReplicateTask imple
         super.dropReplicaSchema();
         cleanHistoryFiles();
         setSlotName();
+
+        String fingerprint = FullMigrationCheckpointHelper.generateFingerprint(migrationConfigDto.getPgsqlDatabaseIp(),
+                migrationConfigDto.getPgsqlDatabasePort(), migrationConfigDto.getPgsqlDatabaseName(),
+                migrationConfigDto.getPgsqlDatabaseSchemas(), migrationConfigDto.getSchemaMappings(),
+                migrationConfigDto.getOpengaussDatabaseIp(), migrationConfigDto.getOpengaussDatabasePort(),
+                migrationConfigDto.getOpengaussDatabaseName());
+        FullTableCheckpointRecorder checkpointRecorder = new FullTableCheckpointRecorder(taskWorkspace, fingerprint);
+        FullTableCheckpoint checkpoint = isResumable
+                ? checkpointRecorder.readPreviousCheckpoint().flatMap(this::verifyCompletedTables).orElse(null)
+                : null;
+        if (checkpoint != null && FullMigrationCheckpointHelper.getUnfinishedTables(checkpoint).isEmpty()) {
+            super.skipTableDataMigration();
+        } else if (checkpoint != null && !limitUnfinishedSchemas(checkpoint)) {
+            checkpoint = null;
+        }
+        super.startCheckpoint(checkpointRecorder, checkpoint, countSourceTables());
+        resumedCheckpoint = checkpoint;
     }
 
     @Override
@@ -125,6 +160,110 @@ public class FullReplicatePgsqlFullMigrationTask extends FullReplicateTask imple
         super.afterMigration();
     }
 
+    @Override
+    protected void afterTableDataMigration(boolean isFinished) {
+        if (resumedCheckpoint == null) {
+            return;
+        }
+
+        // the sequences, keys, indexes and objects are migrated for all the schemas
+        setSchemaMappings(FullReplicatePgsqlMigrationConfigHelper.getMigrationSchemaMappings(migrationConfigDto));
+        FullTableCheckpoint checkpoint = resumedCheckpoint;
+        resumedCheckpoint = null;
+        if (!isFinished) {
+            return;
+        }
+
+        int verifiedCount = verifyCompletedTables(checkpoint)
+                .map(verifiedCheckpoint -> verifiedCheckpoint.getCompletedTables().size())
+                .orElse(0);
+        if (verifiedCount < checkpoint.getCompletedTables().size()) {
+            throw new MigrationException("The tables migrated by the previous run are missing or changed after "
+                    + "the table migration is resumed, the checkpoint is discarded, please migrate again.");
+        }
+    }
+
+    private Optional<FullTableCheckpoint> verifyCompletedTables(FullTableCheckpoint checkpoint) {
+        Map<String, String> schemaMappings =
+                FullReplicatePgsqlMigrationConfigHelper.getMigrationSchemaMappings(migrationConfigDto);
+        try (Connection pgsqlConnection = migrationConfigDto.getPgsqlConnection();
+             Connection openGaussConnection = migrationConfigDto.getOpenGaussConnection()) {
+            return FullMigrationCheckpointHelper.retainVerifiedTables(checkpoint, entry ->
+                    isTableMigrated(pgsqlConnection, openGaussConnection, schemaMappings, entry));
+        } catch (SQLException | ClassNotFoundException e) {
+            LOGGER.warn("Failed to verify the tables completed by the previous run, error: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private int countSourceTables() {
+        int tableCount = 0;
+        try (Connection pgsqlConnection = migrationConfigDto.getPgsqlConnection()) {
+            for (String schema : FullReplicatePgsqlMigrationConfigHelper.getMigrationSchemaMappings(
+                    migrationConfigDto).keySet()) {
+                tableCount += FullMigrationCheckpointHelper.listTables(pgsqlConnection, LIST_PGSQL_TABLE_SQL, schema)
+                        .size();
+            }
+            return tableCount;
+        } catch (SQLException | ClassNotFoundException e) {
+            LOGGER.warn("Failed to count the source tables, the table migration of this run can not be resumed, "
+                    + "error: {}", e.getMessage());
+            return -1;
+        }
+    }
+
+    private boolean isTableMigrated(Connection pgsqlConnection, Connection openGaussConnection,
+                                    Map<String, String> schemaMappings, FullEntry entry) {
+        String sourceSchema = entry.getSchema();
+        String targetSchema = schemaMappings.get(sourceSchema);
+        if (targetSchema == null) {
+            // the progress entry may be reported with the target schema
+            targetSchema = sourceSchema;
+            sourceSchema = null;
+            for (Map.Entry<String, String> mapping : schemaMappings.entrySet()) {
+                if (mapping.getValue().equals(targetSchema)) {
+                    sourceSchema = mapping.getKey();
+                }
+            }
+            if (sourceSchema == null) {
+                return false;
+            }
+        }
+
+        String sourceTableName = FullMigrationCheckpointHelper.quoteIdentifier(sourceSchema, '"') + "."
+                + FullMigrationCheckpointHelper.quoteIdentifier(entry.getName(), '"');
+        return FullMigrationCheckpointHelper.isTableRowCountMatched(pgsqlConnection, sourceTableName,
+                openGaussConnection, targetSchema, entry.getName());
+    }
+
+    private boolean limitUnfinishedSchemas(FullTableCheckpoint checkpoint) {
+        Set<String> unfinishedSchemas = new HashSet<>();
+        for (FullEntry entry : FullMigrationCheckpointHelper.getUnfinishedTables(checkpoint)) {
+            unfinishedSchemas.add(entry.getSchema());
+        }
+
+        Map<String, String> schemaMappings = new HashMap<>();
+        FullReplicatePgsqlMigrationConfigHelper.getMigrationSchemaMappings(migrationConfigDto).forEach(
+                (sourceSchema, targetSchema) -> {
+                    if (unfinishedSchemas.contains(sourceSchema) || unfinishedSchemas.contains(targetSchema)) {
+                        schemaMappings.put(sourceSchema, targetSchema);
+                    }
+                });
+        if (schemaMappings.isEmpty()) {
+            return false;
+        }
+
+        setSchemaMappings(schemaMappings);
+        LOGGER.info("Only the schemas with unfinished tables are migrated: {}", schemaMappings.keySet());
+        return true;
+    }
+
+    private void setSchemaMappings(Map<String, String> schemaMappings) {
+        HashMap<String, Object> changeParams = new HashMap<>();
+        changeParams.put(FullReplicateConfig.SOURCE_SCHEMA_MAPPINGS, schemaMappings);
+        fullConfig.changeConfig(changeParams);
+    }
+
     private void cleanHistoryFiles() {
         String csvDirPath = FullReplicatePgsqlMigrationConfigHelper.generateCsvDirPath(taskWorkspace);
         String logPath = FullReplicateHelper.generateFullMigrationLogPath(taskWorkspace);
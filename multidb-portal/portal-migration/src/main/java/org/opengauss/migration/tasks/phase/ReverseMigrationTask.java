@@ -43,6 +43,13 @@ public interface ReverseMigrationTask extends MigrationTask {
      */
     void resumeTask();
 
+    /**
+     * Restart the running task in place, without stopping and starting its processes
+     *
+     * @return true if the task is restarted in place, false if the task has to be stopped and started again
+     */
+    boolean restartInPlace();
+
     @Override
     default void stopTask() {
         stopSource();
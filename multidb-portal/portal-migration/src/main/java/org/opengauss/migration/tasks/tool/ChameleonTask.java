@@ -7,6 +7,7 @@ package org.opengauss.migration.tasks.tool;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opengauss.migration.constants.ProcessNameConstants;
+import org.opengauss.migration.constants.config.ChameleonConfig;
 import org.opengauss.constants.tool.ChameleonConstants;
 import org.opengauss.migration.domain.dto.SingleConfigBundle;
 import org.opengauss.migration.domain.model.ConfigFile;
@@ -14,17 +15,25 @@ import org.opengauss.migration.domain.model.MigrationStopIndicator;
 import org.opengauss.domain.model.TaskWorkspace;
 import org.opengauss.migration.exceptions.MigrationException;
 import org.opengauss.exceptions.TaskException;
+import org.opengauss.migration.MigrationContext;
+import org.opengauss.migration.helper.FullMigrationCheckpointHelper;
 import org.opengauss.migration.helper.config.ChameleonMysqlMigrationConfigHelper;
 import org.opengauss.migration.helper.tool.ChameleonHelper;
+import org.opengauss.migration.progress.FullTableCheckpointRecorder;
+import org.opengauss.migration.progress.model.FullEntry;
+import org.opengauss.migration.progress.model.FullTableCheckpoint;
 import org.opengauss.migration.tasks.ToolTask;
 import org.opengauss.migration.process.task.ChameleonProcess;
 import org.opengauss.migration.process.task.TaskProcess;
 import org.opengauss.migration.tools.Chameleon;
 import org.opengauss.utils.FileUtils;
 import org.opengauss.migration.utils.ProcessUtils;
+import org.opengauss.utils.YmlUtils;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * chameleon task
@@ -38,6 +47,9 @@ public abstract class ChameleonTask extends ToolTask {
     private final ConfigFile chameleonConfig;
 
     private TaskProcess currentProcess;
+    private volatile FullTableCheckpointRecorder checkpointRecorder;
+    private FullTableCheckpoint resumedCheckpoint;
+    private boolean isTableDataSkipped = false;
 
     protected ChameleonTask(TaskWorkspace taskWorkspace, MigrationStopIndicator migrationStopIndicator,
                             SingleConfigBundle chameleonConfig) {
@@ -47,11 +59,29 @@ public abstract class ChameleonTask extends ToolTask {
     }
 
     /**
-     * Prepare migration
+     * Prepare migration, if the table migration is resumed from the checkpoint of the previous run, only the
+     * unfinished tables are migrated, and they are reloaded into the existing schema. If the data of all the tables
+     * has been migrated by the previous run, the table data migration is skipped.
+     *
+     * @param checkpointRecorder table checkpoint recorder of this task
+     * @param resumedCheckpoint the verified checkpoint of the previous run, null if the migration is not resumed
+     * @param sourceTableCount the number of the tables to migrate on the source database, -1 if it is unknown
      */
-    protected void prepareMigration() {
+    protected void prepareMigration(FullTableCheckpointRecorder checkpointRecorder,
+                                    FullTableCheckpoint resumedCheckpoint, int sourceTableCount) {
         cleanHistoryFiles();
-        prepareConfigFile();
+        String configFilePath = prepareConfigFile();
+        this.checkpointRecorder = checkpointRecorder;
+        checkpointRecorder.start(resumedCheckpoint, sourceTableCount);
+        MigrationContext.getInstance().getProgressMonitor().setFullTableCheckpointRecorder(checkpointRecorder);
+        if (resumedCheckpoint != null) {
+            if (FullMigrationCheckpointHelper.getUnfinishedTables(resumedCheckpoint).isEmpty()) {
+                isTableDataSkipped = true;
+            } else {
+                limitUnfinishedTables(configFilePath, resumedCheckpoint);
+            }
+            this.resumedCheckpoint = resumedCheckpoint;
+        }
 
         TaskProcess dropSchemaProcess = new ChameleonProcess(ProcessNameConstants.CHAMELEON_DROP_REPLICA_SCHEMA,
                 taskWorkspace, ChameleonConstants.ORDER_DROP_REPLICA_SCHEMA);
@@ -69,6 +99,11 @@ public abstract class ChameleonTask extends ToolTask {
      * Start migration table
      */
     protected void tableMigration() {
+        if (isTableDataSkipped) {
+            LOGGER.info("The data of all the tables has been migrated by the previous run, skip the table migration");
+            return;
+        }
+
         TaskProcess initRelicaProcess = new ChameleonProcess(ProcessNameConstants.CHAMELEON_INIT_REPLICA, taskWorkspace,
                 ChameleonConstants.ORDER_INIT_REPLICA);
         currentProcess = initRelicaProcess;
@@ -80,15 +115,40 @@ public abstract class ChameleonTask extends ToolTask {
      * Wait table migration exit
      */
     protected void waitTableMigrationExit() {
+        if (isTableDataSkipped) {
+            isTableDataSkipped = false;
+            afterTableMigration(!migrationStopIndicator.isStopped());
+            return;
+        }
+
         if (currentProcess != null
                 && currentProcess.getProcessName().equals(ProcessNameConstants.CHAMELEON_INIT_REPLICA)) {
             currentProcess.waitExit();
             if (!currentProcess.checkStatus()) {
                 throw new MigrationException("Failed to migrate table, please check the log for details.");
             }
+            afterTableMigration(!currentProcess.isStopped() && !migrationStopIndicator.isStopped());
         }
     }
 
+    /**
+     * Get the names of the tables whose data has been migrated by the table migration
+     *
+     * @return migrated table names
+     */
+    protected List<String> getMigratedTableNames() {
+        FullTableCheckpointRecorder recorder = checkpointRecorder;
+        return recorder == null ? List.of() : recorder.getCompletedTableNames();
+    }
+
+    /**
+     * Verify the completed tables of the checkpoint on openGauss
+     *
+     * @param checkpoint full table checkpoint
+     * @return the checkpoint with the verified completed tables, empty if no completed table is verified
+     */
+    protected abstract Optional<FullTableCheckpoint> verifyCompletedTables(FullTableCheckpoint checkpoint);
+
     /**
      * Start and wait exit migration trigger
      */
@@ -199,7 +259,46 @@ public abstract class ChameleonTask extends ToolTask {
         }
     }
 
-    private void prepareConfigFile() {
+    private void afterTableMigration(boolean isFinished) {
+        if (isFinished && checkpointRecorder != null) {
+            checkpointRecorder.finish();
+        }
+        if (resumedCheckpoint != null) {
+            // the objects and the foreign keys are migrated for all the tables
+            copyConfigFile();
+            FullTableCheckpoint checkpoint = resumedCheckpoint;
+            resumedCheckpoint = null;
+            if (isFinished) {
+                checkResumedTables(checkpoint);
+            }
+        }
+    }
+
+    private void limitUnfinishedTables(String configFilePath, FullTableCheckpoint checkpoint) {
+        List<String> unfinishedTables = FullMigrationCheckpointHelper.getUnfinishedTables(checkpoint).stream()
+                .map(FullEntry::getName)
+                .toList();
+        try {
+            // keep the existing schema, otherwise init_replica swaps in a new schema without the completed tables
+            YmlUtils.updateYaml(configFilePath, Map.of(ChameleonConfig.MYSQL_LIMIT_TABLES, unfinishedTables,
+                    ChameleonConfig.MYSQL_KEEP_EXISTING_SCHEMA, true));
+        } catch (IOException e) {
+            throw new TaskException("Failed to limit the tables of full migration", e);
+        }
+        LOGGER.info("Only the unfinished tables are migrated: {}", unfinishedTables);
+    }
+
+    private void checkResumedTables(FullTableCheckpoint checkpoint) {
+        int verifiedCount = verifyCompletedTables(checkpoint)
+                .map(verifiedCheckpoint -> verifiedCheckpoint.getCompletedTables().size())
+                .orElse(0);
+        if (verifiedCount < checkpoint.getCompletedTables().size()) {
+            throw new MigrationException("The tables migrated by the previous run are missing or changed after "
+                    + "the table migration is resumed, the checkpoint is discarded, please migrate again.");
+        }
+    }
+
+    private String prepareConfigFile() {
         Chameleon chameleon = Chameleon.getInstance();
         String chameleonPath = chameleon.getChameleonPath();
         String prepareConfigDirCommand = String.format("%s %s", chameleonPath,
@@ -212,7 +311,10 @@ public abstract class ChameleonTask extends ToolTask {
         } catch (IOException | InterruptedException e) {
             throw new TaskException("Failed to set configuration files", e);
         }
+        return copyConfigFile();
+    }
 
+    private String copyConfigFile() {
         String targetFileName = ChameleonHelper.generateFullMigrationConfigFileName(taskWorkspace);
         String targetFilePath = String.format("%s/%s", ChameleonConstants.PG_CHAMELEON_CONFIG_DIR_PATH, targetFileName);
         targetFilePath = targetFilePath.replaceFirst("~", System.getProperty("user.home"));
@@ -221,5 +323,6 @@ public abstract class ChameleonTask extends ToolTask {
         } catch (IOException e) {
             throw new TaskException("Failed to copy full migration config file", e);
         }
+        return targetFilePath;
     }
 }
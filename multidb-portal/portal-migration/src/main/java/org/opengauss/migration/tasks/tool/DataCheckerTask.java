@@ -178,19 +178,28 @@ public abstract class DataCheckerTask extends ToolTask {
      * Init full check processes
      */
     protected void initFullProcess() {
+        initFullProcess(DataCheckerHelper.getFullProcessSignFilePath(taskWorkspace));
+    }
+
+    /**
+     * Init full check processes which write the process sign into the sign file
+     *
+     * @param signFilePath process sign file path
+     */
+    protected void initFullProcess(String signFilePath) {
         String sourcePrefixOptions = migrationConfigDto.getFullCheckSourceProcessJvm();
         String sinkPrefixOptions = migrationConfigDto.getFullCheckSinkProcessJvm();
         String checkPrefixOptions = migrationConfigDto.getFullCheckCheckProcessJvm();
 
         sourceProcess = new DataCheckerProcess(
                 ProcessNameConstants.DATA_CHECKER_FULL_SOURCE, taskWorkspace, sourceConfig,
-                DataCheckerProcessType.SOURCE, sourcePrefixOptions, true);
+                DataCheckerProcessType.SOURCE, sourcePrefixOptions, true, signFilePath);
         sinkProcess = new DataCheckerProcess(
                 ProcessNameConstants.DATA_CHECKER_FULL_SINK, taskWorkspace, sinkConfig,
-                DataCheckerProcessType.SINK, sinkPrefixOptions, true);
+                DataCheckerProcessType.SINK, sinkPrefixOptions, true, signFilePath);
         checkProcess = new DataCheckerProcess(
                 ProcessNameConstants.DATA_CHECKER_FULL_CHECK, taskWorkspace, checkConfig,
-                DataCheckerProcessType.CHECK, checkPrefixOptions, true);
+                DataCheckerProcessType.CHECK, checkPrefixOptions, true, signFilePath);
     }
 
     /**
@@ -30,6 +30,7 @@ import java.util.HashMap;
  */
 public abstract class DebeziumTask extends ToolTask {
     private static final Logger LOGGER = LogManager.getLogger(DebeziumTask.class);
+    private static final String CONNECTOR_NAME = "name";
 
     /**
      * Migration stop indicator
@@ -75,6 +76,8 @@ public abstract class DebeziumTask extends ToolTask {
     private DebeziumProcess sinkProcess;
     private int sourcePort = 8083;
     private int sinkPort = 8084;
+    private KafkaConnectClient sourceConnectClient;
+    private KafkaConnectClient sinkConnectClient;
 
     protected DebeziumTask(ProcessMonitor processMonitor, MigrationStopIndicator migrationStopIndicator,
                            TaskWorkspace taskWorkspace, DebeziumConfigBundle debeziumConfig) {
@@ -176,15 +179,52 @@ public abstract class DebeziumTask extends ToolTask {
     }
 
     /**
-     * Resume pause task
+     * Resume pause task, the exited processes are started again, and the connectors of the running processes are
+     * resumed or restarted through the rest api of the workers if they are not running
      */
     protected void resumeProcess() {
-        if (sinkProcess != null && sinkProcess.isStopped()) {
-            startSinkProcess();
+        if (sinkProcess != null) {
+            if (sinkProcess.isStopped() || !sinkProcess.recover()) {
+                startSinkProcess();
+            } else if (sinkConnectClient != null) {
+                sinkConnectClient.ensureRunning(getConnectorName(sinkConnectConfig));
+            }
+        }
+        if (sourceProcess != null) {
+            if (sourceProcess.isStopped() || !sourceProcess.recover()) {
+                startSourceProcess();
+            } else if (sourceConnectClient != null) {
+                sourceConnectClient.ensureRunning(getConnectorName(sourceConnectConfig));
+            }
+        }
+    }
+
+    /**
+     * Restart the connectors inside the running processes through the rest api of the workers, so the processes do
+     * not have to be killed and started again.
+     * The workers keep the configs, rest ports and committed offsets loaded when the processes were started, so the
+     * preparation done before starting the source process, such as refreshing the schema compatibility, the history
+     * topic, the ports and the snapshot offset, is not done again. The connectors continue from the committed offsets.
+     *
+     * @return true if both connectors are restarted, false if a process is not running or the restart failed, then
+     *         the processes have to be restarted
+     */
+    public boolean restartInPlace() {
+        if (sourceProcess == null || sinkProcess == null || sourceConnectClient == null || sinkConnectClient == null
+                || sourceProcess.isStopped() || sinkProcess.isStopped()
+                || !sourceProcess.isAlive() || !sinkProcess.isAlive()) {
+            return false;
         }
-        if (sinkProcess != null && sourceProcess.isStopped()) {
-            startSourceProcess();
+
+        String sinkConnectorName = getConnectorName(sinkConnectConfig);
+        String sourceConnectorName = getConnectorName(sourceConnectConfig);
+        if (sinkConnectClient.restart(sinkConnectorName) && sourceConnectClient.restart(sourceConnectorName)) {
+            LOGGER.info("Restarted connectors {} and {} in the running workers", sourceConnectorName,
+                    sinkConnectorName);
+            return true;
         }
+        LOGGER.warn("Failed to restart connectors in the running workers");
+        return false;
     }
 
     /**
@@ -216,6 +256,7 @@ public abstract class DebeziumTask extends ToolTask {
         HashMap<String, Object> changeConfig = new HashMap<>();
         changeConfig.put(ConnectAvroStandaloneConfig.REST_PORT, sourcePort);
         sourceWorkerConfig.changeConfig(changeConfig);
+        sourceConnectClient = new KafkaConnectClient(sourcePort);
     }
 
     /**
@@ -232,5 +273,10 @@ public abstract class DebeziumTask extends ToolTask {
         HashMap<String, Object> changeConfig = new HashMap<>();
         changeConfig.put(ConnectAvroStandaloneConfig.REST_PORT, sinkPort);
         sinkWorkerConfig.changeConfig(changeConfig);
+        sinkConnectClient = new KafkaConnectClient(sinkPort);
+    }
+
+    private static String getConnectorName(ConfigFile connectConfig) {
+        return String.valueOf(connectConfig.getConfigMap().get(CONNECTOR_NAME));
     }
 }
@@ -6,12 +6,14 @@ package org.opengauss.migration.tasks.tool;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.elasticsearch.client.RestClient;
 import org.opengauss.migration.constants.ProcessNameConstants;
 import org.opengauss.migration.constants.config.ElasticsearchMigrationToolConfig;
 import org.opengauss.constants.tool.ElasticsearchMigrationToolConstants;
 import org.opengauss.migration.domain.config.ElasticsearchMigrationConfig;
 import org.opengauss.migration.domain.model.ConfigFile;
 import org.opengauss.migration.domain.model.MigrationStopIndicator;
+import org.opengauss.migration.engine.ElasticsearchIndexMigrator;
 import org.opengauss.domain.model.TaskWorkspace;
 import org.opengauss.migration.exceptions.MigrationException;
 import org.opengauss.migration.MigrationContext;
@@ -21,10 +23,14 @@ import org.opengauss.migration.process.task.TaskProcess;
 import org.opengauss.migration.progress.ElasticsearchProgressMonitor;
 import org.opengauss.migration.progress.ProgressMonitor;
 import org.opengauss.migration.tasks.ToolTask;
+import org.opengauss.migration.utils.ElasticsearchUtils;
 import org.opengauss.utils.FileUtils;
 
 import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
@@ -42,6 +48,7 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public abstract class ElasticsearchMigrationToolTask extends ToolTask {
     private static final Logger LOGGER = LogManager.getLogger(ElasticsearchMigrationToolTask.class);
+    private static final int WORKER_CONNECTION_VALID_TIMEOUT_SECONDS = 5;
 
     private final ConfigFile configFile;
     private final Map<String, String> tableMappings;
@@ -51,9 +58,13 @@ public abstract class ElasticsearchMigrationToolTask extends ToolTask {
     private final AtomicInteger migratedCount = new AtomicInteger(0);
     private final Set<TaskProcess> runningProcesses = ConcurrentHashMap.newKeySet();
     private final Map<String, String> processEnv;
+    private final ElasticsearchMigrationConfig migrationConfigDto;
+    private final boolean isNativeEngine;
+    private final Set<Connection> workerConnections = ConcurrentHashMap.newKeySet();
 
     private MigrationStopIndicator migrationStopIndicator;
     private ElasticsearchProgressMonitor elasticsearchProgressMonitor;
+    private RestClient restClient;
 
     private volatile boolean hasProductionCompleted = false;
 
@@ -77,6 +88,8 @@ public abstract class ElasticsearchMigrationToolTask extends ToolTask {
                 new LinkedBlockingQueue<>()
         );
         this.processEnv = generateProcessEnv(migrationConfigDto);
+        this.migrationConfigDto = migrationConfigDto;
+        this.isNativeEngine = migrationConfigDto.isNativeMigrationEngine();
 
         getMigrationContextInfo();
     }
@@ -108,6 +121,8 @@ public abstract class ElasticsearchMigrationToolTask extends ToolTask {
     protected void stopMigration() {
         runningProcesses.forEach(TaskProcess::stop);
         executorService.shutdownNow();
+        workerConnections.forEach(this::abortConnection);
+        closeRestClient();
     }
 
     /**
@@ -115,6 +130,7 @@ public abstract class ElasticsearchMigrationToolTask extends ToolTask {
      */
     protected void afterMigration() {
         shutdownExecutorService();
+        closeRestClient();
         cleanTmpFiles();
     }
 
@@ -177,7 +193,9 @@ public abstract class ElasticsearchMigrationToolTask extends ToolTask {
 
     private void producer() {
         try {
-            for (Map.Entry<String, String> entry : tableMappings.entrySet()) {
+            List<Map.Entry<String, String>> entries = WorkloadScheduler.orderLongestFirst(tableMappings,
+                    getIndexStoreSizes());
+            for (Map.Entry<String, String> entry : entries) {
                 if (migrationStopIndicator != null && migrationStopIndicator.isStopped()) {
                     LOGGER.info("Migration stopped during production, skip remaining index migration");
                     return;
@@ -196,14 +214,30 @@ public abstract class ElasticsearchMigrationToolTask extends ToolTask {
         }
     }
 
+    private Map<String, Long> getIndexStoreSizes() {
+        try {
+            return ElasticsearchUtils.getIndexStoreSizes(getRestClient(), tableMappings.keySet());
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Failed to get the store sizes of Elasticsearch indexes, error: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
     private void consumer() {
         String threadName = Thread.currentThread().getName();
         LOGGER.debug("Elasticsearch migration task consumer thread {} started", threadName);
 
+        Connection connection = null;
         try {
             while (!migrationStopIndicator.isStopped() && (!hasProductionCompleted || !workQueue.isEmpty())) {
                 Map.Entry<String, String> entry = workQueue.poll(1, TimeUnit.SECONDS);
-                if (entry != null) {
+                if (entry == null) {
+                    continue;
+                }
+
+                if (isNativeEngine) {
+                    connection = migrateIndexInProcess(entry, connection);
+                } else {
                     migrationIndex(entry);
                 }
             }
@@ -211,10 +245,82 @@ public abstract class ElasticsearchMigrationToolTask extends ToolTask {
             LOGGER.warn("Elasticsearch migration task consumer thread {} interrupted", threadName);
             Thread.currentThread().interrupt();
         } finally {
+            closeConnection(connection);
             LOGGER.debug("Elasticsearch migration task consumer thread {} finished", threadName);
         }
     }
 
+    private Connection migrateIndexInProcess(Map.Entry<String, String> entry, Connection connection) {
+        Connection workerConnection = connection;
+        String index = entry.getKey();
+        try {
+            if (migrationStopIndicator.isStopped()) {
+                LOGGER.info("Migration task is stopped, skip remaining index migration");
+                return workerConnection;
+            }
+
+            workerConnection = getWorkerConnection(workerConnection);
+            new ElasticsearchIndexMigrator(getRestClient(), workerConnection, migrationStopIndicator)
+                    .migrate(index, entry.getValue());
+            elasticsearchProgressMonitor.addCompletedIndex(index);
+        } catch (Exception e) {
+            LOGGER.error("Failed to migrate Elasticsearch index '{}'", index, e);
+            elasticsearchProgressMonitor.addFailedIndex(index);
+        } finally {
+            migratedCount.incrementAndGet();
+        }
+        return workerConnection;
+    }
+
+    private Connection getWorkerConnection(Connection connection) throws SQLException {
+        if (connection != null && connection.isValid(WORKER_CONNECTION_VALID_TIMEOUT_SECONDS)) {
+            return connection;
+        }
+
+        closeConnection(connection);
+        Connection newConnection = migrationConfigDto.getOpenGaussConnection();
+        workerConnections.add(newConnection);
+        return newConnection;
+    }
+
+    private synchronized RestClient getRestClient() {
+        if (restClient == null) {
+            restClient = migrationConfigDto.getElasticsearchRestClient();
+        }
+        return restClient;
+    }
+
+    private synchronized void closeRestClient() {
+        try {
+            ElasticsearchUtils.closeClient(restClient);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to close Elasticsearch rest client, error: {}", e.getMessage());
+        }
+        restClient = null;
+    }
+
+    private void abortConnection(Connection connection) {
+        workerConnections.remove(connection);
+        try {
+            connection.abort(Runnable::run);
+        } catch (SQLException e) {
+            LOGGER.warn("Failed to abort openGauss connection, error: {}", e.getMessage());
+        }
+    }
+
+    private void closeConnection(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+
+        workerConnections.remove(connection);
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            LOGGER.warn("Failed to close openGauss connection, error: {}", e.getMessage());
+        }
+    }
+
     private void migrationIndex(Map.Entry<String, String> entry) {
         try {
             if (migrationStopIndicator.isStopped()) {
@@ -247,9 +353,10 @@ public abstract class ElasticsearchMigrationToolTask extends ToolTask {
     private boolean determineMigrationResult(String index) {
         String logPath = ElasticsearchMigrationToolHelper.getFullMigrationLogPath(taskWorkspace, index);
         try {
-            String logContent = FileUtils.readFileContents(logPath);
-            if (logContent.contains(ElasticsearchMigrationToolConstants.MIGRATION_SUCCESS_FLAG)
-                    && !logContent.contains(ElasticsearchMigrationToolConstants.MIGRATION_FAILED_FLAG)) {
+            String successFlag = ElasticsearchMigrationToolConstants.MIGRATION_SUCCESS_FLAG;
+            String failedFlag = ElasticsearchMigrationToolConstants.MIGRATION_FAILED_FLAG;
+            Set<String> flags = FileUtils.findTargetsInFileLines(logPath, List.of(successFlag, failedFlag));
+            if (flags.contains(successFlag) && !flags.contains(failedFlag)) {
                 return true;
             }
         } catch (IOException e) {
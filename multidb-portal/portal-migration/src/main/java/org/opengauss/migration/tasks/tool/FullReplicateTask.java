@@ -13,9 +13,12 @@ import org.opengauss.migration.domain.dto.FullReplicateConfigBundle;
 import org.opengauss.migration.domain.model.MigrationStopIndicator;
 import org.opengauss.domain.model.TaskWorkspace;
 import org.opengauss.migration.exceptions.MigrationException;
+import org.opengauss.migration.MigrationContext;
 import org.opengauss.migration.tasks.ToolTask;
 import org.opengauss.migration.process.task.FullReplicateProcess;
 import org.opengauss.migration.process.task.TaskProcess;
+import org.opengauss.migration.progress.FullTableCheckpointRecorder;
+import org.opengauss.migration.progress.model.FullTableCheckpoint;
 
 /**
  * oG_datasync_full_migration task
@@ -41,6 +44,8 @@ public abstract class FullReplicateTask extends ToolTask {
     protected final String jvmPrefix;
 
     private TaskProcess currentProcess;
+    private FullTableCheckpointRecorder checkpointRecorder;
+    private boolean isTableDataSkipped = false;
 
     protected FullReplicateTask(TaskWorkspace taskWorkspace, MigrationStopIndicator migrationStopIndicator,
                              FullReplicateConfigBundle fullMigrationToolConfig, String jvmPrefix) {
@@ -63,10 +68,37 @@ public abstract class FullReplicateTask extends ToolTask {
         dropSchemaProcess.waitExit();
     }
 
+    /**
+     * Start recording the table checkpoint of this task, the table progress read by the progress monitor is recorded
+     *
+     * @param checkpointRecorder table checkpoint recorder of this task
+     * @param resumedCheckpoint the verified checkpoint of the previous run, null if the migration is not resumed
+     * @param sourceTableCount the number of the tables to migrate on the source database, -1 if it is unknown
+     */
+    protected void startCheckpoint(FullTableCheckpointRecorder checkpointRecorder,
+                                   FullTableCheckpoint resumedCheckpoint, int sourceTableCount) {
+        this.checkpointRecorder = checkpointRecorder;
+        checkpointRecorder.start(resumedCheckpoint, sourceTableCount);
+        MigrationContext.getInstance().getProgressMonitor().setFullTableCheckpointRecorder(checkpointRecorder);
+    }
+
+    /**
+     * Skip the table data migration, when the data of all the tables has been migrated by the previous run, the
+     * sequences, keys, indexes and constraints are still migrated
+     */
+    protected void skipTableDataMigration() {
+        isTableDataSkipped = true;
+    }
+
     /**
      * Start migration table
      */
     protected void tableMigration() {
+        if (isTableDataSkipped) {
+            LOGGER.info("The data of all the tables has been migrated by the previous run, skip the table migration");
+            return;
+        }
+
         FullReplicateProcess tableProcess = new FullReplicateProcess(
                 ProcessNameConstants.FULL_REPLICATE_MIGRATION_TABLE, taskWorkspace, fullConfig,
                 FullReplicateConstants.SUPPORT_SOURCE_DB_TYPE_PGSQL, FullReplicateConstants.ORDER_TABLE,
@@ -80,12 +112,23 @@ public abstract class FullReplicateTask extends ToolTask {
      * Wait table migration exit
      */
     protected void waitTableMigrationExit() {
-        if (currentProcess != null
-                && currentProcess.getProcessName().equals(ProcessNameConstants.FULL_REPLICATE_MIGRATION_TABLE)) {
-            currentProcess.waitExit();
-            if (!currentProcess.checkStatus()) {
-                throw new MigrationException("Failed to migrate table, please check the log for details.");
+        boolean isTableProcess = currentProcess != null
+                && currentProcess.getProcessName().equals(ProcessNameConstants.FULL_REPLICATE_MIGRATION_TABLE);
+        if (isTableDataSkipped || isTableProcess) {
+            boolean isFinished = !migrationStopIndicator.isStopped();
+            if (isTableDataSkipped) {
+                isTableDataSkipped = false;
+            } else {
+                currentProcess.waitExit();
+                if (!currentProcess.checkStatus()) {
+                    throw new MigrationException("Failed to migrate table, please check the log for details.");
+                }
+                isFinished = !currentProcess.isStopped() && !migrationStopIndicator.isStopped();
             }
+            if (isFinished && checkpointRecorder != null) {
+                checkpointRecorder.finish();
+            }
+            afterTableDataMigration(isFinished);
 
             FullReplicateProcess sequenceProcess = new FullReplicateProcess(
                     ProcessNameConstants.FULL_REPLICATE_MIGRATION_SEQUENCE, taskWorkspace, fullConfig,
@@ -110,6 +153,14 @@ public abstract class FullReplicateTask extends ToolTask {
         }
     }
 
+    /**
+     * Called when the table migration process exits, before the sequences, keys, indexes and constraints are migrated
+     *
+     * @param isFinished whether the table migration finished without being stopped
+     */
+    protected void afterTableDataMigration(boolean isFinished) {
+    }
+
     /**
      * Start migration trigger and wait exit
      */
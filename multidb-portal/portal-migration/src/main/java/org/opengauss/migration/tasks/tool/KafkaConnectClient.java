@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.migration.tasks.tool;
+
+import com.alibaba.fastjson2.JSONArray;
+import com.alibaba.fastjson2.JSONObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opengauss.constants.tool.KafkaConstants;
+import org.opengauss.migration.utils.HttpUtils;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Kafka connect client.
+ * Drives the connectors of one Kafka Connect worker through its REST API, so a connector can be resumed and
+ * restarted inside the running worker instead of killing and starting the worker again.
+ *
+ * @since 2025/11/14
+ */
+final class KafkaConnectClient {
+    private static final Logger LOGGER = LogManager.getLogger(KafkaConnectClient.class);
+    private static final String STATE_RUNNING = "RUNNING";
+    private static final String STATE_PAUSED = "PAUSED";
+    private static final String JSON_CONTENT_TYPE = "application/json";
+
+    private final String workerUrl;
+
+    KafkaConnectClient(int restPort) {
+        this.workerUrl = String.format("%s%s:%d", KafkaConstants.CONFLUENT_URL_PREFIX, KafkaConstants.CONFLUENT_IP,
+                restPort);
+    }
+
+    /**
+     * Resume the paused connector and its tasks
+     *
+     * @param connectorName connector name
+     * @return true if the worker accepted the request
+     */
+    boolean resume(String connectorName) {
+        return put(connectorUrl(connectorName) + "/resume");
+    }
+
+    /**
+     * Restart the connector and all its tasks
+     *
+     * @param connectorName connector name
+     * @return true if the worker restarted the connector and all its tasks
+     */
+    boolean restart(String connectorName) {
+        if (!post(connectorUrl(connectorName) + "/restart")) {
+            return false;
+        }
+
+        // the worker only restarts the connector instance, the tasks have to be restarted one by one
+        boolean isAllRestarted = true;
+        for (Integer taskId : getTaskIds(connectorName)) {
+            isAllRestarted &= post(String.format("%s/tasks/%d/restart", connectorUrl(connectorName), taskId));
+        }
+        return isAllRestarted;
+    }
+
+    /**
+     * Make sure the connector and all its tasks are running, a paused connector is resumed and a failed connector
+     * or task is restarted
+     *
+     * @param connectorName connector name
+     * @return true if the connector is running or the worker accepted the request to resume or restart it
+     */
+    boolean ensureRunning(String connectorName) {
+        if (isRunning(connectorName)) {
+            return true;
+        }
+
+        String connectorState = getStatus(connectorName).map(status -> status.getJSONObject("connector"))
+                .map(connector -> connector.getString("state")).orElse("");
+        LOGGER.info("Connector {} is not running, state: {}", connectorName, connectorState);
+        return STATE_PAUSED.equals(connectorState) ? resume(connectorName) : restart(connectorName);
+    }
+
+    /**
+     * Whether the connector and all its tasks are running
+     *
+     * @param connectorName connector name
+     * @return true if the connector and all its tasks are running
+     */
+    boolean isRunning(String connectorName) {
+        Optional<JSONObject> statusOptional = getStatus(connectorName);
+        if (statusOptional.isEmpty()) {
+            return false;
+        }
+
+        JSONObject status = statusOptional.get();
+        JSONObject connector = status.getJSONObject("connector");
+        if (connector == null || !STATE_RUNNING.equals(connector.getString("state"))) {
+            return false;
+        }
+        JSONArray tasks = status.getJSONArray("tasks");
+        if (tasks == null || tasks.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < tasks.size(); i++) {
+            if (!STATE_RUNNING.equals(tasks.getJSONObject(i).getString("state"))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the status of the connector and its tasks
+     *
+     * @param connectorName connector name
+     * @return status json, empty if the worker can not be reached or the connector does not exist
+     */
+    Optional<JSONObject> getStatus(String connectorName) {
+        String url = connectorUrl(connectorName) + "/status";
+        try {
+            HttpUtils.HttpResult result = HttpUtils.get(url);
+            if (result.isSuccess()) {
+                return result.getJsonBody();
+            }
+            LOGGER.warn("Get connector status failed, url: {}, response: {}", url, result);
+        } catch (IOException e) {
+            LOGGER.warn("Get connector status failed, url: {}, error: {}", url, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return Optional.empty();
+    }
+
+    private List<Integer> getTaskIds(String connectorName) {
+        List<Integer> taskIds = new ArrayList<>();
+        getStatus(connectorName).map(status -> status.getJSONArray("tasks")).ifPresent(tasks -> {
+            for (int i = 0; i < tasks.size(); i++) {
+                taskIds.add(tasks.getJSONObject(i).getInteger("id"));
+            }
+        });
+        return taskIds;
+    }
+
+    private boolean put(String url) {
+        try {
+            HttpUtils.HttpResult result = HttpUtils.put(url, JSON_CONTENT_TYPE, "");
+            LOGGER.debug("PUT {}, response: {}", url, result);
+            return result.isSuccess();
+        } catch (IOException e) {
+            LOGGER.warn("PUT {} failed, error: {}", url, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private boolean post(String url) {
+        try {
+            HttpUtils.HttpResult result = HttpUtils.post(url);
+            LOGGER.debug("POST {}, response: {}", url, result);
+            return result.isSuccess();
+        } catch (IOException e) {
+            LOGGER.warn("POST {} failed, error: {}", url, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private String connectorUrl(String connectorName) {
+        return String.format("%s/connectors/%s", workerUrl, URLEncoder.encode(connectorName, StandardCharsets.UTF_8));
+    }
+}
@@ -4,6 +4,7 @@
 
 package org.opengauss.migration.tasks.tool;
 
+import io.milvus.v2.client.MilvusClientV2;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opengauss.migration.constants.ProcessNameConstants;
@@ -12,6 +13,7 @@ import org.opengauss.constants.tool.MilvusMigrationToolConstants;
 import org.opengauss.migration.domain.config.MilvusMigrationConfig;
 import org.opengauss.migration.domain.model.ConfigFile;
 import org.opengauss.migration.domain.model.MigrationStopIndicator;
+import org.opengauss.migration.engine.MilvusCollectionMigrator;
 import org.opengauss.domain.model.TaskWorkspace;
 import org.opengauss.migration.exceptions.MigrationException;
 import org.opengauss.migration.MigrationContext;
@@ -21,10 +23,14 @@ import org.opengauss.migration.process.task.TaskProcess;
 import org.opengauss.migration.progress.MilvusProgressMonitor;
 import org.opengauss.migration.progress.ProgressMonitor;
 import org.opengauss.migration.tasks.ToolTask;
+import org.opengauss.migration.utils.MilvusUtils;
 import org.opengauss.utils.FileUtils;
 
 import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
@@ -42,6 +48,8 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public abstract class MilvusMigrationToolTask extends ToolTask {
     private static final Logger LOGGER = LogManager.getLogger(MilvusMigrationToolTask.class);
+    private static final int WORKER_CONNECTION_VALID_TIMEOUT_SECONDS = 5;
+    private static final int DEFAULT_SPARSE_VECTOR_DIMENSION = 1000;
 
     private final ConfigFile configFile;
     private final Map<String, String> tableMappings;
@@ -51,9 +59,14 @@ public abstract class MilvusMigrationToolTask extends ToolTask {
     private final AtomicInteger migratedCount = new AtomicInteger(0);
     private final Set<TaskProcess> runningProcesses = ConcurrentHashMap.newKeySet();
     private final Map<String, String> processEnv;
+    private final MilvusMigrationConfig migrationConfigDto;
+    private final boolean isNativeEngine;
+    private final Set<Connection> workerConnections = ConcurrentHashMap.newKeySet();
 
     private MigrationStopIndicator migrationStopIndicator;
     private MilvusProgressMonitor milvusProgressMonitor;
+    private MilvusClientV2 milvusClient;
+    private boolean isMilvusClientClosed = false;
 
     private volatile boolean hasProductionCompleted = false;
 
@@ -76,6 +89,8 @@ public abstract class MilvusMigrationToolTask extends ToolTask {
                 new LinkedBlockingQueue<>()
         );
         this.processEnv = generateProcessEnv(migrationConfigDto);
+        this.migrationConfigDto = migrationConfigDto;
+        this.isNativeEngine = migrationConfigDto.isNativeMigrationEngine();
 
         getMigrationContextInfo();
     }
@@ -107,6 +122,8 @@ public abstract class MilvusMigrationToolTask extends ToolTask {
     protected void stopMigration() {
         runningProcesses.forEach(TaskProcess::stop);
         executorService.shutdownNow();
+        workerConnections.forEach(this::abortConnection);
+        closeMilvusClient();
     }
 
     /**
@@ -114,12 +131,15 @@ public abstract class MilvusMigrationToolTask extends ToolTask {
      */
     protected void afterMigration() {
         shutdownExecutorService();
+        closeMilvusClient();
         cleanTmpFiles();
     }
 
     private void producer() {
         try {
-            for (Map.Entry<String, String> entry : tableMappings.entrySet()) {
+            List<Map.Entry<String, String>> entries = WorkloadScheduler.orderLongestFirst(tableMappings,
+                    getCollectionRowCounts());
+            for (Map.Entry<String, String> entry : entries) {
                 if (migrationStopIndicator != null && migrationStopIndicator.isStopped()) {
                     LOGGER.info("Migration stopped during production, skip remaining collection migration");
                     return;
@@ -138,14 +158,34 @@ public abstract class MilvusMigrationToolTask extends ToolTask {
         }
     }
 
+    private Map<String, Long> getCollectionRowCounts() {
+        Map<String, Long> rowCounts = new HashMap<>();
+        for (String collection : tableMappings.keySet()) {
+            try {
+                rowCounts.put(collection, MilvusUtils.getCollectionRowCount(getMilvusClient(), collection));
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to get the row count of Milvus collection '{}', error: {}", collection,
+                        e.getMessage());
+            }
+        }
+        return rowCounts;
+    }
+
     private void consumer() {
         String threadName = Thread.currentThread().getName();
         LOGGER.debug("Milvus migration task consumer thread {} started", threadName);
 
+        Connection connection = null;
         try {
             while (!migrationStopIndicator.isStopped() && (!hasProductionCompleted || !workQueue.isEmpty())) {
                 Map.Entry<String, String> entry = workQueue.poll(1, TimeUnit.SECONDS);
-                if (entry != null) {
+                if (entry == null) {
+                    continue;
+                }
+
+                if (isNativeEngine) {
+                    connection = migrateCollectionInProcess(entry, connection);
+                } else {
                     migrationCollection(entry);
                 }
             }
@@ -153,10 +193,98 @@ public abstract class MilvusMigrationToolTask extends ToolTask {
             LOGGER.warn("Milvus migration task consumer thread {} interrupted", threadName);
             Thread.currentThread().interrupt();
         } finally {
+            closeConnection(connection);
             LOGGER.debug("Milvus migration task consumer thread {} finished", threadName);
         }
     }
 
+    private Connection migrateCollectionInProcess(Map.Entry<String, String> entry, Connection connection) {
+        Connection workerConnection = connection;
+        String collection = entry.getKey();
+        try {
+            if (migrationStopIndicator.isStopped()) {
+                LOGGER.info("Migration task is stopped, skip remaining collection migration");
+                return workerConnection;
+            }
+
+            workerConnection = getWorkerConnection(workerConnection);
+            new MilvusCollectionMigrator(getMilvusClient(), workerConnection, migrationStopIndicator,
+                    getSparseVectorDimension())
+                    .migrate(collection, entry.getValue());
+            milvusProgressMonitor.addCompletedCollection(collection);
+        } catch (Exception e) {
+            LOGGER.error("Failed to migrate Milvus collection '{}'", collection, e);
+            milvusProgressMonitor.addFailedCollection(collection);
+        } finally {
+            migratedCount.incrementAndGet();
+        }
+        return workerConnection;
+    }
+
+    private Connection getWorkerConnection(Connection connection) throws SQLException {
+        if (connection != null && connection.isValid(WORKER_CONNECTION_VALID_TIMEOUT_SECONDS)) {
+            return connection;
+        }
+
+        closeConnection(connection);
+        Connection newConnection = migrationConfigDto.getOpenGaussConnection();
+        workerConnections.add(newConnection);
+        return newConnection;
+    }
+
+    private int getSparseVectorDimension() {
+        Object dimension = configFile.getConfigMap().get(MilvusMigrationToolConfig.SPARSE_VECTOR_DEFAULT_DIMENSION);
+        if (dimension == null) {
+            return DEFAULT_SPARSE_VECTOR_DIMENSION;
+        }
+
+        try {
+            return Integer.parseInt(dimension.toString().trim());
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Invalid sparse vector dimension '{}', use the default dimension {}", dimension,
+                    DEFAULT_SPARSE_VECTOR_DIMENSION);
+            return DEFAULT_SPARSE_VECTOR_DIMENSION;
+        }
+    }
+
+    private synchronized MilvusClientV2 getMilvusClient() {
+        if (isMilvusClientClosed) {
+            throw new MigrationException("Milvus client is closed, the migration is stopped or finished");
+        }
+        if (milvusClient == null) {
+            milvusClient = migrationConfigDto.getMilvusClientV2();
+        }
+        return milvusClient;
+    }
+
+    private synchronized void closeMilvusClient() {
+        MilvusUtils.closeMilvusClientV2(milvusClient);
+        milvusClient = null;
+        isMilvusClientClosed = true;
+    }
+
+    private void abortConnection(Connection connection) {
+        workerConnections.remove(connection);
+        try {
+            connection.abort(Runnable::run);
+        } catch (SQLException e) {
+            LOGGER.warn("Failed to abort openGauss connection, error: {}", e.getMessage());
+        }
+    }
+
+    private void closeConnection(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+
+        workerConnections.remove(connection);
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            LOGGER.warn("Failed to close openGauss connection, error: {}", e.getMessage());
+        }
+    }
+
     private void migrationCollection(Map.Entry<String, String> entry) {
         try {
             if (migrationStopIndicator.isStopped()) {
@@ -188,9 +316,10 @@ public abstract class MilvusMigrationToolTask extends ToolTask {
     private boolean determineMigrationResult(String collection) {
         String logPath = MilvusMigrationToolHelper.generateFullMigrationLogPath(taskWorkspace, collection);
         try {
-            String logContent = FileUtils.readFileContents(logPath);
-            if (logContent.contains(MilvusMigrationToolConstants.MIGRATION_SUCCESS_FLAG)
-                    && !logContent.contains(MilvusMigrationToolConstants.MIGRATION_FAILED_FLAG)) {
+            String successFlag = MilvusMigrationToolConstants.MIGRATION_SUCCESS_FLAG;
+            String failedFlag = MilvusMigrationToolConstants.MIGRATION_FAILED_FLAG;
+            Set<String> flags = FileUtils.findTargetsInFileLines(logPath, List.of(successFlag, failedFlag));
+            if (flags.contains(successFlag) && !flags.contains(failedFlag)) {
                 return true;
             }
         } catch (IOException e) {
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.migration.tasks.tool;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Workload scheduler.
+ * Orders the migration objects longest first, so the largest objects are started while all the workers are still
+ * busy and the small ones fill the gaps at the end, instead of one large object started last running alone.
+ *
+ * @since 2025/11/13
+ */
+final class WorkloadScheduler {
+    private static final Logger LOGGER = LogManager.getLogger(WorkloadScheduler.class);
+    private static final long UNKNOWN_SIZE = -1L;
+
+    private WorkloadScheduler() {
+    }
+
+    /**
+     * Order the table mappings by the size of the source objects, the largest first. The objects whose size is
+     * unknown are put at the end, in the original order.
+     *
+     * @param tableMappings source object name to target table name
+     * @param objectSizes source object name to size, the unit only has to be the same for all objects
+     * @return ordered table mappings
+     */
+    static List<Map.Entry<String, String>> orderLongestFirst(Map<String, String> tableMappings,
+                                                             Map<String, Long> objectSizes) {
+        List<Map.Entry<String, String>> entries = new ArrayList<>(tableMappings.entrySet());
+        entries.sort(Comparator.comparingLong(
+                (Map.Entry<String, String> entry) -> objectSizes.getOrDefault(entry.getKey(), UNKNOWN_SIZE))
+                .reversed());
+
+        if (LOGGER.isDebugEnabled()) {
+            for (Map.Entry<String, String> entry : entries) {
+                LOGGER.debug("Schedule '{}', size: {}", entry.getKey(),
+                        objectSizes.getOrDefault(entry.getKey(), UNKNOWN_SIZE));
+            }
+        }
+        return entries;
+    }
+}
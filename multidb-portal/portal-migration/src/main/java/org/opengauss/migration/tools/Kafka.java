@@ -4,6 +4,7 @@
 
 package org.opengauss.migration.tools;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -14,19 +15,25 @@ import org.opengauss.exceptions.KafkaException;
 import org.opengauss.migration.process.ConfluentProcess;
 import org.opengauss.config.Portal;
 import org.opengauss.utils.FileUtils;
+import org.opengauss.migration.utils.HttpUtils;
 import org.opengauss.migration.utils.PortUtils;
 import org.opengauss.migration.utils.ProcessUtils;
 import org.opengauss.utils.PropertiesUtils;
 import org.opengauss.migration.utils.ThreadUtils;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
-import java.util.stream.Collectors;
+import java.util.function.BooleanSupplier;
 
 /**
  * kafka
@@ -36,9 +43,13 @@ import java.util.stream.Collectors;
 @Getter
 public class Kafka extends Tool {
     private static final Logger LOGGER = LogManager.getLogger(Kafka.class);
-    private static final int ZOOKEEPER_START_TIME = 3000;
-    private static final int KAFKA_START_TIME = 10000;
-    private static final int SCHEMA_REGISTRY_START_TIME = 8000;
+    private static final int PROCESS_LAUNCH_TIME = 500;
+    private static final int PROCESS_STOP_TIME = 10000;
+    private static final long READY_CHECK_MIN_INTERVAL_MILLIS = 200L;
+    private static final long READY_CHECK_MAX_INTERVAL_MILLIS = 2000L;
+    private static final int ZOOKEEPER_PROBE_TIMEOUT_MILLIS = 1000;
+    private static final Map<String, String> HISTORY_TOPIC_CONFIGS = Map.of(
+            "cleanup.policy", "delete", "retention.ms", "-1", "retention.bytes", "-1");
 
     private static volatile Kafka instance;
 
@@ -67,6 +78,9 @@ public class Kafka extends Tool {
     private volatile ConfluentProcess kafkaProcess;
     private volatile ConfluentProcess schemaRegistryProcess;
 
+    @Getter(AccessLevel.NONE)
+    private final KafkaAdmin kafkaAdmin = new KafkaAdmin();
+
     private Kafka() {
         Portal portal = Portal.getInstance();
 
@@ -201,7 +215,7 @@ public class Kafka extends Tool {
             } else {
                 confluentZookeeperProcess.start();
                 String zookeeperPort = portProperties.getProperty(KafkaConstants.ZOOKEEPER_PORT_CONFIG_KEY);
-                checkZookeeper(zookeeperPort);
+                checkZookeeper(confluentZookeeperProcess, zookeeperPort);
             }
 
             LOGGER.info("Wait Kafka start");
@@ -211,7 +225,7 @@ public class Kafka extends Tool {
             } else {
                 confluentKafkaProcess.start();
                 String kafkaPort = portProperties.getProperty(KafkaConstants.KAFKA_PORT_CONFIG_KEY);
-                checkKafka(kafkaPort);
+                checkKafka(confluentKafkaProcess, kafkaPort);
             }
 
             LOGGER.info("Wait Schema Registry start");
@@ -221,7 +235,7 @@ public class Kafka extends Tool {
             } else {
                 confluentSchemaRegistryProcess.start();
                 String schemaRegistryPort = portProperties.getProperty(KafkaConstants.SCHEMA_REGISTRY_PORT_CONFIG_KEY);
-                checkSchemaRegistry(schemaRegistryPort);
+                checkSchemaRegistry(confluentSchemaRegistryProcess, schemaRegistryPort);
             }
 
             if (confluentZookeeperProcess.isAlive() && confluentKafkaProcess.isAlive()
@@ -235,8 +249,9 @@ public class Kafka extends Tool {
                 stopProcess(confluentSchemaRegistryProcess);
                 return false;
             }
-        } catch (IOException | InterruptedException e) {
-            throw new KafkaException("Start all Kafka process failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException("Start all Kafka process is interrupted", e);
         }
     }
 
@@ -251,6 +266,7 @@ public class Kafka extends Tool {
             return false;
         }
 
+        kafkaAdmin.close();
         ConfluentProcess schema = getSchemaRegistryProcess();
         stopProcess(schema);
 
@@ -407,61 +423,57 @@ public class Kafka extends Tool {
      */
     public void setSchemaCompatibilityToNone() {
         String schemaRegistryUrl = getSchemaRegistryUrl();
-        String changeCurl = String.format("curl -X PUT -H \"Content-Type: application/vnd.schemaregistry.v1+json\" "
-                + "--data '{\"compatibility\": \"NONE\"}' %s/config", schemaRegistryUrl);
         try {
-            String curlResult = ProcessUtils.executeCommandWithResult(changeCurl);
-            String jsonBody = "{\"compatibility\":\"NONE\"}";
-            if (curlResult.contains(jsonBody)) {
+            HttpUtils.HttpResult result = HttpUtils.put(schemaRegistryUrl + "/config",
+                    "application/vnd.schemaregistry.v1+json", "{\"compatibility\": \"NONE\"}");
+            String compatibility = result.getJsonBody().map(json -> json.getString("compatibility")).orElse("");
+            if (result.isSuccess() && "NONE".equals(compatibility)) {
                 LOGGER.info("Schema compatibility changed to NONE");
             } else {
-                LOGGER.error("Set schema compatibility to NONE failed");
+                LOGGER.error("Set schema compatibility to NONE failed, response: {}", result);
                 throw new KafkaException("Set schema compatibility to NONE failed");
             }
-        } catch (IOException | InterruptedException e) {
+        } catch (IOException e) {
             LOGGER.error("Set schema compatibility to NONE failed", e);
             throw new KafkaException("Set schema compatibility to NONE failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException("Set schema compatibility to NONE is interrupted", e);
         }
     }
 
     /**
-     * Get kafka topics
+     * Delete kafka topics in one request, the topics that do not exist are ignored
      *
-     * @return List<String> kafka topics
+     * @param topicNames topic names
      */
-    public List<String> getKafkaTopics() {
-        String kafkaIpPort = getKafkaIpPort();
-        String kafkaShellPath = String.format("%s/bin/kafka-topics", confluentDirPath);
-        String checkCommand = String.format("%s --bootstrap-server %s --list", kafkaShellPath, kafkaIpPort);
+    public void deleteKafkaTopics(Collection<String> topicNames) {
         try {
-            String commandResult = ProcessUtils.executeCommandWithResult(checkCommand, confluentDirPath);
-            String[] lines = commandResult.split("\n");
-            return Arrays.stream(lines).map(String::trim).collect(Collectors.toList());
-        } catch (IOException | InterruptedException e) {
-            LOGGER.error("Failed to get kafka topics", e);
-            return List.of();
+            kafkaAdmin.deleteTopics(getKafkaIpPort(), topicNames);
+        } catch (KafkaException e) {
+            LOGGER.error("Failed to delete kafka topics", e);
         }
     }
 
     /**
-     * Delete kafka topic
+     * Create kafka topics in one request, the topics that already exist are ignored
      *
-     * @param topicName topic name
+     * @param topicNames topic names
+     * @param partitions partition count of each topic
+     * @param topicConfigs topic configs, such as retention.ms
      */
-    public void deleteKafkaTopic(String topicName) {
-        String kafkaIpPort = getKafkaIpPort();
-        String kafkaShellPath = String.format("%s/bin/kafka-topics", confluentDirPath);
-        String checkCommand = String.format("%s --bootstrap-server %s --delete --topic %s",
-                kafkaShellPath, kafkaIpPort, topicName);
+    public void createKafkaTopics(Collection<String> topicNames, int partitions, Map<String, String> topicConfigs) {
+        kafkaAdmin.createTopics(getKafkaIpPort(), topicNames, partitions, topicConfigs);
+    }
 
-        try {
-            String commandResult = ProcessUtils.executeCommandWithResult(checkCommand, confluentDirPath);
-            if (commandResult.contains("ERROR")) {
-                LOGGER.warn("Delete kafka topic failed, topic: {}, error: {}", topicName, commandResult);
-            }
-        } catch (IOException | InterruptedException e) {
-            LOGGER.error("Failed to delete kafka topic", e);
-        }
+    /**
+     * Create the database history topic of the debezium source connector. The history topic must have only one
+     * partition and must never be cleaned up, otherwise the connector can not recover the table schemas.
+     *
+     * @param topicName topic name
+     */
+    public void createDatabaseHistoryKafkaTopic(String topicName) {
+        createKafkaTopics(List.of(topicName), 1, HISTORY_TOPIC_CONFIGS);
     }
 
     private Properties getKafkaPortProperties() {
@@ -482,7 +494,7 @@ public class Kafka extends Tool {
         String zookeeperLogPath = String.format("%s/%s", portal.getPortalLogsDirPath(), "zookeeper.log");
         if (zookeeperProcess == null) {
             zookeeperProcess = new ConfluentProcess("zookeeper", zookeeperCmd, zookeeperCheckCmd, zookeeperLogPath,
-                    ZOOKEEPER_START_TIME);
+                    PROCESS_LAUNCH_TIME);
         }
         return zookeeperProcess;
     }
@@ -491,7 +503,7 @@ public class Kafka extends Tool {
         String kafkaCmd = String.format("%s %s", kafkaStarterPath, kafkaConfigPath);
         String kafkaCheckCmd = String.format("SupportedKafka %s", kafkaConfigPath);
         if (kafkaProcess == null) {
-            kafkaProcess = new ConfluentProcess("kafka", kafkaCmd, kafkaCheckCmd, kafkaLogPath, KAFKA_START_TIME);
+            kafkaProcess = new ConfluentProcess("kafka", kafkaCmd, kafkaCheckCmd, kafkaLogPath, PROCESS_LAUNCH_TIME);
         }
         return kafkaProcess;
     }
@@ -504,7 +516,7 @@ public class Kafka extends Tool {
                 "schemaRegistry.log");
         if (schemaRegistryProcess == null) {
             schemaRegistryProcess = new ConfluentProcess("schema registry", schemaRegistryCmd, schemaRegistryCheckCmd,
-                    schemaRegistryLogPath, SCHEMA_REGISTRY_START_TIME);
+                    schemaRegistryLogPath, PROCESS_LAUNCH_TIME);
         }
         return schemaRegistryProcess;
     }
@@ -549,69 +561,116 @@ public class Kafka extends Tool {
                 FileUtils.createFile(kafkaPortConfigPath);
             }
             PropertiesUtils.writeProperties(kafkaPortConfigPath, kafkaProperties);
+            kafkaPortProperties = null;
         } catch (IOException e) {
             throw new KafkaException("Init Kafka config failed", e);
         }
     }
 
-    private void checkZookeeper(String zookeeperPort) throws IOException, InterruptedException {
-        Thread.sleep(ZOOKEEPER_START_TIME);
-
-        String zookeeperShellPath = String.format("%s/bin/zookeeper-shell", confluentDirPath);
-        String zookeeperServer = String.format("%s:%s", KafkaConstants.CONFLUENT_IP, zookeeperPort);
-        String checkCommand = String.format("%s %s ls /", zookeeperShellPath, zookeeperServer);
-        String result = ProcessUtils.executeCommandWithResult(checkCommand, confluentDirPath);
-        LOGGER.debug("Zookeeper check result: {}", result);
-        if (result.contains("[zookeeper]") || result.contains(", zookeeper]") || result.contains(", zookeeper,")) {
+    private void checkZookeeper(ConfluentProcess process, String zookeeperPort) throws InterruptedException {
+        int port = Integer.parseInt(zookeeperPort);
+        if (waitUntilReady(process, () -> isZookeeperServing(port))) {
             LOGGER.info("Check zookeeper is running");
         } else {
             LOGGER.warn("Check zookeeper may not running");
         }
     }
 
-    private void checkKafka(String kafkaPort) throws IOException, InterruptedException {
-        Thread.sleep(KAFKA_START_TIME);
-
-        String kafkaShellPath = String.format("%s/bin/kafka-topics", confluentDirPath);
+    private void checkKafka(ConfluentProcess process, String kafkaPort) throws InterruptedException {
         String kafkaServer = String.format("%s:%s", KafkaConstants.CONFLUENT_IP, kafkaPort);
-        String checkCommand = String.format("%s --bootstrap-server %s --list", kafkaShellPath, kafkaServer);
-        String checkKafkaLogPath = String.format("%s/%s", Portal.getInstance().getPortalLogsDirPath(),
-                "check_kafka.log");
-        long checkSleepTime = 3000L;
-        String workDirPath = Portal.getInstance().getPortalTmpDirPath();
-        ProcessUtils.executeCommand(checkCommand, workDirPath, checkKafkaLogPath, checkSleepTime);
-
-        String checkLog = FileUtils.readFileContents(checkKafkaLogPath);
-        LOGGER.debug("Kafka check result: {}", checkLog);
-        if (!checkLog.isBlank() && !checkLog.contains("Broker may not be available")) {
+        if (waitUntilReady(process, () -> kafkaAdmin.isAvailable(kafkaServer))) {
             LOGGER.info("Check kafka is running");
         } else {
             LOGGER.warn("Check kafka may not running");
         }
-
-        FileUtils.deletePath(checkKafkaLogPath);
     }
 
-    private void checkSchemaRegistry(String schemaRegistryPort) throws IOException, InterruptedException {
-        Thread.sleep(SCHEMA_REGISTRY_START_TIME);
+    private void checkSchemaRegistry(ConfluentProcess process, String schemaRegistryPort)
+            throws InterruptedException {
         String schemaRegistryUrl = String.format("%s%s:%s", KafkaConstants.CONFLUENT_URL_PREFIX,
                 KafkaConstants.CONFLUENT_IP, schemaRegistryPort);
-        String checkCommand = String.format("curl -X GET %s/config", schemaRegistryUrl);
-        String result = ProcessUtils.executeCommandWithResult(checkCommand, confluentDirPath);
-        LOGGER.debug("Schema registry check result: {}", result);
-        if (result.contains("{\"compatibilityLevel\":")) {
+        if (waitUntilReady(process, () -> isSchemaRegistryServing(schemaRegistryUrl))) {
             LOGGER.info("Check schema registry is running");
         } else {
             LOGGER.warn("Check schema registry may not running");
         }
     }
 
+    /**
+     * Poll the readiness probe with a short backoff until it succeeds, the process exits or the start timeout is
+     * reached, so the start only takes as long as the process really needs.
+     *
+     * @param process the started process
+     * @param probe readiness probe
+     * @return true if the probe succeeded
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    private boolean waitUntilReady(ConfluentProcess process, BooleanSupplier probe) throws InterruptedException {
+        long startTime = System.currentTimeMillis();
+        long deadline = startTime + Portal.getInstance().getKafkaStartTimeoutSeconds() * 1000L;
+        long interval = READY_CHECK_MIN_INTERVAL_MILLIS;
+        while (true) {
+            if (probe.getAsBoolean()) {
+                LOGGER.info("{} is ready in {} ms", process.getProcessName(), System.currentTimeMillis() - startTime);
+                return true;
+            }
+            if (!process.isAlive()) {
+                LOGGER.error("{} exited before it was ready", process.getProcessName());
+                return false;
+            }
+
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                LOGGER.warn("{} is not ready after {} ms", process.getProcessName(),
+                        System.currentTimeMillis() - startTime);
+                return false;
+            }
+            Thread.sleep(Math.min(interval, remaining));
+            interval = Math.min(interval * 2, READY_CHECK_MAX_INTERVAL_MILLIS);
+        }
+    }
+
+    private boolean isZookeeperServing(int zookeeperPort) {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(KafkaConstants.CONFLUENT_IP, zookeeperPort),
+                    ZOOKEEPER_PROBE_TIMEOUT_MILLIS);
+            socket.setSoTimeout(ZOOKEEPER_PROBE_TIMEOUT_MILLIS);
+            OutputStream outputStream = socket.getOutputStream();
+            outputStream.write("srvr".getBytes(StandardCharsets.US_ASCII));
+            outputStream.flush();
+
+            InputStream inputStream = socket.getInputStream();
+            String response = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            LOGGER.debug("Zookeeper check result: {}", response);
+
+            // a server that rejects the four letter word is still serving, only a server that is not serving says so
+            return !response.isEmpty() && !response.contains("not currently serving");
+        } catch (IOException e) {
+            LOGGER.debug("Zookeeper check failed, error: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean isSchemaRegistryServing(String schemaRegistryUrl) {
+        try {
+            HttpUtils.HttpResult result = HttpUtils.get(schemaRegistryUrl + "/subjects");
+            LOGGER.debug("Schema registry check result: {}", result);
+            return result.isSuccess();
+        } catch (IOException e) {
+            LOGGER.debug("Schema registry check failed, error: {}", e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     private void stopProcess(ConfluentProcess process) {
         if (process.isAlive()) {
             LOGGER.info("Running stop {} command", process.getProcessName());
             process.stop();
             long waitTime = 1000L;
-            int checkNum = (int) (process.getStartWaitTime() / waitTime);
+            int checkNum = (int) (PROCESS_STOP_TIME / waitTime);
 
             for (int i = 0; i < checkNum; i++) {
                 ThreadUtils.sleep(waitTime);
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.migration.tools;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opengauss.exceptions.KafkaException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Kafka admin.
+ * Manages the Kafka topics with an in-process admin client instead of the kafka-topics script, the admin client
+ * is created on first use and reused by all the later operations until the Kafka server is stopped.
+ *
+ * @since 2025/11/11
+ */
+class KafkaAdmin {
+    private static final Logger LOGGER = LogManager.getLogger(KafkaAdmin.class);
+    private static final int REQUEST_TIMEOUT_MILLIS = 10000;
+    private static final int API_TIMEOUT_MILLIS = 30000;
+    private static final long HEALTH_CHECK_TIMEOUT_MILLIS = 5000L;
+
+    private Admin admin;
+    private String bootstrapServers;
+
+    /**
+     * Delete the topics in one request, the topics that do not exist are ignored
+     *
+     * @param kafkaIpPort kafka ip:port
+     * @param topicNames topic names
+     */
+    synchronized void deleteTopics(String kafkaIpPort, Collection<String> topicNames) {
+        if (topicNames.isEmpty()) {
+            return;
+        }
+
+        Map<String, KafkaFuture<Void>> futures = getAdmin(kafkaIpPort).deleteTopics(topicNames).topicNameValues();
+        List<String> failedTopics = new ArrayList<>();
+        for (Map.Entry<String, KafkaFuture<Void>> entry : futures.entrySet()) {
+            try {
+                entry.getValue().get(API_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                LOGGER.debug("Deleted kafka topic: {}", entry.getKey());
+            } catch (ExecutionException e) {
+                if (!(e.getCause() instanceof UnknownTopicOrPartitionException)) {
+                    LOGGER.warn("Delete kafka topic failed, topic: {}, error: {}", entry.getKey(), e.getMessage());
+                    failedTopics.add(entry.getKey());
+                }
+            } catch (TimeoutException e) {
+                LOGGER.warn("Delete kafka topic timeout, topic: {}", entry.getKey());
+                failedTopics.add(entry.getKey());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new KafkaException("Delete kafka topics is interrupted", e);
+            }
+        }
+
+        if (!failedTopics.isEmpty()) {
+            LOGGER.error("Failed to delete kafka topics: {}", failedTopics);
+        }
+    }
+
+    /**
+     * Create the topics in one request, the topics that already exist are ignored
+     *
+     * @param kafkaIpPort kafka ip:port
+     * @param topicNames topic names
+     * @param partitions partition count of each topic
+     * @param topicConfigs topic configs, such as retention.ms
+     */
+    synchronized void createTopics(String kafkaIpPort, Collection<String> topicNames, int partitions,
+                                   Map<String, String> topicConfigs) {
+        List<NewTopic> newTopics = new ArrayList<>();
+        for (String topicName : topicNames) {
+            newTopics.add(new NewTopic(topicName, partitions, (short) 1).configs(topicConfigs));
+        }
+
+        Map<String, KafkaFuture<Void>> futures = getAdmin(kafkaIpPort).createTopics(newTopics).values();
+        for (Map.Entry<String, KafkaFuture<Void>> entry : futures.entrySet()) {
+            try {
+                entry.getValue().get(API_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                LOGGER.info("Created kafka topic: {}", entry.getKey());
+            } catch (ExecutionException e) {
+                if (!(e.getCause() instanceof TopicExistsException)) {
+                    throw new KafkaException("Failed to create kafka topic " + entry.getKey(), e);
+                }
+                LOGGER.debug("Kafka topic already exists: {}", entry.getKey());
+            } catch (TimeoutException e) {
+                throw new KafkaException("Create kafka topic timeout, topic: " + entry.getKey(), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new KafkaException("Create kafka topics is interrupted", e);
+            }
+        }
+    }
+
+    /**
+     * Check whether the Kafka server is available
+     *
+     * @param kafkaIpPort kafka ip:port
+     * @return true if the Kafka server responds with at least one broker
+     */
+    synchronized boolean isAvailable(String kafkaIpPort) {
+        try {
+            return !getAdmin(kafkaIpPort).describeCluster().nodes()
+                    .get(HEALTH_CHECK_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS).isEmpty();
+        } catch (ExecutionException | TimeoutException e) {
+            LOGGER.debug("Kafka health check failed, error: {}", e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Close the admin client
+     */
+    synchronized void close() {
+        if (admin != null) {
+            admin.close(Duration.ofMillis(REQUEST_TIMEOUT_MILLIS));
+            admin = null;
+            bootstrapServers = null;
+        }
+    }
+
+    private Admin getAdmin(String kafkaIpPort) {
+        if (admin != null && kafkaIpPort.equals(bootstrapServers)) {
+            return admin;
+        }
+        close();
+
+        Properties properties = new Properties();
+        properties.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaIpPort);
+        properties.put(AdminClientConfig.CLIENT_ID_CONFIG, "portal-admin");
+        properties.put(AdminClientConfig.REQUEST_TIMEOUT_MS_CONFIG, REQUEST_TIMEOUT_MILLIS);
+        properties.put(AdminClientConfig.DEFAULT_API_TIMEOUT_MS_CONFIG, API_TIMEOUT_MILLIS);
+        admin = Admin.create(properties);
+        bootstrapServers = kafkaIpPort;
+        return admin;
+    }
+}
@@ -4,6 +4,9 @@
 
 package org.opengauss.migration.utils;
 
+import com.alibaba.fastjson2.JSON;
+import com.alibaba.fastjson2.JSONArray;
+import com.alibaba.fastjson2.JSONObject;
 import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
@@ -20,6 +23,9 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -143,6 +149,34 @@ public class ElasticsearchUtils {
         throw new IOException("Failed to extract version number from response body");
     }
 
+    /**
+     * Get the store sizes of the Elasticsearch indexes, including the replicas.
+     *
+     * @param restClient the Elasticsearch REST client
+     * @param indexNames the index names
+     * @return the store size in bytes of each index, the indexes that are not found are not included
+     * @throws IOException if an I/O error occurs while requesting the index sizes
+     */
+    public static Map<String, Long> getIndexStoreSizes(RestClient restClient, Collection<String> indexNames)
+            throws IOException {
+        Request request = new Request("GET", "/_cat/indices/" + String.join(",", indexNames));
+        request.addParameter("format", "json");
+        request.addParameter("bytes", "b");
+        request.addParameter("h", "index,store.size");
+        Response response = restClient.performRequest(request);
+
+        Map<String, Long> storeSizes = new HashMap<>();
+        JSONArray indices = JSON.parseArray(getResponseBody(response));
+        for (int i = 0; i < indices.size(); i++) {
+            JSONObject index = indices.getJSONObject(i);
+            String storeSize = index.getString("store.size");
+            if (storeSize != null) {
+                storeSizes.put(index.getString("index"), Long.parseLong(storeSize));
+            }
+        }
+        return storeSizes;
+    }
+
     /**
      * Close the Elasticsearch REST client.
      *
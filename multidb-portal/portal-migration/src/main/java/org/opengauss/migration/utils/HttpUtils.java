@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.migration.utils;
+
+import com.alibaba.fastjson2.JSON;
+import com.alibaba.fastjson2.JSONException;
+import com.alibaba.fastjson2.JSONObject;
+import lombok.Getter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opengauss.utils.StringUtils;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Http utils.
+ * All the requests share one http client, so the connections to the same server are reused. A request is retried
+ * only if the connection can not be established, because the request has not reached the server in that case.
+ *
+ * @since 2025/11/11
+ */
+public class HttpUtils {
+    private static final Logger LOGGER = LogManager.getLogger(HttpUtils.class);
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(3);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 200L;
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(CONNECT_TIMEOUT)
+            .build();
+
+    /**
+     * Send a GET request
+     *
+     * @param url request url
+     * @return http result
+     * @throws IOException if an I/O error occurs
+     * @throws InterruptedException if the current thread is interrupted while waiting for the response
+     */
+    public static HttpResult get(String url) throws IOException, InterruptedException {
+        return send(newRequestBuilder(url).GET().build());
+    }
+
+    /**
+     * Send a POST request without body
+     *
+     * @param url request url
+     * @return http result
+     * @throws IOException if an I/O error occurs
+     * @throws InterruptedException if the current thread is interrupted while waiting for the response
+     */
+    public static HttpResult post(String url) throws IOException, InterruptedException {
+        return send(newRequestBuilder(url).POST(HttpRequest.BodyPublishers.noBody()).build());
+    }
+
+    /**
+     * Send a PUT request
+     *
+     * @param url request url
+     * @param contentType content type of the request body
+     * @param body request body
+     * @return http result
+     * @throws IOException if an I/O error occurs
+     * @throws InterruptedException if the current thread is interrupted while waiting for the response
+     */
+    public static HttpResult put(String url, String contentType, String body)
+            throws IOException, InterruptedException {
+        HttpRequest request = newRequestBuilder(url)
+                .header("Content-Type", contentType)
+                .PUT(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                .build();
+        return send(request);
+    }
+
+    private static HttpRequest.Builder newRequestBuilder(String url) {
+        if (StringUtils.isNullOrBlank(url)) {
+            throw new IllegalArgumentException("Request url is null or empty");
+        }
+        return HttpRequest.newBuilder(URI.create(url)).timeout(REQUEST_TIMEOUT);
+    }
+
+    private static HttpResult send(HttpRequest request) throws IOException, InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                HttpResponse<String> response = HTTP_CLIENT.send(request,
+                        HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+                return new HttpResult(response.statusCode(), response.body());
+            } catch (ConnectException | HttpConnectTimeoutException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                LOGGER.debug("Failed to connect to {}, retry later, error: {}", request.uri(), e.getMessage());
+                Thread.sleep(RETRY_BACKOFF_MILLIS << (attempt - 1));
+            }
+        }
+    }
+
+    /**
+     * Http result
+     */
+    @Getter
+    public static class HttpResult {
+        private final int statusCode;
+        private final String body;
+
+        HttpResult(int statusCode, String body) {
+            this.statusCode = statusCode;
+            this.body = body == null ? "" : body;
+        }
+
+        /**
+         * Whether the status code is 2xx
+         *
+         * @return true if the status code is 2xx
+         */
+        public boolean isSuccess() {
+            return statusCode >= 200 && statusCode < 300;
+        }
+
+        /**
+         * Parse the body as json object
+         *
+         * @return json object, empty if the body is not a json object
+         */
+        public Optional<JSONObject> getJsonBody() {
+            try {
+                return Optional.ofNullable(JSON.parseObject(body));
+            } catch (JSONException e) {
+                return Optional.empty();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return statusCode + " " + body;
+        }
+    }
+}
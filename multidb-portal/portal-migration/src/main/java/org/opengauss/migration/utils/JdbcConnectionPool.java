@@ -0,0 +1,384 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.migration.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Jdbc connection pool.
+ * Keeps the idle connections of each database connect info, so the verify chains, the config helpers and the task
+ * phases reuse the connections instead of opening a new one each time. The connections are handed out as proxies,
+ * closing a proxy returns the connection to the pool. A returned connection is rolled back and its session
+ * settings are reset by the reset sql, or its catalog and schema are restored if there is no reset sql. A connection
+ * whose schema, catalog, isolation or read only mode was changed through the proxy, or that was unwrapped to the
+ * driver connection, is closed instead, and an aborted connection is never reused. The idle connections are
+ * validated before reuse and evicted after the idle timeout. Once the pool is closed, the connections are not kept
+ * idle, every returned connection is closed, until the pool is opened again for the next migration.
+ *
+ * @since 2025/11/13
+ */
+class JdbcConnectionPool {
+    private static final Logger LOGGER = LogManager.getLogger(JdbcConnectionPool.class);
+    private static final int MAX_IDLE_PER_KEY = 8;
+    private static final long IDLE_TIMEOUT_MILLIS = 60000L;
+    private static final long VALIDATE_AFTER_IDLE_MILLIS = 5000L;
+    private static final int VALIDATE_TIMEOUT_SECONDS = 3;
+    private static final Set<String> DIRTY_METHODS = Set.of("setSchema", "setCatalog", "setReadOnly",
+            "setTransactionIsolation", "setNetworkTimeout", "setHoldability");
+
+    private static volatile JdbcConnectionPool instance;
+
+    private final Map<String, Deque<IdleConnection>> idleConnections = new ConcurrentHashMap<>();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong reusedCount = new AtomicLong();
+    private final AtomicLong discardedCount = new AtomicLong();
+    private ScheduledExecutorService evictExecutor;
+    private volatile boolean isPoolClosed = false;
+
+    private JdbcConnectionPool() {
+    }
+
+    /**
+     * Get instance
+     *
+     * @return JdbcConnectionPool instance
+     */
+    static JdbcConnectionPool getInstance() {
+        if (instance == null) {
+            synchronized (JdbcConnectionPool.class) {
+                if (instance == null) {
+                    instance = new JdbcConnectionPool();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Borrow a connection of the key, a new connection is opened if there is no valid idle one
+     *
+     * @param key pool key, the connections with the same key must be interchangeable
+     * @param resetSql sql to reset the session settings when the connection is returned, null if not needed
+     * @param connectionFactory factory to open a new connection
+     * @return pooled connection, close it to return the connection to the pool
+     * @throws SQLException if a new connection can not be opened
+     */
+    Connection borrow(String key, String resetSql, ConnectionFactory connectionFactory) throws SQLException {
+        PhysicalConnection physicalConnection = pollValidConnection(key);
+        if (physicalConnection != null) {
+            reusedCount.incrementAndGet();
+        } else {
+            physicalConnection = openConnection(resetSql, connectionFactory);
+            createdCount.incrementAndGet();
+            if (isPoolClosed) {
+                LOGGER.debug("Jdbc connection pool is closed, the connection is closed when it is returned");
+            }
+            startEvictExecutor();
+        }
+
+        PooledConnectionHandler handler = new PooledConnectionHandler(key, resetSql, physicalConnection);
+        return (Connection) Proxy.newProxyInstance(JdbcConnectionPool.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, handler);
+    }
+
+    /**
+     * Open the pool, so the returned connections are kept idle again after the pool was closed
+     */
+    synchronized void open() {
+        isPoolClosed = false;
+    }
+
+    /**
+     * Close all the idle connections and log the pool statistics
+     */
+    synchronized void close() {
+        isPoolClosed = true;
+        if (evictExecutor != null) {
+            evictExecutor.shutdownNow();
+            evictExecutor = null;
+        }
+
+        for (Deque<IdleConnection> connections : idleConnections.values()) {
+            synchronized (connections) {
+                connections.forEach(idleConnection -> closeQuietly(idleConnection.connection));
+                connections.clear();
+            }
+        }
+        LOGGER.info("Jdbc connection pool closed, created: {}, reused: {}, discarded: {}", createdCount.get(),
+                reusedCount.get(), discardedCount.get());
+    }
+
+    private PhysicalConnection openConnection(String resetSql, ConnectionFactory connectionFactory)
+            throws SQLException {
+        Connection connection = connectionFactory.open();
+        try {
+            return new PhysicalConnection(connection, resetSql == null);
+        } catch (SQLException e) {
+            closeQuietly(connection);
+            throw e;
+        }
+    }
+
+    private PhysicalConnection pollValidConnection(String key) {
+        Deque<IdleConnection> connections = idleConnections.get(key);
+        if (connections == null) {
+            return null;
+        }
+
+        while (true) {
+            IdleConnection idleConnection;
+            synchronized (connections) {
+                idleConnection = connections.pollFirst();
+            }
+            if (idleConnection == null) {
+                return null;
+            }
+
+            if (isUsable(idleConnection)) {
+                return idleConnection.physicalConnection;
+            }
+            discard(idleConnection.connection);
+        }
+    }
+
+    private boolean isUsable(IdleConnection idleConnection) {
+        long idleMillis = System.currentTimeMillis() - idleConnection.idleSince;
+        if (idleMillis >= IDLE_TIMEOUT_MILLIS) {
+            return false;
+        }
+
+        try {
+            return idleMillis < VALIDATE_AFTER_IDLE_MILLIS
+                    ? !idleConnection.connection.isClosed()
+                    : idleConnection.connection.isValid(VALIDATE_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void giveBack(String key, String resetSql, PhysicalConnection physicalConnection, boolean isDirty) {
+        if (isPoolClosed || isDirty || !resetSession(resetSql, physicalConnection)) {
+            discard(physicalConnection.connection);
+            return;
+        }
+
+        Deque<IdleConnection> connections = idleConnections.computeIfAbsent(key, k -> new ArrayDeque<>());
+        synchronized (connections) {
+            // check again under the lock, the pool may be closed after the session is reset
+            if (!isPoolClosed && connections.size() < MAX_IDLE_PER_KEY) {
+                connections.addFirst(new IdleConnection(physicalConnection, System.currentTimeMillis()));
+                return;
+            }
+        }
+        discard(physicalConnection.connection);
+    }
+
+    private boolean resetSession(String resetSql, PhysicalConnection physicalConnection) {
+        Connection connection = physicalConnection.connection;
+        try {
+            if (connection.isClosed()) {
+                return false;
+            }
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            if (resetSql != null) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(resetSql);
+                }
+            } else {
+                restoreCatalogAndSchema(physicalConnection);
+            }
+            connection.clearWarnings();
+            return true;
+        } catch (SQLException e) {
+            LOGGER.debug("Failed to reset pooled connection, error: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void restoreCatalogAndSchema(PhysicalConnection physicalConnection) throws SQLException {
+        // the catalog and schema may be changed by sql statements, such as the mysql 'USE' statement
+        Connection connection = physicalConnection.connection;
+        if (!Objects.equals(connection.getCatalog(), physicalConnection.initialCatalog)) {
+            connection.setCatalog(physicalConnection.initialCatalog);
+        }
+        if (!Objects.equals(connection.getSchema(), physicalConnection.initialSchema)) {
+            connection.setSchema(physicalConnection.initialSchema);
+        }
+    }
+
+    private void evictIdleConnections() {
+        long now = System.currentTimeMillis();
+        for (Deque<IdleConnection> connections : idleConnections.values()) {
+            synchronized (connections) {
+                Iterator<IdleConnection> iterator = connections.iterator();
+                while (iterator.hasNext()) {
+                    IdleConnection idleConnection = iterator.next();
+                    if (now - idleConnection.idleSince >= IDLE_TIMEOUT_MILLIS) {
+                        iterator.remove();
+                        discard(idleConnection.connection);
+                    }
+                }
+            }
+        }
+    }
+
+    private synchronized void startEvictExecutor() {
+        if (isPoolClosed || evictExecutor != null) {
+            return;
+        }
+
+        evictExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jdbc-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictExecutor.scheduleWithFixedDelay(this::evictIdleConnections, IDLE_TIMEOUT_MILLIS, IDLE_TIMEOUT_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private void discard(Connection physicalConnection) {
+        discardedCount.incrementAndGet();
+        closeQuietly(physicalConnection);
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            LOGGER.debug("Failed to close pooled connection, error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Factory to open a physical connection
+     */
+    @FunctionalInterface
+    interface ConnectionFactory {
+        /**
+         * Open a new physical connection
+         *
+         * @return connection
+         * @throws SQLException if the connection can not be opened
+         */
+        Connection open() throws SQLException;
+    }
+
+    private static class PhysicalConnection {
+        private final Connection connection;
+        private final String initialCatalog;
+        private final String initialSchema;
+
+        PhysicalConnection(Connection connection, boolean isRecordSession) throws SQLException {
+            this.connection = connection;
+            this.initialCatalog = isRecordSession ? connection.getCatalog() : null;
+            this.initialSchema = isRecordSession ? connection.getSchema() : null;
+        }
+    }
+
+    private static class IdleConnection {
+        private final PhysicalConnection physicalConnection;
+        private final Connection connection;
+        private final long idleSince;
+
+        IdleConnection(PhysicalConnection physicalConnection, long idleSince) {
+            this.physicalConnection = physicalConnection;
+            this.connection = physicalConnection.connection;
+            this.idleSince = idleSince;
+        }
+    }
+
+    private class PooledConnectionHandler implements InvocationHandler {
+        private final String key;
+        private final String resetSql;
+        private final PhysicalConnection pooledConnection;
+        private final Connection physicalConnection;
+        private final AtomicBoolean isClosed = new AtomicBoolean(false);
+        private volatile boolean isDirty = false;
+
+        PooledConnectionHandler(String key, String resetSql, PhysicalConnection pooledConnection) {
+            this.key = key;
+            this.resetSql = resetSql;
+            this.pooledConnection = pooledConnection;
+            this.physicalConnection = pooledConnection.connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String methodName = method.getName();
+            switch (methodName) {
+                case "close":
+                    if (isClosed.compareAndSet(false, true)) {
+                        giveBack(key, resetSql, pooledConnection, isDirty);
+                    }
+                    return null;
+                case "abort":
+                    // abort may be called by another thread while the connection is in use, never reuse it
+                    if (isClosed.compareAndSet(false, true)) {
+                        discardedCount.incrementAndGet();
+                        physicalConnection.abort((Executor) args[0]);
+                    }
+                    return null;
+                case "isClosed":
+                    return isClosed.get() || physicalConnection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled" + physicalConnection;
+                case "unwrap":
+                    Class<?> unwrapType = (Class<?>) args[0];
+                    if (unwrapType.isInstance(proxy)) {
+                        return proxy;
+                    }
+                    // the session settings changed through the driver connection can not be tracked
+                    isDirty = true;
+                    return physicalConnection.unwrap(unwrapType);
+                case "isWrapperFor":
+                    Class<?> wrapperType = (Class<?>) args[0];
+                    return wrapperType.isInstance(proxy) || physicalConnection.isWrapperFor(wrapperType);
+                default:
+                    break;
+            }
+
+            if (isClosed.get()) {
+                throw new SQLException("Connection is closed");
+            }
+            if (DIRTY_METHODS.contains(methodName)) {
+                isDirty = true;
+            }
+            try {
+                return method.invoke(physicalConnection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -7,16 +7,23 @@ package org.opengauss.migration.utils;
 import org.opengauss.migration.domain.model.DatabaseConnectInfo;
 import org.opengauss.migration.domain.model.OpenGaussDatabaseConnectInfo;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.HexFormat;
 
 /**
- * Jdbc utils
+ * Jdbc utils.
+ * The connections are borrowed from the jdbc connection pool, closing a connection returns it to the pool.
  *
  * @since 2025/5/16
  */
 public class JdbcUtils {
+    private static final String POSTGRES_RESET_SQL = "RESET ALL";
+
     /**
      * Get mysql connection
      *
@@ -31,7 +38,7 @@ public class JdbcUtils {
                 databaseConnectInfo.getIp(), databaseConnectInfo.getPort(), databaseConnectInfo.getDatabaseName());
 
         Class.forName("com.mysql.cj.jdbc.Driver");
-        return DriverManager.getConnection(url, databaseConnectInfo.getUsername(), databaseConnectInfo.getPassword());
+        return getPooledConnection(url, databaseConnectInfo.getUsername(), databaseConnectInfo.getPassword(), null);
     }
 
     /**
@@ -52,7 +59,7 @@ public class JdbcUtils {
         String url = String.format("jdbc:mysql://%s:%s/%s?useSSL=false&characterEncoding=utf8",
                 mysqlIp, mysqlPort, databaseName);
         Class.forName("com.mysql.cj.jdbc.Driver");
-        return DriverManager.getConnection(url, username, password);
+        return getPooledConnection(url, username, password, null);
     }
 
     /**
@@ -70,7 +77,7 @@ public class JdbcUtils {
             String opengaussIp, String opengaussPort, String databaseName, String username, String password)
             throws SQLException {
         String url = String.format("jdbc:opengauss://%s:%s/%s", opengaussIp, opengaussPort, databaseName);
-        return DriverManager.getConnection(url, username, password);
+        return getPooledConnection(url, username, password, POSTGRES_RESET_SQL);
     }
 
     /**
@@ -96,7 +103,8 @@ public class JdbcUtils {
         }
         String url = urlBuilder.toString();
 
-        return DriverManager.getConnection(url, databaseConnectInfo.getUsername(), databaseConnectInfo.getPassword());
+        return getPooledConnection(url, databaseConnectInfo.getUsername(), databaseConnectInfo.getPassword(),
+                POSTGRES_RESET_SQL);
     }
 
     /**
@@ -113,8 +121,8 @@ public class JdbcUtils {
                 databaseConnectInfo.getPort(), databaseConnectInfo.getDatabaseName());
 
         Class.forName("org.postgresql.Driver");
-        return DriverManager.getConnection(url, databaseConnectInfo.getUsername(),
-                databaseConnectInfo.getPassword());
+        return getPooledConnection(url, databaseConnectInfo.getUsername(), databaseConnectInfo.getPassword(),
+                POSTGRES_RESET_SQL);
     }
 
     /**
@@ -134,6 +142,41 @@ public class JdbcUtils {
             throws ClassNotFoundException, SQLException {
         String url = String.format("jdbc:postgresql://%s:%s/%s", pgsqlIp, pgsqlPort, databaseName);
         Class.forName("org.postgresql.Driver");
-        return DriverManager.getConnection(url, username, password);
+        return getPooledConnection(url, username, password, POSTGRES_RESET_SQL);
+    }
+
+    /**
+     * Open the connection pool for a migration, the pool closed by the previous migration is reused
+     */
+    public static void openConnectionPool() {
+        JdbcConnectionPool.getInstance().open();
+    }
+
+    /**
+     * Close the idle pooled connections, the connections in use are closed when they are returned
+     */
+    public static void closeConnectionPool() {
+        JdbcConnectionPool.getInstance().close();
+    }
+
+    private static Connection getPooledConnection(String url, String username, String password, String resetSql)
+            throws SQLException {
+        // the pool keeps the key for the life of the portal, so it holds a hash of the password, not the password
+        String key = String.join("\n", url, username, hashPassword(password));
+        return JdbcConnectionPool.getInstance().borrow(key, resetSql,
+                () -> DriverManager.getConnection(url, username, password));
+    }
+
+    private static String hashPassword(String password) {
+        if (password == null) {
+            return "";
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(password.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
     }
 }
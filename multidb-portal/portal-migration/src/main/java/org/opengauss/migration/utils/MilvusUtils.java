@@ -6,6 +6,8 @@ package org.opengauss.migration.utils;
 
 import io.milvus.v2.client.ConnectConfig;
 import io.milvus.v2.client.MilvusClientV2;
+import io.milvus.v2.service.collection.request.GetCollectionStatsReq;
+import io.milvus.v2.service.collection.response.GetCollectionStatsResp;
 import io.milvus.v2.service.utility.response.CheckHealthResp;
 
 import java.util.Locale;
@@ -90,6 +92,24 @@ public class MilvusUtils {
         return milvusClientV2.getServerVersion();
     }
 
+    /**
+     * Get the number of entities of the Milvus collection.
+     *
+     * @param milvusClientV2 the Milvus client V2
+     * @param collectionName the collection name
+     * @return the number of entities of the collection
+     */
+    public static long getCollectionRowCount(MilvusClientV2 milvusClientV2, String collectionName) {
+        if (milvusClientV2 == null) {
+            throw new IllegalArgumentException("MilvusClientV2 cannot be null");
+        }
+
+        GetCollectionStatsResp statsResp = milvusClientV2.getCollectionStats(
+                GetCollectionStatsReq.builder().collectionName(collectionName).build());
+        Long numOfEntities = statsResp.getNumOfEntities();
+        return numOfEntities != null ? numOfEntities : 0L;
+    }
+
     /**
      * Close the Milvus client V2.
      *
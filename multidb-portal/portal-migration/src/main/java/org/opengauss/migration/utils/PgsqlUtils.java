@@ -13,7 +13,9 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -72,6 +74,29 @@ public class PgsqlUtils {
         return result;
     }
 
+    /**
+     * Get the replica identity of the tables of a schema
+     *
+     * @param schema schema name
+     * @param connection connection
+     * @return table name to replica identity, d for default, f for full, n for nothing and i for index
+     * @throws SQLException sql exception
+     */
+    public static Map<String, String> getTableReplicaIdentities(String schema, Connection connection)
+            throws SQLException {
+        Map<String, String> result = new HashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                SqlConstants.SELECT_TABLE_REPLICA_IDENTITIES)) {
+            statement.setString(1, schema);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    result.put(rs.getString("relname"), rs.getString("relreplident"));
+                }
+            }
+        }
+        return result;
+    }
+
     /**
      * Get the value of a variable
      *
@@ -16,7 +16,11 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -26,6 +30,7 @@ import java.util.concurrent.TimeUnit;
  */
 public class ProcessUtils {
     private static final Logger LOGGER = LogManager.getLogger(ProcessUtils.class);
+    private static final String PROC_DIR_PATH = "/proc";
 
     /**
      * Get the pid of the process with the given command
@@ -56,6 +61,46 @@ public class ProcessUtils {
         return pid;
     }
 
+    /**
+     * Find the process of current user whose command line contains the given command snippet.
+     * The command lines are read from /proc directly, if /proc is not available, fall back to the ps command.
+     *
+     * @param commandSnippet the command snippet
+     * @return the process handle, if several processes are found, return the one with the largest pid
+     * @throws IOException if an I/O error occurs
+     * @throws InterruptedException if the current thread is interrupted while waiting for the process to finish
+     */
+    public static Optional<ProcessHandle> findProcessByCommandSnippet(String commandSnippet)
+            throws IOException, InterruptedException {
+        if (StringUtils.isNullOrBlank(commandSnippet)) {
+            throw new IllegalArgumentException("Command snippet is null or empty");
+        }
+
+        Path procDir = Path.of(PROC_DIR_PATH);
+        Path selfDir = procDir.resolve("self");
+        if (!Files.isDirectory(selfDir)) {
+            int pid = getCommandPid(commandSnippet);
+            return pid == -1 ? Optional.empty() : ProcessHandle.of(pid);
+        }
+
+        long currentPid = ProcessHandle.current().pid();
+        Object currentUid = Files.getAttribute(selfDir, "unix:uid");
+        long resultPid = -1L;
+        try (DirectoryStream<Path> procStream = Files.newDirectoryStream(procDir, "[0-9]*")) {
+            for (Path processDir : procStream) {
+                long pid = Long.parseLong(processDir.getFileName().toString());
+                if (pid == currentPid || pid < resultPid) {
+                    continue;
+                }
+
+                if (isProcessCommandMatched(processDir, commandSnippet, currentUid)) {
+                    resultPid = pid;
+                }
+            }
+        }
+        return resultPid == -1L ? Optional.empty() : ProcessHandle.of(resultPid);
+    }
+
     /**
      * Kill the processes with the given command snippet
      *
@@ -107,12 +152,14 @@ public class ProcessUtils {
      *
      * @param command command string
      * @param waitMilliseconds wait milliseconds
+     * @return the started process, empty if the wait milliseconds is not positive and the command is not executed
      * @throws IOException if an I/O error occurs
      * @throws InterruptedException if the current thread is interrupted while waiting for the process to finish
      */
-    public static void executeCommand(String command, long waitMilliseconds) throws IOException, InterruptedException {
+    public static Optional<Process> executeCommand(String command, long waitMilliseconds)
+            throws IOException, InterruptedException {
         String[] commands = new String[]{"bash", "-c", command};
-        executeCommand(commands, waitMilliseconds);
+        return executeCommand(commands, waitMilliseconds);
     }
 
     /**
@@ -121,13 +168,14 @@ public class ProcessUtils {
      * @param command command string
      * @param workDirectory work directory
      * @param waitMilliseconds wait milliseconds
+     * @return the started process, empty if the wait milliseconds is not positive and the command is not executed
      * @throws IOException if an I/O error occurs
      * @throws InterruptedException if the current thread is interrupted while waiting for the process to finish
      */
-    public static void executeCommand(String command, String workDirectory, long waitMilliseconds)
+    public static Optional<Process> executeCommand(String command, String workDirectory, long waitMilliseconds)
             throws IOException, InterruptedException {
         String[] commands = new String[]{"bash", "-c", command};
-        executeCommand(commands, workDirectory, waitMilliseconds);
+        return executeCommand(commands, workDirectory, waitMilliseconds);
     }
 
     /**
@@ -137,14 +185,15 @@ public class ProcessUtils {
      * @param workDirectory work directory
      * @param waitMilliseconds wait milliseconds
      * @param env environment variables
+     * @return the started process, empty if the wait milliseconds is not positive and the command is not executed
      * @throws IOException if an I/O error occurs
      * @throws InterruptedException if the current thread is interrupted while waiting for the process to finish
      */
-    public static void executeCommand(
+    public static Optional<Process> executeCommand(
             String command, String workDirectory, long waitMilliseconds, Map<String, String> env)
             throws IOException, InterruptedException {
         String[] commands = new String[]{"bash", "-c", command};
-        executeCommand(commands, workDirectory, waitMilliseconds, env);
+        return executeCommand(commands, workDirectory, waitMilliseconds, env);
     }
 
     /**
@@ -154,13 +203,15 @@ public class ProcessUtils {
      * @param workDirectory work directory
      * @param logPath log path
      * @param waitMilliseconds wait milliseconds
+     * @return the started process, empty if the wait milliseconds is not positive and the command is not executed
      * @throws IOException if an I/O error occurs
      * @throws InterruptedException if the current thread is interrupted while waiting for the process to finish
      */
-    public static void executeCommand(String command, String workDirectory, String logPath, long waitMilliseconds)
+    public static Optional<Process> executeCommand(
+            String command, String workDirectory, String logPath, long waitMilliseconds)
             throws IOException, InterruptedException {
         String[] commands = new String[]{"bash", "-c", command};
-        executeCommand(commands, workDirectory, logPath, waitMilliseconds);
+        return executeCommand(commands, workDirectory, logPath, waitMilliseconds);
     }
 
     /**
@@ -171,14 +222,15 @@ public class ProcessUtils {
      * @param logPath log path
      * @param waitMilliseconds wait milliseconds
      * @param env environment variables
+     * @return the started process, empty if the wait milliseconds is not positive and the command is not executed
      * @throws IOException if an I/O error occurs
      * @throws InterruptedException if the current thread is interrupted while waiting for the process to finish
      */
-    public static void executeCommand(
+    public static Optional<Process> executeCommand(
             String command, String workDirectory, String logPath, long waitMilliseconds, Map<String, String> env)
             throws IOException, InterruptedException {
         String[] commands = new String[]{"bash", "-c", command};
-        executeCommand(commands, workDirectory, logPath, waitMilliseconds, env);
+        return executeCommand(commands, workDirectory, logPath, waitMilliseconds, env);
     }
 
     /**
@@ -214,13 +266,14 @@ public class ProcessUtils {
      *
      * @param command command array
      * @param waitMilliseconds wait milliseconds
+     * @return the started process, empty if the wait milliseconds is not positive and the command is not executed
      * @throws IOException if an I/O error occurs
      * @throws InterruptedException if the current thread is interrupted while waiting for the process to finish
      */
-    public static void executeCommand(String[] command, long waitMilliseconds)
+    public static Optional<Process> executeCommand(String[] command, long waitMilliseconds)
             throws IOException, InterruptedException {
         ProcessBuilder processBuilder = new ProcessBuilder(command);
-        executeCommand(processBuilder, waitMilliseconds);
+        return executeCommand(processBuilder, waitMilliseconds);
     }
 
     /**
@@ -248,14 +301,15 @@ public class ProcessUtils {
      * @param command command array
      * @param workDirectory work directory
      * @param waitMilliseconds wait milliseconds
+     * @return the started process, empty if the wait milliseconds is not positive and the command is not executed
      * @throws IOException if an I/O error occurs
      * @throws InterruptedException if the current thread is interrupted while waiting for the process to finish
      */
-    public static void executeCommand(String[] command, String workDirectory, long waitMilliseconds)
+    public static Optional<Process> executeCommand(String[] command, String workDirectory, long waitMilliseconds)
             throws IOException, InterruptedException {
         ProcessBuilder processBuilder = new ProcessBuilder(command);
         processBuilder.directory(new File(workDirectory));
-        executeCommand(processBuilder, waitMilliseconds);
+        return executeCommand(processBuilder, waitMilliseconds);
     }
 
     /**
@@ -265,16 +319,17 @@ public class ProcessUtils {
      * @param workDirectory work directory
      * @param waitMilliseconds wait milliseconds
      * @param env environment variables
+     * @return the started process, empty if the wait milliseconds is not positive and the command is not executed
      * @throws IOException if an I/O error occurs
      * @throws InterruptedException if the current thread is interrupted while waiting for the process to finish
      */
-    public static void executeCommand(
+    public static Optional<Process> executeCommand(
             String[] command, String workDirectory, long waitMilliseconds, Map<String, String> env)
             throws IOException, InterruptedException {
         ProcessBuilder processBuilder = new ProcessBuilder(command);
         processBuilder.environment().putAll(env);
         processBuilder.directory(new File(workDirectory));
-        executeCommand(processBuilder, waitMilliseconds);
+        return executeCommand(processBuilder, waitMilliseconds);
     }
 
     /**
@@ -284,17 +339,19 @@ public class ProcessUtils {
      * @param workDirectory work directory
      * @param logPath log path
      * @param waitMilliseconds wait milliseconds
+     * @return the started process, empty if the wait milliseconds is not positive and the command is not executed
      * @throws IOException if an I/O error occurs
      * @throws InterruptedException if the current thread is interrupted while waiting for the process to finish
      */
-    public static void executeCommand(String[] command, String workDirectory, String logPath, long waitMilliseconds)
+    public static Optional<Process> executeCommand(
+            String[] command, String workDirectory, String logPath, long waitMilliseconds)
             throws IOException, InterruptedException {
         ProcessBuilder processBuilder = new ProcessBuilder(command);
         processBuilder.directory(new File(workDirectory));
         processBuilder.redirectErrorStream(true);
         processBuilder.redirectOutput(ProcessBuilder.Redirect.appendTo(new File(logPath)));
 
-        executeCommand(processBuilder, waitMilliseconds);
+        return executeCommand(processBuilder, waitMilliseconds);
     }
 
     /**
@@ -305,10 +362,11 @@ public class ProcessUtils {
      * @param logPath log path
      * @param waitMilliseconds wait milliseconds
      * @param env environment variables
+     * @return the started process, empty if the wait milliseconds is not positive and the command is not executed
      * @throws IOException if an I/O error occurs
      * @throws InterruptedException if the current thread is interrupted while waiting for the process to finish
      */
-    public static void executeCommand(
+    public static Optional<Process> executeCommand(
             String[] command, String workDirectory, String logPath, long waitMilliseconds, Map<String, String> env)
             throws IOException, InterruptedException {
         ProcessBuilder processBuilder = new ProcessBuilder(command);
@@ -317,7 +375,7 @@ public class ProcessUtils {
         processBuilder.redirectErrorStream(true);
         processBuilder.redirectOutput(ProcessBuilder.Redirect.appendTo(new File(logPath)));
 
-        executeCommand(processBuilder, waitMilliseconds);
+        return executeCommand(processBuilder, waitMilliseconds);
     }
 
     /**
@@ -328,10 +386,11 @@ public class ProcessUtils {
      * @param logPath log path
      * @param env environment variables
      * @param inputs inputs to be sent to the process
+     * @return the started process
      * @throws IOException if an I/O error occurs
      * @throws InterruptedException if the current thread is interrupted while waiting for the process to finish
      */
-    public static void executeInteractiveCommand(String command, String workDirectory, String logPath,
+    public static Process executeInteractiveCommand(String command, String workDirectory, String logPath,
                                                  Map<String, String> env, String[] inputs)
             throws IOException, InterruptedException {
         String[] commands = new String[]{"bash", "-c", command};
@@ -350,6 +409,7 @@ public class ProcessUtils {
                 Thread.sleep(1000);
             }
         }
+        return process;
     }
 
     /**
@@ -458,6 +518,27 @@ public class ProcessUtils {
         return output.toString();
     }
 
+    private static boolean isProcessCommandMatched(Path processDir, String commandSnippet, Object currentUid) {
+        try {
+            if (!currentUid.equals(Files.getAttribute(processDir, "unix:uid"))) {
+                return false;
+            }
+
+            byte[] cmdlineBytes = Files.readAllBytes(processDir.resolve("cmdline"));
+            for (int i = 0; i < cmdlineBytes.length; i++) {
+                if (cmdlineBytes[i] == 0) {
+                    cmdlineBytes[i] = ' ';
+                }
+            }
+
+            String cmdline = new String(cmdlineBytes, StandardCharsets.UTF_8);
+            return cmdline.contains(commandSnippet) && !cmdline.contains("grep");
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.trace("Failed to read command line of process {}, error: {}", processDir, e.getMessage());
+            return false;
+        }
+    }
+
     private static void executeCommand(ProcessBuilder processBuilder) throws IOException, InterruptedException {
         Process process = null;
         try {
@@ -489,12 +570,14 @@ public class ProcessUtils {
         }
     }
 
-    private static void executeCommand(ProcessBuilder processBuilder, long waitMilliseconds)
+    private static Optional<Process> executeCommand(ProcessBuilder processBuilder, long waitMilliseconds)
             throws IOException, InterruptedException {
         if (waitMilliseconds > 0) {
             Process process = processBuilder.start();
             process.waitFor(waitMilliseconds, TimeUnit.MILLISECONDS);
+            return Optional.of(process);
         }
+        return Optional.empty();
     }
 
     private static void executeCommandAndExit(ProcessBuilder processBuilder, long waitMilliseconds)
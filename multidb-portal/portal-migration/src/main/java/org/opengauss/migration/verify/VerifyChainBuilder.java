@@ -36,6 +36,7 @@ import org.opengauss.migration.verify.pgsql.PgsqlReplicationNumberVerifyChain;
 import org.opengauss.migration.verify.pgsql.PgsqlVersionVerifyChain;
 import org.opengauss.migration.verify.pgsql.PgsqlWalLevelVerifyChain;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -44,8 +45,8 @@ import java.util.List;
  * @since 2025/5/8
  */
 public class VerifyChainBuilder {
-    private AbstractVerifyChain head;
-    private AbstractVerifyChain tail;
+    private final List<AbstractVerifyChain> connectChains = new ArrayList<>();
+    private final List<AbstractVerifyChain> verifyChains = new ArrayList<>();
 
     private VerifyChainBuilder() {
     }
@@ -54,12 +55,12 @@ public class VerifyChainBuilder {
      * Get MySQL migration verify chain
      *
      * @param migrationPhaseList migration phase list
-     * @return verify chain
+     * @return verify executor
      */
-    public static AbstractVerifyChain getMysqlMigrationVerifyChain(List<MigrationPhase> migrationPhaseList) {
+    public static VerifyExecutor getMysqlMigrationVerifyChain(List<MigrationPhase> migrationPhaseList) {
         VerifyChainBuilder builder = new VerifyChainBuilder();
-        builder.addVerifyChain(new MysqlConnectVerifyChain())
-                .addVerifyChain(new OpenGaussConnectVerifyChain())
+        builder.addConnectVerifyChain(new MysqlConnectVerifyChain())
+                .addConnectVerifyChain(new OpenGaussConnectVerifyChain())
                 .addVerifyChain(new MysqlLowerCaseVerifyChain())
                 .addVerifyChain(new OpenGaussSqlCompatibilityVerifyChain())
                 .addVerifyChain(new MysqlDatabaseEncodingVerifyChain());
@@ -92,12 +93,12 @@ public class VerifyChainBuilder {
     /**
      * Get MySQL reverse phase verify chain
      *
-     * @return verify chain
+     * @return verify executor
      */
-    public static AbstractVerifyChain getMysqlReversePhaseVerifyChain() {
+    public static VerifyExecutor getMysqlReversePhaseVerifyChain() {
         VerifyChainBuilder builder = new VerifyChainBuilder();
-        builder.addVerifyChain(new MysqlConnectVerifyChain())
-                .addVerifyChain(new OpenGaussConnectVerifyChain())
+        builder.addConnectVerifyChain(new MysqlConnectVerifyChain())
+                .addConnectVerifyChain(new OpenGaussConnectVerifyChain())
                 .addVerifyChain(new MysqlReversePermissionVerifyChain())
                 .addVerifyChain(new OpenGaussReversePermissionVerifyChain())
                 .addVerifyChain(new OpenGaussWalLevelVerifyChain())
@@ -111,12 +112,12 @@ public class VerifyChainBuilder {
      * Get PostgreSQL migration verify chain
      *
      * @param migrationPhaseList migration phase list
-     * @return verify chain
+     * @return verify executor
      */
-    public static AbstractVerifyChain getPgsqlMigrationVerifyChain(List<MigrationPhase> migrationPhaseList) {
+    public static VerifyExecutor getPgsqlMigrationVerifyChain(List<MigrationPhase> migrationPhaseList) {
         VerifyChainBuilder builder = new VerifyChainBuilder();
-        builder.addVerifyChain(new PgsqlConnectVerifyChain())
-                .addVerifyChain(new OpenGaussConnectVerifyChain())
+        builder.addConnectVerifyChain(new PgsqlConnectVerifyChain())
+                .addConnectVerifyChain(new OpenGaussConnectVerifyChain())
                 .addVerifyChain(new PgsqlVersionVerifyChain())
                 .addVerifyChain(new OpenGaussSqlCompatibilityVerifyChain());
 
@@ -145,12 +146,12 @@ public class VerifyChainBuilder {
     /**
      * Get PostgreSQL reverse phase verify chain
      *
-     * @return verify chain
+     * @return verify executor
      */
-    public static AbstractVerifyChain getPgsqlReversePhaseVerifyChain() {
+    public static VerifyExecutor getPgsqlReversePhaseVerifyChain() {
         VerifyChainBuilder builder = new VerifyChainBuilder();
-        builder.addVerifyChain(new PgsqlConnectVerifyChain())
-                .addVerifyChain(new OpenGaussConnectVerifyChain())
+        builder.addConnectVerifyChain(new PgsqlConnectVerifyChain())
+                .addConnectVerifyChain(new OpenGaussConnectVerifyChain())
                 .addVerifyChain(new PgsqlVersionVerifyChain())
                 .addVerifyChain(new OpenGaussReversePermissionVerifyChain())
                 .addVerifyChain(new OpenGaussWalLevelVerifyChain())
@@ -163,12 +164,12 @@ public class VerifyChainBuilder {
     /**
      * Get Milvus migration verify chain
      *
-     * @return verify chain
+     * @return verify executor
      */
-    public static AbstractVerifyChain getMilvusMigrationVerifyChain() {
+    public static VerifyExecutor getMilvusMigrationVerifyChain() {
         VerifyChainBuilder builder = new VerifyChainBuilder();
-        builder.addVerifyChain(new MilvusConnectVerifyChain())
-                .addVerifyChain(new OpenGaussConnectVerifyChain())
+        builder.addConnectVerifyChain(new MilvusConnectVerifyChain())
+                .addConnectVerifyChain(new OpenGaussConnectVerifyChain())
                 .addVerifyChain(new MilvusVersionVerifyChain())
                 .addVerifyChain(new OpenGaussSqlCompatibilityVerifyChain())
                 .addVerifyChain(new OpenGaussSysadminPermissionVerifyChain())
@@ -180,12 +181,12 @@ public class VerifyChainBuilder {
     /**
      * Get Elasticsearch migration verify chain
      *
-     * @return verify chain
+     * @return verify executor
      */
-    public static AbstractVerifyChain getElasticsearchMigrationVerifyChain() {
+    public static VerifyExecutor getElasticsearchMigrationVerifyChain() {
         VerifyChainBuilder builder = new VerifyChainBuilder();
-        builder.addVerifyChain(new ElasticsearchConnectVerifyChain())
-                .addVerifyChain(new OpenGaussConnectVerifyChain())
+        builder.addConnectVerifyChain(new ElasticsearchConnectVerifyChain())
+                .addConnectVerifyChain(new OpenGaussConnectVerifyChain())
                 .addVerifyChain(new ElasticsearchVersionVerifyChain())
                 .addVerifyChain(new OpenGaussSqlCompatibilityVerifyChain())
                 .addVerifyChain(new OpenGaussSysadminPermissionVerifyChain())
@@ -194,17 +195,17 @@ public class VerifyChainBuilder {
         return builder.build();
     }
 
+    private VerifyChainBuilder addConnectVerifyChain(AbstractVerifyChain verifyChain) {
+        connectChains.add(verifyChain);
+        return this;
+    }
+
     private VerifyChainBuilder addVerifyChain(AbstractVerifyChain verifyChain) {
-        if (head == null) {
-            head = verifyChain;
-        } else {
-            tail.next = verifyChain;
-        }
-        tail = verifyChain;
+        verifyChains.add(verifyChain);
         return this;
     }
 
-    private AbstractVerifyChain build() {
-        return head;
+    private VerifyExecutor build() {
+        return new VerifyExecutor(connectChains, verifyChains);
     }
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.migration.verify;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opengauss.migration.exceptions.VerifyException;
+import org.opengauss.migration.verify.model.AbstractVerifyDto;
+import org.opengauss.migration.verify.model.ChainResult;
+import org.opengauss.migration.verify.model.VerifyResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Verify executor.
+ * The connect verify chains open the connections that all the other verify chains depend on, so they run first,
+ * concurrently with each other. If all of them succeed, the other verify chains run concurrently, each worker
+ * borrows a verify dto with its own connections from a small pool. The chain results are added to the verify
+ * result in the order the chains were added, so the verify result is the same as running the chains one by one.
+ *
+ * @since 2025/11/10
+ */
+public class VerifyExecutor {
+    private static final Logger LOGGER = LogManager.getLogger(VerifyExecutor.class);
+    private static final int MAX_PARALLELISM = 4;
+
+    private final List<AbstractVerifyChain> connectChains;
+    private final List<AbstractVerifyChain> verifyChains;
+
+    VerifyExecutor(List<AbstractVerifyChain> connectChains, List<AbstractVerifyChain> verifyChains) {
+        this.connectChains = connectChains;
+        this.verifyChains = verifyChains;
+    }
+
+    /**
+     * Execute the verify chains
+     *
+     * @param verifyDto verify dto
+     * @param verifyResult verify result
+     */
+    public void execute(AbstractVerifyDto verifyDto, VerifyResult verifyResult) {
+        int parallelism = Math.max(1, Math.min(MAX_PARALLELISM, Math.max(connectChains.size(), verifyChains.size())));
+        ExecutorService executorService = new ThreadPoolExecutor(parallelism, parallelism, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>());
+        VerifyDtoPool verifyDtoPool = new VerifyDtoPool(verifyDto, parallelism);
+        try {
+            List<CompletableFuture<VerifyResult>> connectFutures = new ArrayList<>();
+            for (AbstractVerifyChain chain : connectChains) {
+                connectFutures.add(CompletableFuture.supplyAsync(() -> runChain(chain, verifyDto), executorService));
+            }
+            if (!mergeResults(connectFutures, verifyResult)) {
+                return;
+            }
+
+            List<CompletableFuture<VerifyResult>> verifyFutures = new ArrayList<>();
+            for (AbstractVerifyChain chain : verifyChains) {
+                verifyFutures.add(CompletableFuture.supplyAsync(() -> runChain(chain, verifyDtoPool), executorService));
+            }
+            mergeResults(verifyFutures, verifyResult);
+        } finally {
+            executorService.shutdownNow();
+            verifyDtoPool.close();
+        }
+    }
+
+    private VerifyResult runChain(AbstractVerifyChain chain, VerifyDtoPool verifyDtoPool) {
+        AbstractVerifyDto workerDto = verifyDtoPool.borrow();
+        try {
+            return runChain(chain, workerDto);
+        } finally {
+            verifyDtoPool.giveBack(workerDto);
+        }
+    }
+
+    private VerifyResult runChain(AbstractVerifyChain chain, AbstractVerifyDto verifyDto) {
+        VerifyResult chainVerifyResult = new VerifyResult();
+        chain.verify(verifyDto, chainVerifyResult);
+        return chainVerifyResult;
+    }
+
+    private boolean mergeResults(List<CompletableFuture<VerifyResult>> futures, VerifyResult verifyResult) {
+        boolean isSuccess = true;
+        for (CompletableFuture<VerifyResult> future : futures) {
+            try {
+                for (ChainResult chainResult : future.join().getChainResults()) {
+                    verifyResult.addChainResult(chainResult);
+                    isSuccess = isSuccess && chainResult.isSuccess();
+                }
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new VerifyException("Failed to execute verify chain", cause);
+            }
+        }
+        return isSuccess;
+    }
+
+    /**
+     * Pool of the verify dto used by the verify workers. The original verify dto is always in the pool, the copies
+     * with their own connections are created when all the pooled ones are in use, and are closed at last.
+     */
+    private static class VerifyDtoPool {
+        private final AbstractVerifyDto originalDto;
+        private final BlockingQueue<AbstractVerifyDto> idleDtos = new LinkedBlockingQueue<>();
+        private final List<AbstractVerifyDto> copiedDtos = new ArrayList<>();
+        private final AtomicInteger remainingCopies;
+
+        VerifyDtoPool(AbstractVerifyDto originalDto, int maxSize) {
+            this.originalDto = originalDto;
+            this.remainingCopies = new AtomicInteger(maxSize - 1);
+            idleDtos.add(originalDto);
+        }
+
+        AbstractVerifyDto borrow() {
+            AbstractVerifyDto verifyDto = idleDtos.poll();
+            if (verifyDto != null) {
+                return verifyDto;
+            }
+
+            if (remainingCopies.getAndDecrement() > 0) {
+                Optional<AbstractVerifyDto> copyOptional = originalDto.createWorkerCopy();
+                if (copyOptional.isPresent()) {
+                    synchronized (copiedDtos) {
+                        copiedDtos.add(copyOptional.get());
+                    }
+                    return copyOptional.get();
+                }
+                remainingCopies.set(0);
+            }
+
+            try {
+                return idleDtos.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new VerifyException("Interrupted while waiting for verify connections", e);
+            }
+        }
+
+        void giveBack(AbstractVerifyDto verifyDto) {
+            idleDtos.add(verifyDto);
+        }
+
+        void close() {
+            synchronized (copiedDtos) {
+                for (AbstractVerifyDto copiedDto : copiedDtos) {
+                    copiedDto.closeConnection();
+                }
+                LOGGER.debug("Closed {} verify worker connections", copiedDtos.size());
+                copiedDtos.clear();
+            }
+        }
+    }
+}
@@ -46,7 +46,7 @@ public class VerifyManager {
         VerifyResult mysqlVerifyResult = new VerifyResult();
         MysqlVerifyDto mysqlVerifyDto = new MysqlVerifyDto(migrationConfigDto);
 
-        VerifyChainBuilder.getMysqlMigrationVerifyChain(migrationPhaseList).verify(mysqlVerifyDto, mysqlVerifyResult);
+        VerifyChainBuilder.getMysqlMigrationVerifyChain(migrationPhaseList).execute(mysqlVerifyDto, mysqlVerifyResult);
         mysqlVerifyDto.closeConnection();
         outputVerifyResult(mysqlVerifyResult, taskWorkspace);
         return mysqlVerifyResult.isSuccess();
@@ -64,7 +64,7 @@ public class VerifyManager {
         VerifyResult mysqlVerifyResult = new VerifyResult();
         MysqlVerifyDto mysqlVerifyDto = new MysqlVerifyDto(migrationConfigDto);
 
-        VerifyChainBuilder.getMysqlReversePhaseVerifyChain().verify(mysqlVerifyDto, mysqlVerifyResult);
+        VerifyChainBuilder.getMysqlReversePhaseVerifyChain().execute(mysqlVerifyDto, mysqlVerifyResult);
         mysqlVerifyDto.closeConnection();
         outputVerifyResult(mysqlVerifyResult, taskWorkspace);
         return mysqlVerifyResult.isSuccess();
@@ -84,7 +84,7 @@ public class VerifyManager {
         VerifyResult pgsqlVerifyResult = new VerifyResult();
         PgsqlVerifyDto pgsqlVerifyDto = new PgsqlVerifyDto(migrationConfigDto);
 
-        VerifyChainBuilder.getPgsqlMigrationVerifyChain(migrationPhaseList).verify(pgsqlVerifyDto, pgsqlVerifyResult);
+        VerifyChainBuilder.getPgsqlMigrationVerifyChain(migrationPhaseList).execute(pgsqlVerifyDto, pgsqlVerifyResult);
         pgsqlVerifyDto.closeConnection();
         outputVerifyResult(pgsqlVerifyResult, taskWorkspace);
         return pgsqlVerifyResult.isSuccess();
@@ -102,7 +102,7 @@ public class VerifyManager {
         VerifyResult pgsqlVerifyResult = new VerifyResult();
         PgsqlVerifyDto pgsqlVerifyDto = new PgsqlVerifyDto(migrationConfigDto);
 
-        VerifyChainBuilder.getPgsqlReversePhaseVerifyChain().verify(pgsqlVerifyDto, pgsqlVerifyResult);
+        VerifyChainBuilder.getPgsqlReversePhaseVerifyChain().execute(pgsqlVerifyDto, pgsqlVerifyResult);
         pgsqlVerifyDto.closeConnection();
         outputVerifyResult(pgsqlVerifyResult, taskWorkspace);
         return pgsqlVerifyResult.isSuccess();
@@ -121,7 +121,7 @@ public class VerifyManager {
         VerifyResult milvusVerifyResult = new VerifyResult();
         MilvusVerifyDto milvusVerifyDto = new MilvusVerifyDto(migrationConfigDto);
 
-        VerifyChainBuilder.getMilvusMigrationVerifyChain().verify(milvusVerifyDto, milvusVerifyResult);
+        VerifyChainBuilder.getMilvusMigrationVerifyChain().execute(milvusVerifyDto, milvusVerifyResult);
         milvusVerifyDto.closeConnection();
         outputVerifyResult(milvusVerifyResult, taskWorkspace);
         return milvusVerifyResult.isSuccess();
@@ -140,7 +140,7 @@ public class VerifyManager {
         VerifyResult verifyResult = new VerifyResult();
         ElasticsearchVerifyDto verifyDto = new ElasticsearchVerifyDto(migrationConfigDto);
 
-        VerifyChainBuilder.getElasticsearchMigrationVerifyChain().verify(verifyDto, verifyResult);
+        VerifyChainBuilder.getElasticsearchMigrationVerifyChain().execute(verifyDto, verifyResult);
         verifyDto.closeConnection();
         outputVerifyResult(verifyResult, taskWorkspace);
         return verifyResult.isSuccess();
@@ -8,6 +8,7 @@ import org.opengauss.migration.domain.config.AbstractMigrationConfig;
 import org.opengauss.enums.DatabaseType;
 
 import java.sql.Connection;
+import java.util.Optional;
 
 /**
  * AbstractVerifyDto
@@ -47,4 +48,14 @@ public abstract class AbstractVerifyDto {
      * Close connection
      */
     public abstract void closeConnection();
+
+    /**
+     * Create a copy of this verify dto with its own connections, the copy is used by a parallel verify worker.
+     * Should be called after the connect verify chains are successful.
+     *
+     * @return the copy, empty if the copy is not supported or failed to connect
+     */
+    public Optional<AbstractVerifyDto> createWorkerCopy() {
+        return Optional.empty();
+    }
 }
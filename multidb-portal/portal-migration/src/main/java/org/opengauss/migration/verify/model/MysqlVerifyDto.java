@@ -10,9 +10,11 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opengauss.migration.domain.config.MysqlMigrationConfig;
 import org.opengauss.enums.DatabaseType;
+import org.opengauss.migration.utils.JdbcUtils;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Optional;
 
 /**
  * MysqlVerifyDto
@@ -53,6 +55,20 @@ public class MysqlVerifyDto extends AbstractVerifyDto {
         return DatabaseType.MYSQL;
     }
 
+    @Override
+    public Optional<AbstractVerifyDto> createWorkerCopy() {
+        MysqlVerifyDto copy = new MysqlVerifyDto(migrationConfigDto);
+        try {
+            copy.setMysqlConnection(JdbcUtils.getMysqlConnection(migrationConfigDto.getMysqlConnectInfo()));
+            copy.setOpengaussConnection(migrationConfigDto.getOpenGaussConnection());
+            return Optional.of(copy);
+        } catch (SQLException | ClassNotFoundException e) {
+            LOGGER.warn("Failed to create verify worker connections, error: {}", e.getMessage());
+            copy.closeConnection();
+            return Optional.empty();
+        }
+    }
+
     @Override
     public void closeConnection() {
         try {
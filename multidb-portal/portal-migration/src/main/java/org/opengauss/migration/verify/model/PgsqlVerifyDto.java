@@ -10,9 +10,11 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opengauss.migration.domain.config.PgsqlMigrationConfig;
 import org.opengauss.enums.DatabaseType;
+import org.opengauss.migration.utils.JdbcUtils;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Optional;
 
 /**
  * PgsqlVerifyDto
@@ -53,6 +55,23 @@ public class PgsqlVerifyDto extends AbstractVerifyDto {
         return DatabaseType.POSTGRESQL;
     }
 
+    @Override
+    public Optional<AbstractVerifyDto> createWorkerCopy() {
+        PgsqlVerifyDto copy = new PgsqlVerifyDto(migrationConfigDto);
+        try {
+            copy.setPgsqlConnection(JdbcUtils.getPgsqlConnection(
+                    migrationConfigDto.getPgsqlDatabaseIp(), migrationConfigDto.getPgsqlDatabasePort(),
+                    migrationConfigDto.getPgsqlDatabaseName(), migrationConfigDto.getPgsqlDatabaseUsername(),
+                    migrationConfigDto.getPgsqlDatabasePassword()));
+            copy.setOpengaussConnection(migrationConfigDto.getOpenGaussConnection());
+            return Optional.of(copy);
+        } catch (SQLException | ClassNotFoundException e) {
+            LOGGER.warn("Failed to create verify worker connections, error: {}", e.getMessage());
+            copy.closeConnection();
+            return Optional.empty();
+        }
+    }
+
     @Override
     public void closeConnection() {
         try {
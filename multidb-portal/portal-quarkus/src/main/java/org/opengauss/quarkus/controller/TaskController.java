@@ -4,13 +4,24 @@
 
 package org.opengauss.quarkus.controller;
 
+import com.alibaba.fastjson2.JSON;
+import com.alibaba.fastjson2.JSONObject;
 import io.smallrye.faulttolerance.api.RateLimit;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+import org.opengauss.migration.enums.MigrationStatusEnum;
+import org.opengauss.quarkus.service.ProgressStreamService;
 import org.opengauss.quarkus.service.TaskService;
 import org.opengauss.quarkus.thread.StopQuarkusThread;
 
@@ -25,11 +36,16 @@ import java.time.temporal.ChronoUnit;
 @Produces(MediaType.TEXT_PLAIN)
 public class TaskController {
     private static final String SUCCESS = "SUCCESS";
+    private static final int MAX_OBJECTS_LIMIT = 1000;
 
     @Inject
     @Named("taskService")
     TaskService taskService;
 
+    @Inject
+    @Named("progressStreamService")
+    ProgressStreamService progressStreamService;
+
     @Inject
     @Named("stopQuarkusThread")
     StopQuarkusThread stopQuarkusThread;
@@ -169,4 +185,75 @@ public class TaskController {
         stopQuarkusThread.start();
         return SUCCESS;
     }
+
+    /**
+     * Get current migration status
+     *
+     * @return current migration status in json format
+     */
+    @GET
+    @Path("/status")
+    @Produces(MediaType.APPLICATION_JSON)
+    @RateLimit(
+            value = 10,
+            window = 5,
+            windowUnit = ChronoUnit.SECONDS
+    )
+    public String status() {
+        MigrationStatusEnum currentStatus = taskService.getCurrentStatus();
+        JSONObject result = new JSONObject();
+        result.put("status", currentStatus.getStatus());
+        result.put("description", currentStatus.getDescription());
+        return result.toJSONString();
+    }
+
+    /**
+     * Query a page of object status entries
+     *
+     * @param type object type, such as table, view, function, trigger and procedure
+     * @param status status category, such as pending, migrating, completed, failed, check_success and check_failed
+     * @param offset offset of the first entry
+     * @param limit max entry count of the page
+     * @return object status page in json format
+     */
+    @GET
+    @Path("/objects")
+    @Produces(MediaType.APPLICATION_JSON)
+    @RateLimit(
+            value = 10,
+            window = 5,
+            windowUnit = ChronoUnit.SECONDS
+    )
+    public String objects(@QueryParam("type") String type, @QueryParam("status") String status,
+                          @QueryParam("offset") @DefaultValue("0") int offset,
+                          @QueryParam("limit") @DefaultValue("100") int limit) {
+        if (limit > MAX_OBJECTS_LIMIT) {
+            throw new BadRequestException("Limit must not be greater than " + MAX_OBJECTS_LIMIT);
+        }
+
+        try {
+            return JSON.toJSONString(taskService.getObjectStatusPage(type, status, offset, limit));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+
+    /**
+     * Subscribe the migration progress stream, the migration status transitions, full migration object changes,
+     * incremental and reverse migration progress are pushed as server-sent events
+     *
+     * @param eventSink server-sent events sink
+     * @param sse server-sent events context
+     */
+    @GET
+    @Path("/progress")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    @RateLimit(
+            value = 10,
+            window = 5,
+            windowUnit = ChronoUnit.SECONDS
+    )
+    public void progress(@Context SseEventSink eventSink, @Context Sse sse) {
+        progressStreamService.subscribe(eventSink, sse);
+    }
 }
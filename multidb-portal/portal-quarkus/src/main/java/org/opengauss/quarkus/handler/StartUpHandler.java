@@ -12,6 +12,7 @@ import jakarta.inject.Named;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.opengauss.quarkus.service.MigrationMetricsService;
 import org.opengauss.quarkus.thread.StartMigrationThread;
 
 /**
@@ -27,6 +28,10 @@ public class StartUpHandler {
     @Named("startMigrationThread")
     StartMigrationThread startMigrationThread;
 
+    @Inject
+    @Named("migrationMetricsService")
+    MigrationMetricsService migrationMetricsService;
+
     @ConfigProperty(name = "quarkus.http.port")
     int port;
 
@@ -37,6 +42,7 @@ public class StartUpHandler {
      */
     public void onStart(@Observes StartupEvent event) {
         LOGGER.info("Application has started, listening on port {}", port);
+        migrationMetricsService.register();
         startMigrationThread.start();
     }
 }
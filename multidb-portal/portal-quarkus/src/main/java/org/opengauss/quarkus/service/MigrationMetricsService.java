@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.quarkus.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.opengauss.migration.MigrationContext;
+import org.opengauss.migration.progress.ProgressEventPublisher;
+import org.opengauss.migration.progress.model.IncrementalAndReverseEntry;
+import org.opengauss.migration.progress.model.ProgressEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Migration metrics service, exports the incremental and reverse migration progress of the task as metrics.
+ * The gauges hold the latest progress, the counters accumulate the processed records, and the distribution
+ * summaries record the speed of each progress interval.
+ *
+ * @since 2025/11/9
+ */
+@Named("migrationMetricsService")
+@ApplicationScoped
+public class MigrationMetricsService {
+    private static final String METRIC_PREFIX = "portal.migration.";
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private final Map<String, PhaseMetrics> phaseMetricsMap = new ConcurrentHashMap<>();
+    private Consumer<ProgressEvent> listener;
+
+    /**
+     * Register to the progress event publisher
+     */
+    public synchronized void register() {
+        if (listener != null) {
+            return;
+        }
+        listener = this::onProgressEvent;
+        ProgressEventPublisher.getInstance().addListener(listener);
+    }
+
+    /**
+     * Unregister from the progress event publisher
+     */
+    public synchronized void unregister() {
+        if (listener != null) {
+            ProgressEventPublisher.getInstance().removeListener(listener);
+            listener = null;
+        }
+    }
+
+    private void onProgressEvent(ProgressEvent event) {
+        String phase = event.getType();
+        if (!ProgressEvent.TYPE_INCREMENTAL.equals(phase) && !ProgressEvent.TYPE_REVERSE.equals(phase)) {
+            return;
+        }
+        if (event.getData() instanceof IncrementalAndReverseEntry entry) {
+            phaseMetricsMap.computeIfAbsent(phase, this::createPhaseMetrics).update(entry);
+        }
+    }
+
+    private PhaseMetrics createPhaseMetrics(String phase) {
+        String taskId = MigrationContext.getInstance().getTaskWorkspace().getId();
+        return new PhaseMetrics(meterRegistry, Tags.of("task", taskId, "phase", phase));
+    }
+
+    private static long valueOf(Integer value) {
+        return value == null ? 0L : value;
+    }
+
+    private static class PhaseMetrics {
+        private final AtomicLong totalRecords = new AtomicLong();
+        private final AtomicLong pendingRecords = new AtomicLong();
+        private final AtomicLong sourceSpeed = new AtomicLong();
+        private final AtomicLong sinkSpeed = new AtomicLong();
+        private volatile double lagSeconds;
+
+        private final Counter successCounter;
+        private final Counter failCounter;
+        private final Counter skippedCounter;
+        private final DistributionSummary sourceThroughput;
+        private final DistributionSummary sinkThroughput;
+
+        private long lastSuccessCount;
+        private long lastFailCount;
+        private long lastSkippedCount;
+
+        PhaseMetrics(MeterRegistry registry, Tags tags) {
+            Gauge.builder(METRIC_PREFIX + "records", totalRecords, AtomicLong::get)
+                    .description("Total records read from the source").tags(tags).register(registry);
+            Gauge.builder(METRIC_PREFIX + "pending.records", pendingRecords, AtomicLong::get)
+                    .description("Records read from the source but not replayed yet").tags(tags).register(registry);
+            Gauge.builder(METRIC_PREFIX + "source.speed", sourceSpeed, AtomicLong::get)
+                    .description("Source speed in records per second").tags(tags).register(registry);
+            Gauge.builder(METRIC_PREFIX + "sink.speed", sinkSpeed, AtomicLong::get)
+                    .description("Sink speed in records per second").tags(tags).register(registry);
+            Gauge.builder(METRIC_PREFIX + "lag.seconds", this, metrics -> metrics.lagSeconds)
+                    .description("Estimated time for the sink to replay the pending records, "
+                            + "+Inf if records are pending while the sink is stalled")
+                    .tags(tags).register(registry);
+
+            successCounter = Counter.builder(METRIC_PREFIX + "success.records")
+                    .description("Records replayed successfully").tags(tags).register(registry);
+            failCounter = Counter.builder(METRIC_PREFIX + "failed.records")
+                    .description("Records failed to replay").tags(tags).register(registry);
+            skippedCounter = Counter.builder(METRIC_PREFIX + "skipped.records")
+                    .description("Records skipped").tags(tags).register(registry);
+            sourceThroughput = DistributionSummary.builder(METRIC_PREFIX + "source.throughput")
+                    .description("Source speed of each progress interval").baseUnit("records/s")
+                    .publishPercentileHistogram().tags(tags).register(registry);
+            sinkThroughput = DistributionSummary.builder(METRIC_PREFIX + "sink.throughput")
+                    .description("Sink speed of each progress interval").baseUnit("records/s")
+                    .publishPercentileHistogram().tags(tags).register(registry);
+        }
+
+        synchronized void update(IncrementalAndReverseEntry entry) {
+            long sink = valueOf(entry.getSinkSpeed());
+            long rest = valueOf(entry.getRest());
+            totalRecords.set(valueOf(entry.getCount()));
+            pendingRecords.set(rest);
+            sourceSpeed.set(valueOf(entry.getSourceSpeed()));
+            sinkSpeed.set(sink);
+            lagSeconds = calculateLagSeconds(rest, sink);
+
+            lastSuccessCount = increase(successCounter, lastSuccessCount, valueOf(entry.getSuccessCount()));
+            lastFailCount = increase(failCounter, lastFailCount, valueOf(entry.getFailCount()));
+            lastSkippedCount = increase(skippedCounter, lastSkippedCount, valueOf(entry.getSkippedCount()));
+            sourceThroughput.record(valueOf(entry.getSourceSpeed()));
+            sinkThroughput.record(sink);
+        }
+
+        private static double calculateLagSeconds(long pendingCount, long sinkSpeed) {
+            if (pendingCount == 0) {
+                return 0D;
+            }
+            return sinkSpeed <= 0 ? Double.POSITIVE_INFINITY : (double) pendingCount / sinkSpeed;
+        }
+
+        private static long increase(Counter counter, long lastCount, long currentCount) {
+            // the counts start from zero again after the connector restarts
+            long increment = currentCount >= lastCount ? currentCount - lastCount : currentCount;
+            if (increment > 0) {
+                counter.increment(increment);
+            }
+            return currentCount;
+        }
+    }
+}
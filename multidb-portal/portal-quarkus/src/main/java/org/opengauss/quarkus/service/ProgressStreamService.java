@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.quarkus.service;
+
+import com.alibaba.fastjson2.JSON;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Named;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opengauss.migration.MigrationContext;
+import org.opengauss.migration.progress.ProgressEventPublisher;
+import org.opengauss.migration.progress.model.ProgressEvent;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Progress stream service, pushes the progress events to the server-sent events subscribers.
+ * The pending events of each subscriber are coalesced by key, only the latest event of the same key is sent.
+ * The pending events are flushed every window, one event at a time, the next event is sent only when the previous
+ * send completes. A subscriber whose pending events exceed the limit while a flush is still in progress can not keep
+ * up, and is disconnected. The service listens to the progress events only while at least one subscriber is connected.
+ *
+ * @since 2025/11/8
+ */
+@Named("progressStreamService")
+@ApplicationScoped
+public class ProgressStreamService {
+    private static final Logger LOGGER = LogManager.getLogger(ProgressStreamService.class);
+    private static final long COALESCE_WINDOW_MILLIS = 500L;
+    private static final int MAX_PENDING_EVENTS = 4096;
+
+    private final Set<ProgressSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Consumer<ProgressEvent> listener = this::dispatch;
+    private ScheduledExecutorService flushExecutor;
+
+    /**
+     * Start flushing the pending events of the subscribers
+     */
+    @PostConstruct
+    void init() {
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Progress-Stream-Thread");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushExecutor.scheduleWithFixedDelay(this::flush, COALESCE_WINDOW_MILLIS, COALESCE_WINDOW_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop flushing, unregister from the progress event publisher and close the subscribers
+     */
+    @PreDestroy
+    void destroy() {
+        flushExecutor.shutdownNow();
+        for (ProgressSubscriber subscriber : subscribers) {
+            unsubscribe(subscriber);
+        }
+    }
+
+    /**
+     * Send the progress events to the server-sent events sink until the sink is closed
+     *
+     * @param eventSink server-sent events sink
+     * @param sse server-sent events context
+     */
+    public void subscribe(SseEventSink eventSink, Sse sse) {
+        ProgressSubscriber subscriber = new ProgressSubscriber(eventSink, sse);
+        subscriber.offer(new ProgressEvent(ProgressEvent.TYPE_STATUS, ProgressEvent.TYPE_STATUS,
+                MigrationContext.getInstance().getStatusMonitor().getCurrentStatus()));
+        synchronized (subscribers) {
+            if (subscribers.isEmpty()) {
+                ProgressEventPublisher.getInstance().addListener(listener);
+            }
+            subscribers.add(subscriber);
+        }
+
+        if (!subscriber.flush()) {
+            unsubscribe(subscriber);
+        }
+    }
+
+    private void dispatch(ProgressEvent event) {
+        for (ProgressSubscriber subscriber : subscribers) {
+            if (!subscriber.offer(event)) {
+                unsubscribe(subscriber);
+            }
+        }
+    }
+
+    private void flush() {
+        for (ProgressSubscriber subscriber : subscribers) {
+            if (!subscriber.flush()) {
+                unsubscribe(subscriber);
+            }
+        }
+    }
+
+    private void unsubscribe(ProgressSubscriber subscriber) {
+        subscriber.close();
+        synchronized (subscribers) {
+            if (subscribers.remove(subscriber) && subscribers.isEmpty()) {
+                ProgressEventPublisher.getInstance().removeListener(listener);
+            }
+        }
+    }
+
+    private static class ProgressSubscriber {
+        private final SseEventSink eventSink;
+        private final Sse sse;
+        private final Map<String, ProgressEvent> pendingEvents = new LinkedHashMap<>();
+        private boolean isSending = false;
+        private boolean isClosed = false;
+
+        ProgressSubscriber(SseEventSink eventSink, Sse sse) {
+            this.eventSink = eventSink;
+            this.sse = sse;
+        }
+
+        /**
+         * Add the event to the pending events, replaces the pending event of the same key
+         *
+         * @param event progress event
+         * @return false if the subscriber is closed or can not keep up
+         */
+        synchronized boolean offer(ProgressEvent event) {
+            if (isClosed || eventSink.isClosed()) {
+                return false;
+            }
+
+            pendingEvents.remove(event.getKey());
+            pendingEvents.put(event.getKey(), event);
+            if (isSending && pendingEvents.size() > MAX_PENDING_EVENTS) {
+                LOGGER.warn("Progress stream subscriber can not keep up, pending events: {}, disconnect it",
+                        pendingEvents.size());
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Start sending the pending events, if the previous events are still being sent, wait for the next window
+         *
+         * @return false if the subscriber is closed
+         */
+        boolean flush() {
+            Iterator<ProgressEvent> events;
+            synchronized (this) {
+                if (isClosed || eventSink.isClosed()) {
+                    return false;
+                }
+                if (isSending || pendingEvents.isEmpty()) {
+                    return true;
+                }
+
+                events = new ArrayList<>(pendingEvents.values()).iterator();
+                pendingEvents.clear();
+                isSending = true;
+            }
+            sendNext(events);
+            return true;
+        }
+
+        synchronized void close() {
+            isClosed = true;
+            pendingEvents.clear();
+            if (!eventSink.isClosed()) {
+                eventSink.close();
+            }
+        }
+
+        private void sendNext(Iterator<ProgressEvent> events) {
+            while (events.hasNext()) {
+                CompletableFuture<?> sendFuture;
+                try {
+                    sendFuture = eventSink.send(buildEvent(events.next())).toCompletableFuture();
+                } catch (IllegalStateException e) {
+                    close();
+                    return;
+                }
+
+                if (!sendFuture.isDone()) {
+                    sendFuture.whenComplete((result, error) -> {
+                        if (error != null) {
+                            LOGGER.warn("Failed to send progress event, error: {}", error.getMessage());
+                            close();
+                        } else {
+                            sendNext(events);
+                        }
+                    });
+                    return;
+                }
+                if (sendFuture.isCompletedExceptionally()) {
+                    close();
+                    return;
+                }
+            }
+
+            synchronized (this) {
+                isSending = false;
+            }
+        }
+
+        private OutboundSseEvent buildEvent(ProgressEvent event) {
+            return sse.newEventBuilder()
+                    .name(event.getType())
+                    .id(String.valueOf(event.getTimestamp()))
+                    .data(JSON.toJSONString(event))
+                    .build();
+        }
+    }
+}
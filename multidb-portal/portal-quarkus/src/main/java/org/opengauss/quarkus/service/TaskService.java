@@ -6,7 +6,11 @@ package org.opengauss.quarkus.service;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Named;
+import org.opengauss.migration.MigrationContext;
 import org.opengauss.migration.MigrationManager;
+import org.opengauss.migration.enums.MigrationStatusEnum;
+import org.opengauss.migration.status.StatusManager;
+import org.opengauss.migration.status.model.ObjectStatusPage;
 
 /**
  * Task Service
@@ -72,6 +76,31 @@ public class TaskService {
         MigrationManager.getInstance().restartReverse();
     }
 
+    /**
+     * Get current migration status
+     *
+     * @return current migration status
+     */
+    public MigrationStatusEnum getCurrentStatus() {
+        StatusManager statusManager = new StatusManager(MigrationContext.getInstance().getTaskWorkspace());
+        return statusManager.getCurrentMigrationStatus();
+    }
+
+    /**
+     * Query a page of object status entries
+     *
+     * @param type object type, null means all types
+     * @param status status category, null means all status
+     * @param offset offset of the first entry
+     * @param limit max entry count of the page
+     * @return object status page
+     */
+    public ObjectStatusPage getObjectStatusPage(String type, String status, int offset, int limit) {
+        MigrationContext migrationContext = MigrationContext.getInstance();
+        StatusManager statusManager = new StatusManager(migrationContext.getTaskWorkspace());
+        return statusManager.getObjectStatusPage(migrationContext.getSourceDbType(), type, status, offset, limit);
+    }
+
     /**
      * Stop task
      */
@@ -20,6 +20,7 @@ import org.apache.commons.io.input.Tailer;
 import org.apache.commons.io.input.TailerListenerAdapter;
 import org.opengauss.portalcontroller.logmonitor.DataCheckLogFileCheck;
 import org.opengauss.portalcontroller.task.Plan;
+import org.opengauss.portalcontroller.utils.MultiPatternMatcher;
 
 import java.io.File;
 import java.util.HashMap;
@@ -84,6 +85,7 @@ public class LogFileListener implements Runnable {
      * @version: 1.1
      */
     public void initLogFileListener() {
+        MultiPatternMatcher checkStrMatcher = MultiPatternMatcher.of(checkStrList == null ? List.of() : checkStrList);
         tailer = Tailer.create(new File(filePath), new TailerListenerAdapter() {
             @Override
             public void handle(String line) {
@@ -94,11 +96,9 @@ public class LogFileListener implements Runnable {
                 if (checkStrList.isEmpty()) {
                     return;
                 }
-                for (String checkStr : checkStrList) {
-                    if (line.contains(checkStr)) {
-                        log.info("{} find check str... {}....{}", filePath, line, checkStr);
-                        logMap.put(checkStr, line);
-                    }
+                for (String checkStr : checkStrMatcher.findAll(line)) {
+                    log.info("{} find check str... {}....{}", filePath, line, checkStr);
+                    logMap.put(checkStr, line);
                 }
             }
         }, 2000);
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.portalcontroller.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * Log file scanner.
+ * Streams the lines of a log file from an offset through a file channel with a large buffer, so scanning a large
+ * log costs one read per buffer instead of one read per byte. The lines are split on the '\n' byte and decoded as
+ * UTF-8, a trailing '\r' of a line is removed, and the last line is passed even if it has no line terminator.
+ *
+ * @since 2025/11/14
+ */
+public final class LogFileScanner {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int INITIAL_LINE_SIZE = 256;
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+
+    private LogFileScanner() {
+    }
+
+    /**
+     * Scan the lines of the file from the offset until the end of the file or until the handler stops the scan
+     *
+     * @param filePath file path
+     * @param offset byte offset to start from, the beginning of the file if it is beyond the end of the file
+     * @param lineHandler line handler, returns false to stop the scan
+     * @return the size of the file when the scan finished
+     * @throws IOException if an I/O error occurs
+     */
+    public static long scan(String filePath, long offset, Predicate<String> lineHandler) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            long position = offset > channel.size() || offset < 0 ? 0 : offset;
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            byte[] line = new byte[INITIAL_LINE_SIZE];
+            int lineLength = 0;
+
+            int readCount;
+            while ((readCount = channel.read(buffer, position)) > 0) {
+                position += readCount;
+                byte[] block = buffer.array();
+                int lineStart = 0;
+                for (int i = 0; i < readCount; i++) {
+                    if (block[i] != LF) {
+                        continue;
+                    }
+
+                    line = append(line, lineLength, block, lineStart, i - lineStart);
+                    lineLength += i - lineStart;
+                    lineStart = i + 1;
+                    if (!lineHandler.test(decode(line, lineLength))) {
+                        return channel.size();
+                    }
+                    lineLength = 0;
+                }
+                line = append(line, lineLength, block, lineStart, readCount - lineStart);
+                lineLength += readCount - lineStart;
+                buffer.clear();
+            }
+
+            if (lineLength > 0) {
+                lineHandler.test(decode(line, lineLength));
+            }
+            return channel.size();
+        }
+    }
+
+    private static byte[] append(byte[] line, int lineLength, byte[] block, int start, int length) {
+        byte[] result = line;
+        if (lineLength + length > result.length) {
+            result = Arrays.copyOf(result, Math.max(result.length * 2, lineLength + length));
+        }
+        System.arraycopy(block, start, result, lineLength, length);
+        return result;
+    }
+
+    private static String decode(byte[] line, int lineLength) {
+        int length = lineLength > 0 && line[lineLength - 1] == CR ? lineLength - 1 : lineLength;
+        return new String(line, 0, length, StandardCharsets.UTF_8);
+    }
+}
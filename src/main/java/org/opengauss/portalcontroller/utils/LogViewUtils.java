@@ -24,9 +24,9 @@ import org.opengauss.portalcontroller.logmonitor.listener.LogFileListener;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.file.NoSuchFileException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -44,7 +44,8 @@ import java.util.concurrent.atomic.AtomicLong;
 public class LogViewUtils {
     private static Map<String, AtomicLong> LOG_SEEK_POS_CACHE = new ConcurrentHashMap<>();
     private static int MAX_LOG_SIZE = 200;
-    private static int MAX_CHECK_LOG_SUCCESS_FLAG_LENGTH = 10000;
+    private static int MAX_CHECK_LOG_SUCCESS_FLAG_LINES = 200;
+    private static final int READ_LINES_BATCH_SIZE = 1000;
     private static final org.slf4j.Logger LOGGER = LoggerFactory.getLogger(LogViewUtils.class);
 
     /**
@@ -64,37 +65,28 @@ public class LogViewUtils {
      * @param targetMsg the target msg
      * @return the log
      */
-    public static synchronized String getLog(String logPath, List<String> targetMsg) {
+    public static String getLog(String logPath, List<String> targetMsg) {
         if (!checkFileExists(logPath)) {
             return "";
         }
+        MultiPatternMatcher matcher = MultiPatternMatcher.of(targetMsg);
         StringBuilder stringBuilder = new StringBuilder();
-        try {
-            if (!LOG_SEEK_POS_CACHE.containsKey(logPath)) {
-                LOG_SEEK_POS_CACHE.put(logPath, new AtomicLong(0));
-            }
-            RandomAccessFile randomFile = new RandomAccessFile(logPath, "r");
-            int count = 0;
-            randomFile.seek(LOG_SEEK_POS_CACHE.get(logPath).get());
-            String tempStr;
-            while ((tempStr = randomFile.readLine()) != null) {
-                boolean hasErrorMsg = targetMsg.stream().map(tempStr::contains).anyMatch(Boolean::booleanValue);
-                if (hasErrorMsg) {
-                    stringBuilder.append(tempStr).append(System.lineSeparator());
-                    break;
-                }
-                count++;
-                if (count > MAX_LOG_SIZE) {
-                    break;
-                }
+        AtomicLong seekPos = LOG_SEEK_POS_CACHE.computeIfAbsent(logPath, path -> new AtomicLong(0));
+        synchronized (seekPos) {
+            try {
+                int[] count = {0};
+                long length = LogFileScanner.scan(logPath, seekPos.get(), line -> {
+                    if (matcher.matchesAny(line)) {
+                        stringBuilder.append(line).append(System.lineSeparator());
+                        return false;
+                    }
+                    count[0]++;
+                    return count[0] <= MAX_LOG_SIZE;
+                });
+                seekPos.set(length);
+            } catch (IOException e) {
+                handleReadLogException(logPath, e);
             }
-            LOG_SEEK_POS_CACHE.get(logPath).set(randomFile.length());
-            randomFile.close();
-        } catch (IOException e) {
-            PortalException portalException = new PortalException("IO exception",
-                    "getting error message in file " + logPath, e.getMessage());
-            LOGGER.error("{}Failed to read log from log file: {}", ErrorCode.IO_EXCEPTION, logPath, e);
-            PortalControl.shutDownPortal(portalException.toString());
         }
         return stringBuilder.toString();
     }
@@ -112,31 +104,36 @@ public class LogViewUtils {
         if (!checkFileExists(logPath)) {
             return "";
         }
-        try {
-            if (!LOG_SEEK_POS_CACHE.containsKey(logPath)) {
-                LOG_SEEK_POS_CACHE.put(logPath, new AtomicLong(0));
-            }
-            RandomAccessFile randomFile = new RandomAccessFile(logPath, "r");
-            long seek = LOG_SEEK_POS_CACHE.get(logPath).get();
-            randomFile.seek(Math.max(seek - prefix, 0));
-            String tempStr;
-            while ((tempStr = randomFile.readLine()) != null) {
-                boolean hasTargetMsg = targetMsg.stream().map(tempStr::contains).anyMatch(Boolean::booleanValue);
-                if (hasTargetMsg) {
-                    stringBuilder.append(tempStr).append(System.lineSeparator());
-                }
+        MultiPatternMatcher matcher = MultiPatternMatcher.of(targetMsg);
+        AtomicLong seekPos = LOG_SEEK_POS_CACHE.computeIfAbsent(logPath, path -> new AtomicLong(0));
+        synchronized (seekPos) {
+            try {
+                long offset = Math.max(seekPos.get() - prefix, 0);
+                ReverseLineReader.LinesSince linesSince;
+                do {
+                    linesSince = ReverseLineReader.readLinesSince(logPath, offset, READ_LINES_BATCH_SIZE);
+                    for (String line : linesSince.getLines()) {
+                        if (matcher.matchesAny(line)) {
+                            stringBuilder.append(line).append(System.lineSeparator());
+                        }
+                    }
+                    offset = linesSince.getNextOffset();
+                } while (linesSince.getLines().size() == READ_LINES_BATCH_SIZE);
+                seekPos.set(offset);
+            } catch (IOException e) {
+                handleReadLogException(logPath, e);
             }
-            LOG_SEEK_POS_CACHE.get(logPath).set(randomFile.length());
-            randomFile.close();
-        } catch (IOException e) {
-            PortalException portalException = new PortalException("IO exception",
-                    "getting error message in file " + logPath, e.getMessage());
-            LOGGER.error("{}Failed to read log from log file: {}", ErrorCode.IO_EXCEPTION, logPath, e);
-            PortalControl.shutDownPortal(portalException.toString());
         }
         return stringBuilder.toString();
     }
 
+    private static void handleReadLogException(String logPath, IOException e) {
+        PortalException portalException = new PortalException("IO exception",
+                "getting error message in file " + logPath, e.getMessage());
+        LOGGER.error("{}Failed to read log from log file: {}", ErrorCode.IO_EXCEPTION, logPath, e);
+        PortalControl.shutDownPortal(portalException.toString());
+    }
+
     /**
      * Gets full log.
      *
@@ -185,8 +182,27 @@ public class LogViewUtils {
      * @return the boolean
      */
     public static boolean checkCheckSuccessLogFlag(String logPath) {
-        return getTailLog(logPath, List.of("check task execute success ,cost time ="),
-                MAX_CHECK_LOG_SUCCESS_FLAG_LENGTH).length() > 1;
+        MultiPatternMatcher matcher = MultiPatternMatcher.of(List.of("check task execute success ,cost time ="));
+        return getLastLines(logPath, MAX_CHECK_LOG_SUCCESS_FLAG_LINES).stream().anyMatch(matcher::matchesAny);
+    }
+
+    /**
+     * Gets the last lines of the log, only the tail of the file is read.
+     *
+     * @param logPath   the log path
+     * @param lineCount the maximum number of lines
+     * @return the last lines in file order
+     */
+    public static List<String> getLastLines(String logPath, int lineCount) {
+        if (!checkFileExists(logPath)) {
+            return List.of();
+        }
+        try {
+            return ReverseLineReader.readLastLines(logPath, lineCount);
+        } catch (IOException e) {
+            handleReadLogException(logPath, e);
+        }
+        return List.of();
     }
 
     /**
@@ -218,28 +234,10 @@ public class LogViewUtils {
      * @return the string
      */
     public static String lastLine(String path) {
-        File file = new File(path);
-        StringBuilder builder = new StringBuilder();
-        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
-            long fileLastPointer = randomAccessFile.length() - 1;
-            for (long filePointer = fileLastPointer; filePointer != -1; filePointer--) {
-                randomAccessFile.seek(filePointer);
-                int readByte = randomAccessFile.readByte();
-                if (0xA == readByte) {
-                    if (filePointer == fileLastPointer) {
-                        continue;
-                    }
-                    break;
-                }
-                if (0xD == readByte) {
-                    if (filePointer == fileLastPointer - 1) {
-                        continue;
-                    }
-                    break;
-                }
-                builder.append((char) readByte);
-            }
-        } catch (FileNotFoundException e) {
+        String lastLine = "";
+        try {
+            lastLine = ReverseLineReader.readLastLine(path);
+        } catch (NoSuchFileException e) {
             PortalException portalException = new PortalException("File not found exception", "reading last line in " +
                     "file " + path, e.getMessage());
             LOGGER.error("{}Failed to read file: {}", ErrorCode.FILE_NOT_FOUND, path, e);
@@ -250,7 +248,7 @@ public class LogViewUtils {
             LOGGER.error("{}Failed to read file: {}", ErrorCode.IO_EXCEPTION, path, e);
             PortalControl.shutDownPortal(portalException.toString());
         }
-        return builder.reverse().toString();
+        return lastLine;
     }
 
     /**
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.portalcontroller.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Multi pattern matcher.
+ * Finds all the patterns contained in a text in one pass with an Aho-Corasick automaton, instead of searching the
+ * text once per pattern. The transitions of the ASCII characters are precomputed, so each character of the text
+ * costs one table lookup; the other characters follow the failure links. The matcher is immutable and can be shared
+ * by several threads.
+ *
+ * @since 2025/11/14
+ */
+public final class MultiPatternMatcher {
+    private static final int ASCII_SIZE = 128;
+    private static final int ROOT = 0;
+    private static final Map<List<String>, MultiPatternMatcher> MATCHER_CACHE = new ConcurrentHashMap<>();
+
+    private final List<String> patterns;
+    private final int[][] asciiTransitions;
+    private final List<Map<Character, Integer>> otherTransitions;
+    private final int[] failures;
+    private final int[][] outputs;
+
+    private MultiPatternMatcher(List<String> patterns) {
+        this.patterns = List.copyOf(patterns);
+
+        List<int[]> asciiGotoList = new ArrayList<>();
+        List<Map<Character, Integer>> otherGotoList = new ArrayList<>();
+        List<List<Integer>> outputList = new ArrayList<>();
+        addState(asciiGotoList, otherGotoList, outputList);
+        for (int i = 0; i < this.patterns.size(); i++) {
+            int state = ROOT;
+            for (char c : this.patterns.get(i).toCharArray()) {
+                int next = getGoto(asciiGotoList, otherGotoList, state, c);
+                if (next < 0) {
+                    next = addState(asciiGotoList, otherGotoList, outputList);
+                    setGoto(asciiGotoList, otherGotoList, state, c, next);
+                }
+                state = next;
+            }
+            outputList.get(state).add(i);
+        }
+
+        int stateCount = asciiGotoList.size();
+        this.asciiTransitions = asciiGotoList.toArray(new int[0][]);
+        this.otherTransitions = otherGotoList;
+        this.failures = new int[stateCount];
+        buildFailures(outputList);
+
+        this.outputs = new int[stateCount][];
+        for (int state = 0; state < stateCount; state++) {
+            this.outputs[state] = outputList.get(state).stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * Get the matcher of the patterns, the matchers are cached by the pattern list
+     *
+     * @param patterns the patterns
+     * @return the matcher
+     */
+    public static MultiPatternMatcher of(List<String> patterns) {
+        return MATCHER_CACHE.computeIfAbsent(List.copyOf(patterns), MultiPatternMatcher::new);
+    }
+
+    /**
+     * Whether the text contains any of the patterns
+     *
+     * @param text the text
+     * @return true if the text contains any of the patterns
+     */
+    public boolean matchesAny(CharSequence text) {
+        int state = ROOT;
+        if (outputs[state].length > 0) {
+            return true;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            if (outputs[state].length > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Find the patterns contained in the text
+     *
+     * @param text the text
+     * @return the contained patterns, in the order of the pattern list
+     */
+    public List<String> findAll(CharSequence text) {
+        boolean[] isFound = new boolean[patterns.size()];
+        int foundCount = markFound(ROOT, isFound, 0);
+        int state = ROOT;
+        for (int i = 0; i < text.length() && foundCount < isFound.length; i++) {
+            state = next(state, text.charAt(i));
+            foundCount = markFound(state, isFound, foundCount);
+        }
+        if (foundCount == 0) {
+            return Collections.emptyList();
+        }
+
+        List<String> result = new ArrayList<>(foundCount);
+        for (int i = 0; i < isFound.length; i++) {
+            if (isFound[i]) {
+                result.add(patterns.get(i));
+            }
+        }
+        return result;
+    }
+
+    private int markFound(int state, boolean[] isFound, int foundCount) {
+        int count = foundCount;
+        for (int patternIndex : outputs[state]) {
+            if (!isFound[patternIndex]) {
+                isFound[patternIndex] = true;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int next(int state, char c) {
+        if (c < ASCII_SIZE) {
+            return asciiTransitions[state][c];
+        }
+
+        int current = state;
+        while (true) {
+            Integer next = otherTransitions.get(current).get(c);
+            if (next != null) {
+                return next;
+            }
+            if (current == ROOT) {
+                return ROOT;
+            }
+            current = failures[current];
+        }
+    }
+
+    private void buildFailures(List<List<Integer>> outputList) {
+        Queue<Integer> queue = new ArrayDeque<>();
+        int[] rootTransitions = asciiTransitions[ROOT];
+        for (int c = 0; c < ASCII_SIZE; c++) {
+            if (rootTransitions[c] < 0) {
+                rootTransitions[c] = ROOT;
+            } else {
+                failures[rootTransitions[c]] = ROOT;
+                queue.add(rootTransitions[c]);
+            }
+        }
+        for (int child : otherTransitions.get(ROOT).values()) {
+            failures[child] = ROOT;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            outputList.get(state).addAll(outputList.get(failures[state]));
+
+            // the states are visited breadth first, so the transitions of the failure state are already complete
+            int[] transitions = asciiTransitions[state];
+            int[] failureTransitions = asciiTransitions[failures[state]];
+            for (int c = 0; c < ASCII_SIZE; c++) {
+                if (transitions[c] < 0) {
+                    transitions[c] = failureTransitions[c];
+                } else {
+                    failures[transitions[c]] = failureTransitions[c];
+                    queue.add(transitions[c]);
+                }
+            }
+            for (Map.Entry<Character, Integer> entry : otherTransitions.get(state).entrySet()) {
+                failures[entry.getValue()] = next(failures[state], entry.getKey());
+                queue.add(entry.getValue());
+            }
+        }
+    }
+
+    private static int addState(List<int[]> asciiGotoList, List<Map<Character, Integer>> otherGotoList,
+                                List<List<Integer>> outputList) {
+        int[] transitions = new int[ASCII_SIZE];
+        Arrays.fill(transitions, -1);
+        asciiGotoList.add(transitions);
+        otherGotoList.add(new HashMap<>());
+        outputList.add(new ArrayList<>());
+        return asciiGotoList.size() - 1;
+    }
+
+    private static int getGoto(List<int[]> asciiGotoList, List<Map<Character, Integer>> otherGotoList, int state,
+                               char c) {
+        if (c < ASCII_SIZE) {
+            return asciiGotoList.get(state)[c];
+        }
+        return otherGotoList.get(state).getOrDefault(c, -1);
+    }
+
+    private static void setGoto(List<int[]> asciiGotoList, List<Map<Character, Integer>> otherGotoList, int state,
+                                char c, int next) {
+        if (c < ASCII_SIZE) {
+            asciiGotoList.get(state)[c] = next;
+        } else {
+            otherGotoList.get(state).put(c, next);
+        }
+    }
+}
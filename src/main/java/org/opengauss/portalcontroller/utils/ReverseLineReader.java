@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.portalcontroller.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reverse line reader.
+ * Reads the tail of a file in fixed size blocks through a file channel, instead of one byte per read. As before,
+ * '\n', '\r' and "\r\n" each end a line. Neither byte occurs inside a multi-byte UTF-8 sequence, so the lines are
+ * found on the raw bytes and decoded as a whole, and multi-byte characters are kept intact.
+ *
+ * @since 2025/11/14
+ */
+public final class ReverseLineReader {
+    private static final int BLOCK_SIZE = 8192;
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+
+    private ReverseLineReader() {
+    }
+
+    /**
+     * Read the last line of the file, the line terminators at the end of the file are ignored
+     *
+     * @param filePath file path
+     * @return the last line, empty if the file is empty
+     * @throws IOException if an I/O error occurs
+     */
+    public static String readLastLine(String filePath) throws IOException {
+        List<String> lines = readLastLines(filePath, 1);
+        return lines.isEmpty() ? "" : lines.get(0);
+    }
+
+    /**
+     * Read the last lines of the file in file order, the line terminators at the end of the file are ignored
+     *
+     * @param filePath file path
+     * @param lineCount the maximum number of lines to read
+     * @return the last lines, empty if the file is empty or the line count is not positive
+     * @throws IOException if an I/O error occurs
+     */
+    public static List<String> readLastLines(String filePath, int lineCount) throws IOException {
+        checkFilePath(filePath);
+        if (lineCount <= 0) {
+            return Collections.emptyList();
+        }
+
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            long end = skipTrailingLineTerminators(channel, channel.size());
+            if (end == 0) {
+                return Collections.emptyList();
+            }
+
+            long start = findLinesStart(channel, end, lineCount);
+            List<String> lines = new ArrayList<>(lineCount);
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            boolean isAfterCr = false;
+            for (byte current : readRange(channel, start, end)) {
+                if (current == LF && isAfterCr) {
+                    isAfterCr = false;
+                    continue;
+                }
+                isAfterCr = current == CR;
+                if (isLineTerminator(current)) {
+                    lines.add(line.toString(StandardCharsets.UTF_8));
+                    line.reset();
+                } else {
+                    line.write(current);
+                }
+            }
+            lines.add(line.toString(StandardCharsets.UTF_8));
+            return lines;
+        }
+    }
+
+    /**
+     * Read the complete lines written to the file since the offset, a line without its terminator yet is left to
+     * the next read. If the file is shorter than the offset, it is treated as rewritten and read from the start.
+     *
+     * @param filePath file path
+     * @param offset the offset returned by the previous read, 0 for the first read
+     * @param maxLines the maximum number of lines to read
+     * @return the lines read and the offset to continue from
+     * @throws IOException if an I/O error occurs
+     */
+    public static LinesSince readLinesSince(String filePath, long offset, int maxLines) throws IOException {
+        checkFilePath(filePath);
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = offset > size || offset < 0 ? 0 : offset;
+            long nextOffset = position;
+            List<String> lines = new ArrayList<>();
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            ByteBuffer buffer = ByteBuffer.allocate(BLOCK_SIZE);
+            boolean isAfterCr = position > 0 && readByte(channel, buffer, position - 1) == CR;
+            while (position < size && lines.size() < maxLines) {
+                int length = (int) Math.min(BLOCK_SIZE, size - position);
+                readBlock(channel, buffer, position, length);
+                for (int i = 0; i < length && lines.size() < maxLines; i++) {
+                    byte current = buffer.get(i);
+                    if (current == LF && isAfterCr) {
+                        nextOffset = position + i + 1;
+                        isAfterCr = false;
+                        continue;
+                    }
+                    isAfterCr = current == CR;
+                    if (isLineTerminator(current)) {
+                        lines.add(line.toString(StandardCharsets.UTF_8));
+                        line.reset();
+                        nextOffset = position + i + 1;
+                    } else {
+                        line.write(current);
+                    }
+                }
+                position += length;
+            }
+            return new LinesSince(lines, nextOffset);
+        }
+    }
+
+    private static void checkFilePath(String filePath) {
+        if (filePath == null || filePath.isBlank()) {
+            throw new IllegalArgumentException("File path cannot be null or empty");
+        }
+    }
+
+    private static long skipTrailingLineTerminators(FileChannel channel, long size) throws IOException {
+        long end = size;
+        ByteBuffer buffer = ByteBuffer.allocate(BLOCK_SIZE);
+        while (end > 0) {
+            int length = (int) Math.min(BLOCK_SIZE, end);
+            readBlock(channel, buffer, end - length, length);
+            for (int i = length - 1; i >= 0; i--) {
+                if (!isLineTerminator(buffer.get(i))) {
+                    return end - (length - 1 - i);
+                }
+            }
+            end -= length;
+        }
+        return 0;
+    }
+
+    private static long findLinesStart(FileChannel channel, long end, int lineCount) throws IOException {
+        long blockEnd = end;
+        int lineBreaks = 0;
+        byte next = 0;
+        ByteBuffer buffer = ByteBuffer.allocate(BLOCK_SIZE);
+        while (blockEnd > 0) {
+            int length = (int) Math.min(BLOCK_SIZE, blockEnd);
+            long blockStart = blockEnd - length;
+            readBlock(channel, buffer, blockStart, length);
+            for (int i = length - 1; i >= 0; i--) {
+                byte current = buffer.get(i);
+                boolean isLineBreak = current == LF || (current == CR && next != LF);
+                if (isLineBreak && ++lineBreaks == lineCount) {
+                    return blockStart + i + 1;
+                }
+                next = current;
+            }
+            blockEnd = blockStart;
+        }
+        return 0;
+    }
+
+    private static boolean isLineTerminator(byte current) {
+        return current == LF || current == CR;
+    }
+
+    private static byte readByte(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        readBlock(channel, buffer, position, 1);
+        return buffer.get(0);
+    }
+
+    private static void readBlock(FileChannel channel, ByteBuffer buffer, long position, int length)
+            throws IOException {
+        buffer.clear();
+        buffer.limit(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of file at position " + (position + buffer.position()));
+            }
+        }
+    }
+
+    private static byte[] readRange(FileChannel channel, long start, long end) throws IOException {
+        long length = end - start;
+        if (length > Integer.MAX_VALUE - BLOCK_SIZE) {
+            throw new IOException("Lines are too large to read, size: " + length);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) length);
+        readBlock(channel, buffer, start, (int) length);
+        return buffer.array();
+    }
+
+    /**
+     * Lines read since an offset
+     *
+     * @since 2025/11/14
+     */
+    public static final class LinesSince {
+        private final List<String> lines;
+        private final long nextOffset;
+
+        private LinesSince(List<String> lines, long nextOffset) {
+            this.lines = lines;
+            this.nextOffset = nextOffset;
+        }
+
+        /**
+         * Get the complete lines read
+         *
+         * @return lines
+         */
+        public List<String> getLines() {
+            return lines;
+        }
+
+        /**
+         * Get the offset to continue the next read from
+         *
+         * @return next offset
+         */
+        public long getNextOffset() {
+            return nextOffset;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.portalcontroller.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Log file scanner test
+ *
+ * @since 2025/11/14
+ */
+class LogFileScannerTest {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testScan() throws IOException {
+        Path file = write("first\r\nsecond\n\nlast");
+        List<String> lines = new ArrayList<>();
+        long size = LogFileScanner.scan(file.toString(), 0, lines::add);
+        Assertions.assertEquals(List.of("first", "second", "", "last"), lines);
+        Assertions.assertEquals(Files.size(file), size);
+    }
+
+    @Test
+    void testScan_emptyFile() throws IOException {
+        List<String> lines = new ArrayList<>();
+        Assertions.assertEquals(0, LogFileScanner.scan(write("").toString(), 0, lines::add));
+        Assertions.assertTrue(lines.isEmpty());
+    }
+
+    @Test
+    void testScan_lineAcrossBufferBoundary() throws IOException {
+        String filler = "x".repeat(BUFFER_SIZE - 10);
+        String longLine = "ERROR 迁移失败 " + "数据".repeat(BUFFER_SIZE);
+        for (int padding = 0; padding < 3; padding++) {
+            String line = "a".repeat(padding) + longLine;
+            List<String> lines = new ArrayList<>();
+            LogFileScanner.scan(write(filler + "\n" + line + "\nend\n").toString(), 0, lines::add);
+            Assertions.assertEquals(List.of(filler, line, "end"), lines);
+        }
+    }
+
+    @Test
+    void testScan_matchAcrossBufferBoundary() throws IOException {
+        MultiPatternMatcher matcher = MultiPatternMatcher.of(List.of("NullPointerException", "迁移失败"));
+        for (int padding = 0; padding < 24; padding++) {
+            String filler = "x".repeat(BUFFER_SIZE - 10 - padding);
+            String content = filler + "\ncaused by java.lang.NullPointerException 迁移失败\n";
+            List<String> matches = new ArrayList<>();
+            LogFileScanner.scan(write(content).toString(), 0, line -> {
+                matches.addAll(matcher.findAll(line));
+                return true;
+            });
+            Assertions.assertEquals(List.of("NullPointerException", "迁移失败"), matches);
+        }
+    }
+
+    @Test
+    void testScan_stopByHandler() throws IOException {
+        List<String> lines = new ArrayList<>();
+        LogFileScanner.scan(write("first\nsecond\nthird\n").toString(), 0, line -> {
+            lines.add(line);
+            return !"second".equals(line);
+        });
+        Assertions.assertEquals(List.of("first", "second"), lines);
+    }
+
+    @Test
+    void testScan_resumeFromReturnedPosition() throws IOException {
+        Path file = write("first\nsecond\n");
+        List<String> lines = new ArrayList<>();
+        long position = LogFileScanner.scan(file.toString(), 0, lines::add);
+        Assertions.assertEquals(List.of("first", "second"), lines);
+
+        Files.write(file, "third\n第四行\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        lines.clear();
+        position = LogFileScanner.scan(file.toString(), position, lines::add);
+        Assertions.assertEquals(List.of("third", "第四行"), lines);
+
+        lines.clear();
+        Assertions.assertEquals(position, LogFileScanner.scan(file.toString(), position, lines::add));
+        Assertions.assertTrue(lines.isEmpty());
+    }
+
+    @Test
+    void testScan_positionBeyondEndOfTruncatedFile() throws IOException {
+        Path file = write("a long line before truncation\n");
+        long position = LogFileScanner.scan(file.toString(), 0, line -> true);
+
+        Files.write(file, "new\n".getBytes(StandardCharsets.UTF_8));
+        List<String> lines = new ArrayList<>();
+        LogFileScanner.scan(file.toString(), position, lines::add);
+        Assertions.assertEquals(List.of("new"), lines);
+    }
+
+    @Test
+    void testGetTailLog_resumeFromSeekPosition() throws IOException {
+        Path file = write("INFO start\nERROR first\n");
+        List<String> targetMsg = List.of("ERROR");
+        String separator = System.lineSeparator();
+        Assertions.assertEquals("ERROR first" + separator, LogViewUtils.getTailLog(file.toString(), targetMsg, 0));
+
+        Files.write(file, "INFO next\nERROR second\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        Assertions.assertEquals("ERROR second" + separator, LogViewUtils.getTailLog(file.toString(), targetMsg, 0));
+        Assertions.assertEquals("", LogViewUtils.getTailLog(file.toString(), targetMsg, 0));
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = Files.createTempFile(tempDir, "scanner", ".log");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) Huawei Technologies Co., Ltd. 2025-2025. All rights reserved.
+ */
+
+package org.opengauss.portalcontroller.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Multi pattern matcher test
+ *
+ * @since 2025/11/14
+ */
+class MultiPatternMatcherTest {
+    @Test
+    void testFindAll_overlappingPatterns() {
+        MultiPatternMatcher matcher = MultiPatternMatcher.of(List.of("he", "she", "his", "hers"));
+        Assertions.assertEquals(List.of("he", "she", "hers"), matcher.findAll("ushers"));
+    }
+
+    @Test
+    void testFindAll_patternInsidePattern() {
+        MultiPatternMatcher matcher = MultiPatternMatcher.of(List.of("Exception", "NullPointerException", "Null"));
+        Assertions.assertEquals(List.of("Exception", "NullPointerException", "Null"),
+                matcher.findAll("java.lang.NullPointerException: value"));
+    }
+
+    @Test
+    void testFindAll_followsFailureLinks() {
+        MultiPatternMatcher matcher = MultiPatternMatcher.of(List.of("abcd", "bce"));
+        Assertions.assertEquals(List.of("bce"), matcher.findAll("abce"));
+    }
+
+    @Test
+    void testFindAll_orderOfPatternList() {
+        MultiPatternMatcher matcher = MultiPatternMatcher.of(List.of("error", "warn"));
+        Assertions.assertEquals(List.of("error", "warn"), matcher.findAll("warn then error"));
+    }
+
+    @Test
+    void testFindAll_nonAsciiPatterns() {
+        MultiPatternMatcher matcher = MultiPatternMatcher.of(List.of("迁移失败", "失败", "成功"));
+        Assertions.assertEquals(List.of("迁移失败", "失败"), matcher.findAll("全量迁移失败, 请检查"));
+        Assertions.assertEquals(List.of("失败"), matcher.findAll("迁移 失败"));
+    }
+
+    @Test
+    void testFindAll_mixedAsciiAndNonAscii() {
+        MultiPatternMatcher matcher = MultiPatternMatcher.of(List.of("表t1", "t1失败"));
+        Assertions.assertEquals(List.of("表t1", "t1失败"), matcher.findAll("表t1失败"));
+    }
+
+    @Test
+    void testFindAll_noMatch() {
+        MultiPatternMatcher matcher = MultiPatternMatcher.of(List.of("error", "错误"));
+        Assertions.assertTrue(matcher.findAll("everything is fine 正常").isEmpty());
+    }
+
+    @Test
+    void testMatchesAny() {
+        MultiPatternMatcher matcher = MultiPatternMatcher.of(List.of("Exception", "ERROR"));
+        Assertions.assertTrue(matcher.matchesAny("2025-11-14 ERROR failed"));
+        Assertions.assertTrue(matcher.matchesAny("SQLException"));
+        Assertions.assertFalse(matcher.matchesAny("error in lower case"));
+        Assertions.assertFalse(matcher.matchesAny(""));
+    }
+
+    @Test
+    void testMatchesAny_emptyPatternList() {
+        Assertions.assertFalse(MultiPatternMatcher.of(List.of()).matchesAny("any text"));
+    }
+
+    @Test
+    void testMatchesAny_emptyPattern() {
+        MultiPatternMatcher matcher = MultiPatternMatcher.of(List.of(""));
+        Assertions.assertTrue(matcher.matchesAny(""));
+        Assertions.assertEquals(List.of(""), matcher.findAll("text"));
+    }
+
+    @Test
+    void testOf_cachedByPatternList() {
+        MultiPatternMatcher matcher = MultiPatternMatcher.of(List.of("cached", "matcher"));
+        Assertions.assertSame(matcher, MultiPatternMatcher.of(List.of("cached", "matcher")));
+        Assertions.assertNotSame(matcher, MultiPatternMatcher.of(List.of("matcher", "cached")));
+    }
+}